@@ -0,0 +1,132 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)CapitalizerActionBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.actions.CapitalizerAction;
+import net.jmp.demo.forkjoinpool.actions.CapitalizerCompleter;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the capitalizer action and
+ * completer against a sequential loop. All variants
+ * first restore the input from a pristine
+ * copy so that every invocation does the
+ * same work.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CapitalizerActionBenchmark {
+    /** The number of characters to capitalize. */
+    @Param({"445", "100000", "10000000"})
+    public int size;
+
+    /** The workload threshold passed to the action and completer. */
+    @Param({"32", "1024", "16384"})
+    public int threshold;
+
+    /** The untouched input. */
+    private char[] source;
+
+    /** The array capitalized in place. */
+    private char[] characters;
+
+    /**
+     * The default constructor.
+     */
+    public CapitalizerActionBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.source = Inputs.text(this.size);
+        this.characters = new char[this.size];
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  char[]
+     */
+    @Benchmark
+    public char[] sequential() {
+        System.arraycopy(this.source, 0, this.characters, 0, this.size);
+
+        for (int i = 0; i < this.characters.length; i++) {
+            this.characters[i] = Character.toUpperCase(this.characters[i]);
+        }
+
+        return this.characters;
+    }
+
+    /**
+     * The fork-join capitalizer action.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  char[]
+     */
+    @Benchmark
+    public char[] capitalizerAction(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.characters, 0, this.size);
+
+        poolState.pool.invoke(new CapitalizerAction(this.characters, 0, this.characters.length, this.threshold));
+
+        return this.characters;
+    }
+
+    /**
+     * The capitalizer counted completer,
+     * which forks without joining.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  char[]
+     */
+    @Benchmark
+    public char[] capitalizerCompleter(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.characters, 0, this.size);
+
+        poolState.pool.invoke(new CapitalizerCompleter(this.characters, 0, this.characters.length, GranularityPolicy.fixed(this.threshold)));
+
+        return this.characters;
+    }
+}
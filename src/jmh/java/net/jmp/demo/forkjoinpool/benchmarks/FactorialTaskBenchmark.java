@@ -0,0 +1,146 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)FactorialTaskBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.tasks.Combinatorics;
+import net.jmp.demo.forkjoinpool.tasks.FactorialEngine;
+import net.jmp.demo.forkjoinpool.tasks.FactorialTask;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the factorial task
+ * against a sequential product.
+ * The combinatorics benchmark cycles
+ * through 64 overlapping factorials
+ * so that it measures a warm cache.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactorialTaskBenchmark {
+    /** The number whose factorial is computed. */
+    @Param({"16", "1000", "20000", "200000"})
+    public int n;
+
+    /** The combinatorics service. */
+    private Combinatorics combinatorics;
+
+    /** The request counter of the combinatorics benchmark. */
+    private int request;
+
+    /**
+     * The default constructor.
+     */
+    public FactorialTaskBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the combinatorics service.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     */
+    @Setup(Level.Trial)
+    public void setUp(final PoolState poolState) {
+        this.combinatorics = new Combinatorics(poolState.pool);
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  java.math.BigInteger
+     */
+    @Benchmark
+    public BigInteger sequential() {
+        BigInteger result = BigInteger.ONE;
+
+        for (int i = 2; i <= this.n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * The fork-join factorial task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  java.math.BigInteger
+     */
+    @Benchmark
+    public BigInteger factorialTask(final PoolState poolState) {
+        return poolState.pool.invoke(new FactorialTask(1, this.n));
+    }
+
+    /**
+     * The factorial engine using a
+     * balanced product tree.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  java.math.BigInteger
+     */
+    @Benchmark
+    public BigInteger productTree(final PoolState poolState) {
+        return new FactorialEngine(poolState.pool, FactorialEngine.Algorithm.PRODUCT_TREE).factorial(this.n);
+    }
+
+    /**
+     * The factorial engine using
+     * prime factorization.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  java.math.BigInteger
+     */
+    @Benchmark
+    public BigInteger primeFactorization(final PoolState poolState) {
+        return new FactorialEngine(poolState.pool, FactorialEngine.Algorithm.PRIME_FACTORIZATION).factorial(this.n);
+    }
+
+    /**
+     * The combinatorics service, which
+     * answers repeated requests from its
+     * cache of factorials.
+     *
+     * @return  java.math.BigInteger
+     */
+    @Benchmark
+    public BigInteger combinatorics() {
+        return this.combinatorics.factorial(this.n + (this.request++ & 63));
+    }
+}
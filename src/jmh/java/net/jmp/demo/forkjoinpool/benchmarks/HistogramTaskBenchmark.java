@@ -0,0 +1,122 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)HistogramTaskBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.Buckets;
+import net.jmp.demo.forkjoinpool.tasks.DoubleHistogram;
+import net.jmp.demo.forkjoinpool.tasks.HistogramTask;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the histogram task with fixed
+ * width and explicit boundary buckets against
+ * a sequential pass over the same buckets.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistogramTaskBenchmark {
+    /** The number of doubles to count. */
+    @Param({"100000", "10000000"})
+    public int size;
+
+    /** The kind of buckets, fixed or boundaries. */
+    @Param({"fixed", "boundaries"})
+    public String buckets;
+
+    /** The doubles to count. */
+    private double[] doubles;
+
+    /** The buckets to count into. */
+    private Buckets layout;
+
+    /**
+     * The default constructor.
+     */
+    public HistogramTaskBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the inputs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.doubles = Inputs.doubles(this.size);
+
+        if ("fixed".equals(this.buckets)) {
+            this.layout = Buckets.fixedWidth(0, this.size, 256);
+        } else {
+            final double[] boundaries = new double[257];
+
+            for (int i = 0; i < boundaries.length; i++) {
+                boundaries[i] = (double) this.size * i * i / (256 * 256);
+            }
+
+            this.layout = Buckets.boundaries(boundaries);
+        }
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.DoubleHistogram
+     */
+    @Benchmark
+    public DoubleHistogram sequential() {
+        final DoubleHistogram histogram = new DoubleHistogram(this.layout);
+
+        histogram.addAll(this.doubles, 0, this.size);
+
+        return histogram;
+    }
+
+    /**
+     * The histogram task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return              net.jmp.demo.forkjoinpool.tasks.DoubleHistogram
+     */
+    @Benchmark
+    public DoubleHistogram histogramTask(final PoolState poolState) {
+        final GranularityPolicy policy = GranularityPolicy.proportional(this.size, poolState.pool);
+
+        return poolState.pool.invoke(new HistogramTask(this.doubles, 0, this.size, this.layout, policy));
+    }
+}
@@ -0,0 +1,87 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)Inputs.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Input generators shared by the benchmarks.
+ */
+final class Inputs {
+    /** The text that is repeated to build character inputs. */
+    private static final String LOREM_IPSUM = "Lorem ipsum dolor sit amet, consectetur adipiscing " +
+            "elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. " +
+            "Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut " +
+            "aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in " +
+            "voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint " +
+            "occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim " +
+            "id est laborum. ";
+
+    /**
+     * The default constructor.
+     */
+    private Inputs() {
+        super();
+    }
+
+    /**
+     * Return an array of characters of the
+     * given size filled with repeated text.
+     *
+     * @param   size    int
+     * @return          char[]
+     */
+    static char[] text(final int size) {
+        final char[] characters = new char[size];
+
+        for (int i = 0; i < size; i++) {
+            characters[i] = LOREM_IPSUM.charAt(i % LOREM_IPSUM.length());
+        }
+
+        return characters;
+    }
+
+    /**
+     * Return an array of doubles of the
+     * given size where each element is
+     * equal to its index.
+     *
+     * @param   size    int
+     * @return          double[]
+     */
+    static double[] doubles(final int size) {
+        final double[] doubles = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            doubles[i] = i;
+        }
+
+        return doubles;
+    }
+}
@@ -0,0 +1,175 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)LetterDistributionTaskBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.LetterDistributionTask;
+import net.jmp.demo.forkjoinpool.tasks.LetterHistogram;
+import net.jmp.demo.forkjoinpool.tasks.MappedLetterDistributionTask;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the letter distribution
+ * tasks against a sequential loop.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LetterDistributionTaskBenchmark {
+    /** The number of characters to count. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /** The characters to count. */
+    private char[] characters;
+
+    /** The file holding the characters as UTF-8. */
+    private Path file;
+
+    /** The file mapped into memory. */
+    private ByteBuffer mapped;
+
+    /**
+     * The default constructor.
+     */
+    public LetterDistributionTaskBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the inputs.
+     *
+     * @throws  java.io.IOException When the file cannot be written or mapped
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.characters = Inputs.text(this.size);
+        this.file = Files.createTempFile("letters", ".txt");
+
+        Files.writeString(this.file, new String(this.characters), StandardCharsets.UTF_8);
+
+        try (final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Remove the file.
+     *
+     * @throws  java.io.IOException When the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.mapped = null;
+
+        Files.deleteIfExists(this.file);
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  int[]
+     */
+    @Benchmark
+    public int[] sequential() {
+        final int[] counts = new int[26];
+
+        for (final char character : this.characters) {
+            if (Character.isLetter(character)) {
+                final int index = Character.toLowerCase(character) - 'a';
+
+                if (index >= 0 && index < counts.length) {
+                    counts[index]++;
+                }
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * The fork-join letter distribution task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     */
+    @Benchmark
+    public LetterHistogram letterDistributionTask(final PoolState poolState) {
+        return poolState.pool.invoke(new LetterDistributionTask(this.characters));
+    }
+
+    /**
+     * The letter distribution task
+     * over the mapped file.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     */
+    @Benchmark
+    public LetterHistogram mappedLetterDistributionTask(final PoolState poolState) {
+        return poolState.pool.invoke(new MappedLetterDistributionTask(this.mapped,
+                0,
+                this.mapped.limit(),
+                GranularityPolicy.fixed(MappedLetterDistributionTask.DEFAULT_WORKLOAD_THRESHOLD)));
+    }
+
+    /**
+     * Map and count the file, including
+     * the cost of opening and mapping it.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     * @throws  java.io.IOException When the file cannot be mapped
+     */
+    @Benchmark
+    public LetterHistogram countFile(final PoolState poolState) throws IOException {
+        return MappedLetterDistributionTask.countFile(this.file, poolState.pool);
+    }
+}
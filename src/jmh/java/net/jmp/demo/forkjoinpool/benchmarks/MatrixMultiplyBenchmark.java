@@ -0,0 +1,138 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)MatrixMultiplyBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.actions.MatrixKernel;
+import net.jmp.demo.forkjoinpool.actions.MatrixMultiplyAction;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the matrix multiply action against
+ * a naive triple loop on square matrices. Every
+ * variant first clears the product. The naive loop
+ * takes minutes at 4096, so run that size for the
+ * action alone, e.g. with -p size=4096 and
+ * -Pjmh.includes=MatrixMultiplyBenchmark.matrixMultiplyAction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatrixMultiplyBenchmark {
+    /** The number of rows and columns of each matrix. */
+    @Param({"256", "1024"})
+    public int size;
+
+    /** The leaf kernel of the action. */
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    /** The left matrix. */
+    private double[] a;
+
+    /** The right matrix. */
+    private double[] b;
+
+    /** The product. */
+    private double[] c;
+
+    /**
+     * The default constructor.
+     */
+    public MatrixMultiplyBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the inputs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(17);
+
+        this.a = random.doubles((long) this.size * this.size, -1, 1).toArray();
+        this.b = random.doubles((long) this.size * this.size, -1, 1).toArray();
+        this.c = new double[this.size * this.size];
+    }
+
+    /**
+     * The naive triple loop baseline.
+     *
+     * @return  double[]
+     */
+    @Benchmark
+    public double[] naive() {
+        final int n = this.size;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0;
+
+                for (int p = 0; p < n; p++) {
+                    sum += this.a[i * n + p] * this.b[p * n + j];
+                }
+
+                this.c[i * n + j] = sum;
+            }
+        }
+
+        return this.c;
+    }
+
+    /**
+     * The cache-oblivious matrix multiply action.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  double[]
+     */
+    @Benchmark
+    public double[] matrixMultiplyAction(final PoolState poolState) {
+        Arrays.fill(this.c, 0);
+
+        final long multiplyAdds = (long) this.size * this.size * this.size;
+        final GranularityPolicy policy = GranularityPolicy.proportional(multiplyAdds, poolState.parallelism, 4);
+
+        poolState.pool.invoke(new MatrixMultiplyAction(this.a, this.b, this.c, this.size, this.size, this.size,
+                policy, MatrixKernel.forName(this.kernel)));
+
+        return this.c;
+    }
+}
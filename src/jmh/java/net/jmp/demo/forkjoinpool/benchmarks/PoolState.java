@@ -0,0 +1,74 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)PoolState.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * The benchmark state that owns a dedicated
+ * fork-join pool for each trial. Using a pool
+ * per trial keeps the parallelism parameter
+ * honest; the common pool is sized once per JVM.
+ */
+@State(Scope.Benchmark)
+public class PoolState {
+    /** The parallelism of the pool. */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    /** The fork-join pool. */
+    public ForkJoinPool pool;
+
+    /**
+     * The default constructor.
+     */
+    public PoolState() {
+        super();
+    }
+
+    /**
+     * Create the pool.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    /**
+     * Shut the pool down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+}
@@ -0,0 +1,136 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)PrefixSumTaskBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.PrefixSumTask;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the prefix sum task against
+ * a sequential loop and Arrays.parallelPrefix,
+ * which always runs on the common pool. Every
+ * variant first restores the input from a
+ * pristine copy so that every invocation
+ * does the same work.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrefixSumTaskBenchmark {
+    /** The number of longs to scan. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /** The granularity policy specification of the prefix sum task. */
+    @Param({"fixed:8192", "proportional:4"})
+    public String granularity;
+
+    /** The untouched input. */
+    private long[] source;
+
+    /** The array scanned in place. */
+    private long[] longs;
+
+    /**
+     * The default constructor.
+     */
+    public PrefixSumTaskBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.source = new long[this.size];
+        this.longs = new long[this.size];
+
+        Arrays.setAll(this.source, i -> i % 1_000);
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  long[]
+     */
+    @Benchmark
+    public long[] sequential() {
+        System.arraycopy(this.source, 0, this.longs, 0, this.size);
+
+        for (int i = 1; i < this.longs.length; i++) {
+            this.longs[i] += this.longs[i - 1];
+        }
+
+        return this.longs;
+    }
+
+    /**
+     * The JDK's parallel prefix on the common pool.
+     *
+     * @return  long[]
+     */
+    @Benchmark
+    public long[] parallelPrefix() {
+        System.arraycopy(this.source, 0, this.longs, 0, this.size);
+
+        Arrays.parallelPrefix(this.longs, Long::sum);
+
+        return this.longs;
+    }
+
+    /**
+     * The two-pass prefix sum task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  long[]
+     */
+    @Benchmark
+    public long[] prefixSumTask(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.longs, 0, this.size);
+
+        final GranularityPolicy policy = GranularityPolicy.parse(this.granularity, this.size, poolState.parallelism);
+
+        poolState.pool.invoke(new PrefixSumTask(this.longs, 0, this.size, PrefixSumTask.Mode.INCLUSIVE, policy));
+
+        return this.longs;
+    }
+}
@@ -0,0 +1,155 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)SortBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.actions.MergeSortAction;
+import net.jmp.demo.forkjoinpool.actions.RadixSortAction;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the merge sort and radix sort
+ * actions against Arrays.sort and Arrays.parallelSort,
+ * which always runs on the common pool. Every
+ * variant first restores the input from a pristine
+ * copy, and the sort actions reuse one scratch
+ * buffer across invocations.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    /** The number of ints to sort. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /** The granularity policy specification of the sort actions. */
+    @Param({"fixed:8192", "proportional:4"})
+    public String granularity;
+
+    /** The untouched input. */
+    private int[] source;
+
+    /** The array sorted in place. */
+    private int[] ints;
+
+    /** The scratch buffer of the sort actions. */
+    private int[] buffer;
+
+    /**
+     * The default constructor.
+     */
+    public SortBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.source = new SplittableRandom(17).ints(this.size).toArray();
+        this.ints = new int[this.size];
+        this.buffer = new int[this.size];
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  int[]
+     */
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(this.source, 0, this.ints, 0, this.size);
+
+        Arrays.sort(this.ints);
+
+        return this.ints;
+    }
+
+    /**
+     * The JDK's parallel sort on the common pool.
+     *
+     * @return  int[]
+     */
+    @Benchmark
+    public int[] parallelSort() {
+        System.arraycopy(this.source, 0, this.ints, 0, this.size);
+
+        Arrays.parallelSort(this.ints);
+
+        return this.ints;
+    }
+
+    /**
+     * The merge sort action.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  int[]
+     */
+    @Benchmark
+    public int[] mergeSortAction(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.ints, 0, this.size);
+
+        final GranularityPolicy policy = GranularityPolicy.parse(this.granularity, this.size, poolState.parallelism);
+
+        poolState.pool.invoke(new MergeSortAction(this.ints, 0, this.size, this.buffer, policy));
+
+        return this.ints;
+    }
+
+    /**
+     * The radix sort action.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  int[]
+     */
+    @Benchmark
+    public int[] radixSortAction(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.ints, 0, this.size);
+
+        final GranularityPolicy policy = GranularityPolicy.parse(this.granularity, this.size, poolState.parallelism);
+
+        poolState.pool.invoke(new RadixSortAction(this.ints, 0, this.size, this.buffer, policy));
+
+        return this.ints;
+    }
+}
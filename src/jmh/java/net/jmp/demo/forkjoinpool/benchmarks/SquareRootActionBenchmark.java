@@ -0,0 +1,206 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)SquareRootActionBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.actions.SegmentSquareRootAction;
+import net.jmp.demo.forkjoinpool.actions.SquareRootAction;
+import net.jmp.demo.forkjoinpool.actions.SquareRootCompleter;
+import net.jmp.demo.forkjoinpool.actions.SquareRootKernel;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the square root action and
+ * completer against a sequential loop. All variants
+ * first restore the input from a pristine
+ * copy so that every invocation does the
+ * same work.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SquareRootActionBenchmark {
+    /** The number of doubles to transform. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * The workload threshold of the action and
+     * completer; small thresholds give very wide,
+     * shallow task trees.
+     */
+    @Param({"64", "1000"})
+    public int threshold;
+
+    /** The name of the leaf kernel. */
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    /** The untouched input. */
+    private double[] source;
+
+    /** The array transformed in place. */
+    private double[] data;
+
+    /** The leaf kernel. */
+    private SquareRootKernel squareRootKernel;
+
+    /** The arena that owns the off-heap data. */
+    private Arena arena;
+
+    /** The off-heap data transformed in place. */
+    private MemorySegment segment;
+
+    /**
+     * The default constructor.
+     */
+    public SquareRootActionBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the inputs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.source = Inputs.doubles(this.size);
+        this.data = new double[this.size];
+        this.squareRootKernel = SquareRootKernel.forName(this.kernel);
+        this.arena = Arena.ofShared();
+        this.segment = this.arena.allocate(MemoryLayout.sequenceLayout(this.size, ValueLayout.JAVA_DOUBLE));
+    }
+
+    /**
+     * Free the off-heap data.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.arena.close();
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  double[]
+     */
+    @Benchmark
+    public double[] sequential() {
+        System.arraycopy(this.source, 0, this.data, 0, this.size);
+
+        for (int i = 0; i < this.data.length; i++) {
+            this.data[i] = Math.sqrt(this.data[i]);
+        }
+
+        return this.data;
+    }
+
+    /**
+     * The fork-join square root action.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  double[]
+     */
+    @Benchmark
+    public double[] squareRootAction(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.data, 0, this.size);
+
+        poolState.pool.invoke(new SquareRootAction(this.data,
+                0,
+                this.data.length,
+                GranularityPolicy.fixed(this.threshold),
+                this.squareRootKernel));
+
+        return this.data;
+    }
+
+    /**
+     * The square root counted completer,
+     * which forks without joining.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  double[]
+     */
+    @Benchmark
+    public double[] squareRootCompleter(final PoolState poolState) {
+        System.arraycopy(this.source, 0, this.data, 0, this.size);
+
+        poolState.pool.invoke(new SquareRootCompleter(this.data,
+                0,
+                this.data.length,
+                GranularityPolicy.fixed(this.threshold),
+                this.squareRootKernel));
+
+        return this.data;
+    }
+
+    /**
+     * The leaf kernel on its own,
+     * i.e. the per-core throughput.
+     *
+     * @return  double[]
+     */
+    @Benchmark
+    public double[] sequentialKernel() {
+        System.arraycopy(this.source, 0, this.data, 0, this.size);
+
+        this.squareRootKernel.apply(this.data, 0, this.data.length);
+
+        return this.data;
+    }
+
+    /**
+     * The square root action over off-heap
+     * data. The leaves do not use the kernel.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  java.lang.foreign.MemorySegment
+     */
+    @Benchmark
+    public MemorySegment segmentSquareRootAction(final PoolState poolState) {
+        MemorySegment.copy(MemorySegment.ofArray(this.source), 0, this.segment, 0, this.segment.byteSize());
+
+        poolState.pool.invoke(new SegmentSquareRootAction(this.segment));
+
+        return this.segment;
+    }
+}
@@ -0,0 +1,189 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)SumTaskBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+import net.jmp.demo.forkjoinpool.tasks.RangeSumTask;
+import net.jmp.demo.forkjoinpool.tasks.SegmentSumTask;
+import net.jmp.demo.forkjoinpool.tasks.SumTask;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the sum tasks
+ * against a sequential loop.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SumTaskBenchmark {
+    /** The number of integers to sum. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /** The granularity policy specification of the range sum task. */
+    @Param({"fixed:8192", "proportional:4", "surplus:3"})
+    public String granularity;
+
+    /** The integers to sum. */
+    private int[] integers;
+
+    /** The arena that owns the off-heap copy of the integers. */
+    private Arena arena;
+
+    /** The off-heap copy of the integers. */
+    private MemorySegment segment;
+
+    /**
+     * The default constructor.
+     */
+    public SumTaskBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the inputs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.integers = new int[this.size];
+
+        Arrays.setAll(this.integers, i -> i % 1_000);
+
+        this.arena = Arena.ofShared();
+        this.segment = this.arena.allocate(MemoryLayout.sequenceLayout(this.size, ValueLayout.JAVA_INT));
+
+        MemorySegment.copy(MemorySegment.ofArray(this.integers), 0, this.segment, 0, this.segment.byteSize());
+    }
+
+    /**
+     * Free the off-heap copy.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.arena.close();
+    }
+
+    /**
+     * The sequential baseline.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long sequential() {
+        long result = 0;
+
+        for (final int integer : this.integers) {
+            result += integer;
+        }
+
+        return result;
+    }
+
+    /**
+     * The fork-join sum task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  int
+     */
+    @Benchmark
+    public int sumTask(final PoolState poolState) {
+        return poolState.pool.invoke(new SumTask(this.integers));
+    }
+
+    /**
+     * The zero-copy range sum task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  long
+     */
+    @Benchmark
+    public long rangeSumTask(final PoolState poolState) {
+        final GranularityPolicy policy = GranularityPolicy.parse(this.granularity, this.size, poolState.parallelism);
+        final RangeSumTask task = new RangeSumTask(this.integers, 0, this.size, policy);
+
+        poolState.pool.invoke(task);
+
+        return task.getSum();
+    }
+
+    /**
+     * The off-heap segment sum task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  long
+     */
+    @Benchmark
+    public long segmentSumTask(final PoolState poolState) {
+        final GranularityPolicy policy = GranularityPolicy.parse(this.granularity, this.size, poolState.parallelism);
+
+        return poolState.pool.invoke(new SegmentSumTask(this.segment, policy));
+    }
+
+    /**
+     * The sum written with the
+     * parallel reduce framework.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  long
+     */
+    @Benchmark
+    public long parallelReduce(final PoolState poolState) {
+        final GranularityPolicy policy = GranularityPolicy.parse(this.granularity, this.size, poolState.parallelism);
+        final int[] values = this.integers;
+
+        return poolState.pool.invoke(new ParallelReduce.OfLong(0, this.size, (start, end) -> {
+            final int to = (int) end;
+
+            long sum = 0;
+
+            for (int i = (int) start; i < to; i++) {
+                sum += values[i];
+            }
+
+            return sum;
+        }, Long::sum, policy));
+    }
+}
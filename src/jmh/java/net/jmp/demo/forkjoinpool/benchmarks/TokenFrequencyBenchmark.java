@@ -0,0 +1,125 @@
+package net.jmp.demo.forkjoinpool.benchmarks;
+
+/*
+ * (#)TokenFrequencyBenchmark.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.regex.Pattern;
+
+import net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask;
+import net.jmp.demo.forkjoinpool.tasks.TokenHistogram;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the word and n-gram frequency
+ * task against a parallel stream that splits the
+ * text into strings and counts them in a shared
+ * concurrent map, as is commonly done.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenFrequencyBenchmark {
+    /** The pattern that separates words. */
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    /** The number of characters to count. */
+    @Param({"100000", "10000000"})
+    public int size;
+
+    /** The characters to count. */
+    private char[] characters;
+
+    /** The characters as a string. */
+    private String text;
+
+    /**
+     * The default constructor.
+     */
+    public TokenFrequencyBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the inputs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.characters = Inputs.text(this.size);
+        this.text = new String(this.characters);
+    }
+
+    /**
+     * The shared concurrent map baseline.
+     *
+     * @return  java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     */
+    @Benchmark
+    public Map<String, Long> concurrentMap() {
+        final Map<String, Long> counts = new ConcurrentHashMap<>();
+
+        SEPARATORS.splitAsStream(this.text)
+                .parallel()
+                .filter(word -> !word.isEmpty())
+                .forEach(word -> counts.merge(word.toLowerCase(), 1L, Long::sum));
+
+        return counts;
+    }
+
+    /**
+     * The word frequency task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     */
+    @Benchmark
+    public TokenHistogram words(final PoolState poolState) {
+        return poolState.pool.invoke(TokenFrequencyTask.words(this.characters));
+    }
+
+    /**
+     * The trigram frequency task.
+     *
+     * @param   poolState   net.jmp.demo.forkjoinpool.benchmarks.PoolState
+     * @return  net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     */
+    @Benchmark
+    public TokenHistogram trigrams(final PoolState poolState) {
+        return poolState.pool.invoke(TokenFrequencyTask.ngrams(this.characters, 3));
+    }
+}
@@ -1,7 +1,13 @@
 module forkjoinpool.demo.main {
     requires java.base;
+    requires java.management;
+    requires jdk.management;
+
+    requires static jdk.incubator.vector;
 
     requires com.google.common;
     requires logging.utilities;
     requires org.slf4j;
+
+    exports net.jmp.demo.forkjoinpool.metrics to java.management;
 }
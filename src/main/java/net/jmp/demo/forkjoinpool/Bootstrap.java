@@ -35,11 +35,19 @@ package net.jmp.demo.forkjoinpool;
  */
 public final class Bootstrap {
     /**
-     * The main method.
+     * The main method. It exits with
+     * the status of the run when that
+     * is not zero.
      *
      * @param   args    java.lang.String[]
      */
     public static void main(final String[] args) {
-        new Main(args).run();
+        final Main main = new Main(args);
+
+        main.run();
+
+        if (main.getExitStatus() != 0) {
+            System.exit(main.getExitStatus());
+        }
     }
 }
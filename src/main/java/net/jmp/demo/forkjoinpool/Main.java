@@ -1,13 +1,14 @@
 package net.jmp.demo.forkjoinpool;
 
 /*
+ * (#)Main.java 0.5.0   10/17/2026
  * (#)Main.java 0.4.0   09/24/2024
  * (#)Main.java 0.3.0   09/14/2024
  * (#)Main.java 0.2.0   09/14/2024
  * (#)Main.java 0.1.0   09/14/2024
  *
  * @author   Jonathan Parker
- * @version  0.4.0
+ * @version  0.5.0
  * @since    0.1.0
  *
  * MIT License
@@ -35,10 +36,16 @@ package net.jmp.demo.forkjoinpool;
 
 import java.util.Objects;
 
+import java.util.concurrent.TimeUnit;
+
 import java.util.stream.Stream;
 
 import net.jmp.demo.forkjoinpool.demos.*;
 
+import net.jmp.demo.forkjoinpool.metrics.MetricsExporter;
+
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -51,9 +58,18 @@ final class Main implements Runnable {
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
+    /** The period of the metrics log lines in seconds. */
+    private static final long METRICS_PERIOD_SECONDS = Long.getLong("net.jmp.demo.forkjoinpool.metrics.period", 10);
+
+    /** The exit status after a command line that cannot be parsed. */
+    static final int USAGE_EXIT_STATUS = 2;
+
     /** The command line arguments. */
     private final String[] arguments;
 
+    /** The exit status of the run. */
+    private int exitStatus;
+
     /**
      * A constructor that takes the
      * command line arguments from
@@ -80,7 +96,58 @@ final class Main implements Runnable {
             this.logger.debug("{} {}", Name.NAME_STRING, Version.VERSION_STRING);
         }
 
-        this.runDemos();
+        try (final MetricsExporter metricsExporter = new MetricsExporter();
+             final PoolProvider poolProvider = new PoolProvider(metricsExporter::register)) {
+            metricsExporter.start(METRICS_PERIOD_SECONDS, TimeUnit.SECONDS);
+
+            if (this.arguments.length == 0) {
+                this.runDemos(poolProvider);
+            } else {
+                this.runWorkload(poolProvider);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Return the exit status of the run,
+     * which is zero unless the command
+     * line could not be parsed.
+     *
+     * @return  int
+     */
+    int getExitStatus() {
+        return this.exitStatus;
+    }
+
+    /**
+     * Method that runs the workload
+     * chosen on the command line.
+     *
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    private void runWorkload(final PoolProvider poolProvider) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        RunnerOptions options = null;
+
+        try {
+            options = RunnerOptions.parse(this.arguments);
+        } catch (final IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            System.err.println(RunnerOptions.USAGE);
+
+            this.exitStatus = USAGE_EXIT_STATUS;
+        }
+
+        if (options != null) {
+            new WorkloadRunner(options, poolProvider).run(System.out);
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -89,15 +156,18 @@ final class Main implements Runnable {
 
     /**
      * Method that runs the demo classes.
+     *
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
      */
-    private void runDemos() {
+    private void runDemos(final PoolProvider poolProvider) {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
         Stream<Demo> demos = Stream.of(
-                new RecursiveActionDemo(),
-                new RecursiveTaskDemo()
+                new RecursiveActionDemo(poolProvider),
+                new RecursiveTaskDemo(poolProvider),
+                new BackendDemo(poolProvider)
         );
 
         demos.forEach(Demo::demo);
@@ -0,0 +1,289 @@
+package net.jmp.demo.forkjoinpool;
+
+/*
+ * (#)RunnerOptions.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+/**
+ * The command line options of the workload
+ * runner. Options are given as --name value
+ * or --name=value; all but the workload have
+ * defaults. The workload and granularity
+ * policy are validated when parsed.
+ */
+final class RunnerOptions {
+    /** The usage message. */
+    static final String USAGE = """
+            Usage: --workload <name> [--size <n>] [--parallelism <n>] [--granularity <policy>]
+                                     [--warmups <n>] [--iterations <n>]
+              workloads:   sum, reduce, scan, sort, radix, letters, words,
+                           sqrt, histogram, capitalize, factorial
+              size:        10_000_000, or 20_000 for factorial
+              granularity: fixed:<n>, proportional[:k] or surplus[:n]""";
+
+    /** The default number of elements of workloads without their own default. */
+    static final int DEFAULT_SIZE = 10_000_000;
+
+    /** The default granularity policy. */
+    static final String DEFAULT_GRANULARITY = "proportional:4";
+
+    /** The default number of warmup runs. */
+    static final int DEFAULT_WARMUPS = 3;
+
+    /** The default number of measured runs. */
+    static final int DEFAULT_ITERATIONS = 10;
+
+    /** The name of the workload. */
+    private final String workload;
+
+    /** The number of elements. */
+    private final int size;
+
+    /** The parallelism of the pool. */
+    private final int parallelism;
+
+    /** The granularity policy specification. */
+    private final String granularity;
+
+    /** The number of warmup runs. */
+    private final int warmups;
+
+    /** The number of measured runs. */
+    private final int iterations;
+
+    /**
+     * The constructor.
+     *
+     * @param   workload    java.lang.String
+     * @param   size        int
+     * @param   parallelism int
+     * @param   granularity java.lang.String
+     * @param   warmups     int
+     * @param   iterations  int
+     */
+    private RunnerOptions(final String workload,
+                          final int size,
+                          final int parallelism,
+                          final String granularity,
+                          final int warmups,
+                          final int iterations) {
+        super();
+
+        this.workload = workload;
+        this.size = size;
+        this.parallelism = parallelism;
+        this.granularity = granularity;
+        this.warmups = warmups;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Parse the command line arguments.
+     *
+     * @param   arguments   java.lang.String[]
+     * @return              net.jmp.demo.forkjoinpool.RunnerOptions
+     * @throws              java.lang.IllegalArgumentException When an option is unknown, missing or invalid
+     */
+    static RunnerOptions parse(final String[] arguments) {
+        final Map<String, String> options = new HashMap<>();
+
+        for (int i = 0; i < Objects.requireNonNull(arguments).length; i++) {
+            final String argument = arguments[i];
+
+            if (!argument.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + argument);
+            }
+
+            final int equals = argument.indexOf('=');
+
+            if (equals > 0) {
+                options.put(argument.substring(2, equals), argument.substring(equals + 1));
+            } else if (i + 1 < arguments.length) {
+                options.put(argument.substring(2), arguments[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value of " + argument);
+            }
+        }
+
+        final String workload = options.remove("workload");
+
+        if (workload == null) {
+            throw new IllegalArgumentException("Missing --workload");
+        }
+
+        final RunnerOptions runnerOptions = new RunnerOptions(workload,
+                positive(options, "size", WorkloadRunner.Workload.forName(workload).getDefaultSize()),
+                positive(options, "parallelism", Runtime.getRuntime().availableProcessors()),
+                Objects.requireNonNullElse(options.remove("granularity"), DEFAULT_GRANULARITY),
+                nonNegative(options, "warmups", DEFAULT_WARMUPS),
+                positive(options, "iterations", DEFAULT_ITERATIONS));
+
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+
+        GranularityPolicy.parse(runnerOptions.granularity, runnerOptions.size, runnerOptions.parallelism);
+
+        return runnerOptions;
+    }
+
+    /**
+     * Return the name of the workload.
+     *
+     * @return  java.lang.String
+     */
+    String getWorkload() {
+        return this.workload;
+    }
+
+    /**
+     * Return the number of elements.
+     *
+     * @return  int
+     */
+    int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Return the parallelism of the pool.
+     *
+     * @return  int
+     */
+    int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Return the granularity policy specification.
+     *
+     * @return  java.lang.String
+     */
+    String getGranularity() {
+        return this.granularity;
+    }
+
+    /**
+     * Return the number of warmup runs.
+     *
+     * @return  int
+     */
+    int getWarmups() {
+        return this.warmups;
+    }
+
+    /**
+     * Return the number of measured runs.
+     *
+     * @return  int
+     */
+    int getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * Remove and return a positive integer option.
+     *
+     * @param   options         java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     * @param   name            java.lang.String
+     * @param   defaultValue    int
+     * @return                  int
+     */
+    private static int positive(final Map<String, String> options, final String name, final int defaultValue) {
+        final int value = integer(options, name, defaultValue);
+
+        if (value < 1) {
+            throw new IllegalArgumentException("--" + name + " must be positive: " + value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove and return a non-negative integer option.
+     *
+     * @param   options         java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     * @param   name            java.lang.String
+     * @param   defaultValue    int
+     * @return                  int
+     */
+    private static int nonNegative(final Map<String, String> options, final String name, final int defaultValue) {
+        final int value = integer(options, name, defaultValue);
+
+        if (value < 0) {
+            throw new IllegalArgumentException("--" + name + " must not be negative: " + value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove and return an integer option,
+     * allowing underscores as separators.
+     *
+     * @param   options         java.util.Map&lt;java.lang.String, java.lang.String&gt;
+     * @param   name            java.lang.String
+     * @param   defaultValue    int
+     * @return                  int
+     */
+    private static int integer(final Map<String, String> options, final String name, final int defaultValue) {
+        final String value = options.remove(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.replace("_", ""));
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("--" + name + " is not an integer: " + value, nfe);
+        }
+    }
+
+    /**
+     * Return the string representation of this object.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "workload=" + this.workload +
+                " size=" + this.size +
+                " parallelism=" + this.parallelism +
+                " granularity=" + this.granularity +
+                " warmups=" + this.warmups +
+                " iterations=" + this.iterations;
+    }
+}
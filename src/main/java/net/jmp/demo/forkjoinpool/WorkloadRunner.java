@@ -0,0 +1,534 @@
+package net.jmp.demo.forkjoinpool;
+
+/*
+ * (#)WorkloadRunner.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.PrintStream;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.actions.CapitalizerAction;
+import net.jmp.demo.forkjoinpool.actions.MergeSortAction;
+import net.jmp.demo.forkjoinpool.actions.RadixSortAction;
+import net.jmp.demo.forkjoinpool.actions.SquareRootAction;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.pools.PoolConfiguration;
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import net.jmp.demo.forkjoinpool.tasks.Buckets;
+import net.jmp.demo.forkjoinpool.tasks.FactorialEngine;
+import net.jmp.demo.forkjoinpool.tasks.HistogramTask;
+import net.jmp.demo.forkjoinpool.tasks.LetterDistributionTask;
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+import net.jmp.demo.forkjoinpool.tasks.PrefixSumTask;
+import net.jmp.demo.forkjoinpool.tasks.RangeSumTask;
+import net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A class that runs one workload repeatedly on
+ * a pool of the requested parallelism. It prints
+ * the wall time and throughput of every measured
+ * run and then a CSV summary. Inputs are built
+ * once and restored outside the timed region
+ * when a workload works in place.
+ */
+final class WorkloadRunner {
+    /** The workload class of the runner's pool. */
+    static final String POOL_WORKLOAD = "runner";
+
+    /** The header of the CSV summary. */
+    static final String CSV_HEADER = "workload,size,parallelism,granularity,warmups,iterations," +
+            "mean_ms,min_ms,p50_ms,max_ms,throughput_per_s";
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The options. */
+    private final RunnerOptions options;
+
+    /** The pool provider. */
+    private final PoolProvider poolProvider;
+
+    /**
+     * The constructor.
+     *
+     * @param   options         net.jmp.demo.forkjoinpool.RunnerOptions
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    WorkloadRunner(final RunnerOptions options, final PoolProvider poolProvider) {
+        super();
+
+        this.options = Objects.requireNonNull(options);
+        this.poolProvider = Objects.requireNonNull(poolProvider);
+    }
+
+    /**
+     * Run the workload, print every measured
+     * run and the CSV summary, and return the
+     * summary row.
+     *
+     * @param   out java.io.PrintStream
+     * @return      java.lang.String
+     */
+    String run(final PrintStream out) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Workload workload = Workload.forName(this.options.getWorkload());
+        final int size = this.options.getSize();
+        final int parallelism = this.options.getParallelism();
+
+        final ForkJoinPool pool = this.poolProvider
+                .configure(POOL_WORKLOAD, PoolConfiguration.builder().parallelism(parallelism).build())
+                .getPool(POOL_WORKLOAD);
+        final GranularityPolicy granularity = GranularityPolicy.parse(this.options.getGranularity(), size, parallelism);
+        final Trial trial = workload.prepare(size, pool, granularity);
+
+        out.println(this.options);
+
+        for (int i = 0; i < this.options.getWarmups(); i++) {
+            trial.reset();
+            trial.run();
+        }
+
+        final long[] nanos = new long[this.options.getIterations()];
+
+        for (int i = 0; i < nanos.length; i++) {
+            trial.reset();
+
+            final long start = System.nanoTime();
+
+            trial.run();
+
+            nanos[i] = System.nanoTime() - start;
+
+            out.format(Locale.ROOT, "run %d: %.3f ms, %.0f elements/s%n", i + 1, nanos[i] / 1e6, throughput(size, nanos[i]));
+        }
+
+        final String summary = this.summarize(nanos);
+
+        out.println(CSV_HEADER);
+        out.println(summary);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(summary));
+        }
+
+        return summary;
+    }
+
+    /**
+     * Return the CSV summary row of
+     * the measured run times.
+     *
+     * @param   nanos   long[]
+     * @return          java.lang.String
+     */
+    private String summarize(final long[] nanos) {
+        final long[] sorted = nanos.clone();
+
+        Arrays.sort(sorted);
+
+        final double mean = Arrays.stream(sorted).average().orElse(0);
+
+        return String.format(Locale.ROOT, "%s,%d,%d,%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.0f",
+                this.options.getWorkload(),
+                this.options.getSize(),
+                this.options.getParallelism(),
+                this.options.getGranularity(),
+                this.options.getWarmups(),
+                sorted.length,
+                mean / 1e6,
+                sorted[0] / 1e6,
+                sorted[(sorted.length - 1) / 2] / 1e6,
+                sorted[sorted.length - 1] / 1e6,
+                throughput(this.options.getSize(), (long) mean));
+    }
+
+    /**
+     * Return the elements processed per second.
+     *
+     * @param   size    int
+     * @param   nanos   long
+     * @return          double
+     */
+    private static double throughput(final int size, final long nanos) {
+        return size * 1e9 / Math.max(1, nanos);
+    }
+
+    /**
+     * One prepared input of a workload.
+     */
+    interface Trial {
+        /**
+         * Restore the input before a run.
+         * Workloads that do not modify
+         * their input do nothing.
+         */
+        default void reset() {
+            // Nothing to restore
+        }
+
+        /**
+         * Run the workload once.
+         *
+         * @return  java.lang.Object
+         */
+        Object run();
+    }
+
+    /**
+     * The workloads that can be run.
+     */
+    enum Workload {
+        /** The zero-copy range sum of integers. */
+        SUM("sum") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final int[] integers = integers(size);
+
+                return () -> {
+                    final RangeSumTask task = new RangeSumTask(integers, 0, size, granularity);
+
+                    pool.invoke(task);
+
+                    return task.getSum();
+                };
+            }
+        },
+
+        /** The sum of integers written with the parallel reduce framework. */
+        REDUCE("reduce") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final int[] integers = integers(size);
+
+                return () -> pool.invoke(new ParallelReduce.OfLong(0, size, (start, end) -> {
+                    final int to = (int) end;
+
+                    long sum = 0;
+
+                    for (int i = (int) start; i < to; i++) {
+                        sum += integers[i];
+                    }
+
+                    return sum;
+                }, Long::sum, granularity));
+            }
+        },
+
+        /** The inclusive prefix sums of longs, computed in place. */
+        SCAN("scan") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final long[] source = new long[size];
+                final long[] longs = new long[size];
+
+                Arrays.setAll(source, i -> i % 1_000);
+
+                return new Trial() {
+                    @Override
+                    public void reset() {
+                        System.arraycopy(source, 0, longs, 0, size);
+                    }
+
+                    @Override
+                    public Object run() {
+                        pool.invoke(new PrefixSumTask(longs, 0, size, PrefixSumTask.Mode.INCLUSIVE, granularity));
+
+                        return longs;
+                    }
+                };
+            }
+        },
+
+        /** The merge sort of scrambled integers, in place. */
+        SORT("sort") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final int[] source = scrambled(size);
+                final int[] integers = new int[size];
+                final int[] buffer = new int[size];
+
+                return new Trial() {
+                    @Override
+                    public void reset() {
+                        System.arraycopy(source, 0, integers, 0, size);
+                    }
+
+                    @Override
+                    public Object run() {
+                        pool.invoke(new MergeSortAction(integers, 0, size, buffer, granularity));
+
+                        return integers;
+                    }
+                };
+            }
+        },
+
+        /** The radix sort of scrambled integers, in place. */
+        RADIX("radix") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final int[] source = scrambled(size);
+                final int[] integers = new int[size];
+                final int[] buffer = new int[size];
+
+                return new Trial() {
+                    @Override
+                    public void reset() {
+                        System.arraycopy(source, 0, integers, 0, size);
+                    }
+
+                    @Override
+                    public Object run() {
+                        pool.invoke(new RadixSortAction(integers, 0, size, buffer, granularity));
+
+                        return integers;
+                    }
+                };
+            }
+        },
+
+        /** The letter distribution of text. */
+        LETTERS("letters") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final char[] characters = text(size);
+
+                return () -> pool.invoke(new LetterDistributionTask(characters, 0, size, granularity));
+            }
+        },
+
+        /** The word frequencies of text. */
+        WORDS("words") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final char[] characters = text(size);
+
+                return () -> pool.invoke(TokenFrequencyTask.words(characters, 0, size, granularity));
+            }
+        },
+
+        /** The square roots of doubles, computed in place. */
+        SQRT("sqrt") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final double[] source = new double[size];
+                final double[] data = new double[size];
+
+                Arrays.setAll(source, i -> i);
+
+                return new Trial() {
+                    @Override
+                    public void reset() {
+                        System.arraycopy(source, 0, data, 0, size);
+                    }
+
+                    @Override
+                    public Object run() {
+                        pool.invoke(new SquareRootAction(data, 0, size, granularity));
+
+                        return data;
+                    }
+                };
+            }
+        },
+
+        /** The histogram of square roots in fixed-width buckets. */
+        HISTOGRAM("histogram") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final double[] data = new double[size];
+
+                Arrays.setAll(data, Math::sqrt);
+
+                final Buckets buckets = Buckets.fixedWidth(0, Math.sqrt(size), 64);
+
+                return () -> pool.invoke(new HistogramTask(data, 0, size, buckets, granularity));
+            }
+        },
+
+        /** The capitalization of text, in place. */
+        CAPITALIZE("capitalize") {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final char[] source = text(size);
+                final char[] characters = new char[size];
+
+                return new Trial() {
+                    @Override
+                    public void reset() {
+                        System.arraycopy(source, 0, characters, 0, size);
+                    }
+
+                    @Override
+                    public Object run() {
+                        pool.invoke(new CapitalizerAction(characters, 0, size, granularity));
+
+                        return characters;
+                    }
+                };
+            }
+        },
+
+        /** The factorial of the size. */
+        FACTORIAL("factorial", 20_000) {
+            @Override
+            Trial prepare(final int size, final ForkJoinPool pool, final GranularityPolicy granularity) {
+                final FactorialEngine engine = new FactorialEngine(pool, FactorialEngine.Algorithm.PRIME_FACTORIZATION, granularity);
+
+                return () -> engine.factorial(size);
+            }
+        };
+
+        /** The text repeated to build character inputs. */
+        private static final String TEXT = "The quick brown fox jumps over the lazy dog. ";
+
+        /** The name used on the command line. */
+        private final String name;
+
+        /** The size used when none is given. */
+        private final int defaultSize;
+
+        /**
+         * A constructor that uses the
+         * runner's default size.
+         *
+         * @param   name    java.lang.String
+         */
+        Workload(final String name) {
+            this(name, RunnerOptions.DEFAULT_SIZE);
+        }
+
+        /**
+         * A constructor that takes the size
+         * used when none is given.
+         *
+         * @param   name        java.lang.String
+         * @param   defaultSize int
+         */
+        Workload(final String name, final int defaultSize) {
+            this.name = name;
+            this.defaultSize = defaultSize;
+        }
+
+        /**
+         * Return the size used when none is given.
+         *
+         * @return  int
+         */
+        int getDefaultSize() {
+            return this.defaultSize;
+        }
+
+        /**
+         * Build the input of a size
+         * and return its trial.
+         *
+         * @param   size        int
+         * @param   pool        java.util.concurrent.ForkJoinPool
+         * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+         * @return              net.jmp.demo.forkjoinpool.WorkloadRunner.Trial
+         */
+        abstract Trial prepare(int size, ForkJoinPool pool, GranularityPolicy granularity);
+
+        /**
+         * Return the workload with a name.
+         *
+         * @param   name    java.lang.String
+         * @return          net.jmp.demo.forkjoinpool.WorkloadRunner.Workload
+         */
+        static Workload forName(final String name) {
+            for (final Workload workload : values()) {
+                if (workload.name.equals(name)) {
+                    return workload;
+                }
+            }
+
+            throw new IllegalArgumentException("Unknown workload: " + name);
+        }
+
+        /**
+         * Return the integers 0 through 999
+         * repeated to fill an array.
+         *
+         * @param   size    int
+         * @return          int[]
+         */
+        private static int[] integers(final int size) {
+            final int[] integers = new int[size];
+
+            Arrays.setAll(integers, i -> i % 1_000);
+
+            return integers;
+        }
+
+        /**
+         * Return integers of a size in a fixed
+         * pseudo-random order, with negatives.
+         *
+         * @param   size    int
+         * @return          int[]
+         */
+        private static int[] scrambled(final int size) {
+            return new SplittableRandom(size).ints(size).toArray();
+        }
+
+        /**
+         * Return repeated text of a size.
+         *
+         * @param   size    int
+         * @return          char[]
+         */
+        private static char[] text(final int size) {
+            final char[] characters = new char[size];
+
+            for (int i = 0; i < size; i++) {
+                characters[i] = TEXT.charAt(i % TEXT.length());
+            }
+
+            return characters;
+        }
+    }
+}
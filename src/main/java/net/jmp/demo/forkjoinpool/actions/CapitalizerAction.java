@@ -1,11 +1,12 @@
 package net.jmp.demo.forkjoinpool.actions;
 
 /*
+ * (#)CapitalizerAction.java    0.5.0   10/17/2026
  * (#)CapitalizerAction.java    0.4.0   09/24/2024
  * (#)CapitalizerAction.java    0.2.0   09/14/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.5.0
  * @since     0.2.0
  *
  * MIT License
@@ -31,13 +32,15 @@ package net.jmp.demo.forkjoinpool.actions;
  * SOFTWARE.
  */
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.RecursiveAction;
 
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -45,10 +48,17 @@ import org.slf4j.LoggerFactory;
 
 /**
  * An action class that capitalizes a string.
+ * Each leaf upper-cases its range with an ASCII
+ * or a code point engine chosen by scanning the
+ * range, and ranges are never split inside a
+ * surrogate pair.
  */
 public final class CapitalizerAction extends RecursiveAction {
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(CapitalizerAction.class);
+
     /** The logger. */
-    private final transient Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapitalizerAction.class.getName());
 
     /** The character array to capitalize. */
     private final char[] characters;
@@ -59,11 +69,12 @@ public final class CapitalizerAction extends RecursiveAction {
     /** The ending point in the array. */
     private final int end;
 
-    /** The threshold for the creation of subtasks. */
-    private final int workloadThreshold;
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
 
     /**
-     * The constructor.
+     * A constructor that uses a
+     * fixed workload threshold.
      *
      * @param   characters          char[]
      * @param   start               int
@@ -74,12 +85,30 @@ public final class CapitalizerAction extends RecursiveAction {
                              final int start,
                              final int end,
                              final int workloadThreshold) {
+        this(characters, start, end, GranularityPolicy.fixed(workloadThreshold));
+    }
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public CapitalizerAction(final char[] characters,
+                             final int start,
+                             final int end,
+                             final GranularityPolicy granularity) {
         super();
 
-        this.characters = Objects.requireNonNull(characters);
+        Objects.checkFromToIndex(start, end, Objects.requireNonNull(characters).length);
+
+        this.characters = characters;
         this.start = start;
         this.end = end;
-        this.workloadThreshold = workloadThreshold;
+        this.granularity = Objects.requireNonNull(granularity);
     }
 
     /**
@@ -87,63 +116,58 @@ public final class CapitalizerAction extends RecursiveAction {
      */
     @Override
     protected void compute() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
-        }
-
-        if ((this.end - this.start) < this.workloadThreshold) {
-            this.processWorkload();
-        } else {
-            ForkJoinTask.invokeAll(this.createSubtasks());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
-        }
-    }
+        this.granularity.checkCancelled();
 
-    /**
-     * Create a list of subtasks and return them.
-     *
-     * @return  java.util.List&lt;net.jmp.demo.forkjoinpool.actions.CapitalizerAction&gt;
-     */
-    private List<CapitalizerAction> createSubtasks() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
-        }
+        final int size = this.end - this.start;
+        final int middle = size < 2 || !this.granularity.shouldSplit(size)
+                ? this.end
+                : UpperCase.splitPoint(this.characters, this.start, this.end);
 
-        final List<CapitalizerAction> subtasks = new ArrayList<>();
+        if (middle == this.end) {
+            final long startNanos = METRICS.startLeaf();
 
-        final int middle = (this.start + this.end) / 2;
+            this.processWorkload();
 
-        subtasks.add(new CapitalizerAction(this.characters, this.start, middle, this.workloadThreshold));
-        subtasks.add(new CapitalizerAction(this.characters, middle, this.end, this.workloadThreshold));
+            METRICS.recordLeaf(startNanos);
+        } else {
+            METRICS.recordSplit();
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(subtasks));
+            ForkJoinTask.invokeAll(new CapitalizerAction(this.characters, this.start, middle, this.granularity),
+                    new CapitalizerAction(this.characters, middle, this.end, this.granularity));
         }
 
-        return subtasks;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
     }
 
     /**
-     * Process the workload, i.e. the string.
+     * Process the workload, i.e. this
+     * action's slice of the string.
      */
     private void processWorkload() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
-        for (int i = 0; i < this.characters.length; i++) {
-            this.characters[i] = Character.toUpperCase(this.characters[i]);
+        final boolean ascii = UpperCase.isAscii(this.characters, this.start, this.end);
+
+        if (ascii) {
+            UpperCase.applyAscii(this.characters, this.start, this.end);
+        } else {
+            UpperCase.applyCodePoints(this.characters, this.start, this.end);
+        }
 
-            if (this.logger.isDebugEnabled()) {
-                this.logger.debug("{}: {}", this.characters[i], Thread.currentThread().getName());
-            }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[{}, {}) {}: {}", this.start, this.end, ascii ? "ASCII" : "code points", Thread.currentThread().getName());
         }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
         }
     }
 }
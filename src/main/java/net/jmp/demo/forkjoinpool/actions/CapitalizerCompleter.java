@@ -0,0 +1,155 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)CapitalizerCompleter.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.CountedCompleter;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A counted completer that capitalizes a range
+ * of a character array. Unlike the capitalizer
+ * action it never joins: right halves are forked
+ * with a pending count while this task descends
+ * into the left half, and the last task to
+ * finish completes its parent. Leaves use the
+ * same engines as the capitalizer action.
+ */
+public final class CapitalizerCompleter extends CountedCompleter<Void> {
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(CapitalizerCompleter.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapitalizerCompleter.class.getName());
+
+    /** The character array to capitalize. */
+    private final char[] characters;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public CapitalizerCompleter(final char[] characters,
+                                final int start,
+                                final int end,
+                                final GranularityPolicy granularity) {
+        this(null, Objects.requireNonNull(characters), start, end, granularity);
+
+        Objects.checkFromToIndex(start, end, characters.length);
+    }
+
+    /**
+     * The constructor used for subtasks.
+     *
+     * @param   parent      java.util.concurrent.CountedCompleter&lt;?&gt;
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    private CapitalizerCompleter(final CountedCompleter<?> parent,
+                                 final char[] characters,
+                                 final int start,
+                                 final int end,
+                                 final GranularityPolicy granularity) {
+        super(parent);
+
+        this.characters = characters;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    @Override
+    public void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        int high = this.end;
+
+        while (high - this.start > 1 && this.granularity.shouldSplit(high - this.start)) {
+            final int middle = UpperCase.splitPoint(this.characters, this.start, high);
+
+            if (middle == high) {
+                break;
+            }
+
+            METRICS.recordSplit();
+
+            this.addToPendingCount(1);
+
+            new CapitalizerCompleter(this, this.characters, middle, high, this.granularity).fork();
+
+            high = middle;
+        }
+
+        final long startNanos = METRICS.startLeaf();
+
+        UpperCase.apply(this.characters, this.start, high);
+
+        METRICS.recordLeaf(startNanos);
+
+        this.propagateCompletion();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)MatrixKernel.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+/**
+ * The matrix kernel interface. A kernel adds the
+ * product of two blocks of row-major matrices to a
+ * third and is run by each leaf of the matrix
+ * multiply action. Each block is addressed by the
+ * offset of its first element and the leading
+ * dimension, i.e. the row length, of its matrix.
+ */
+@FunctionalInterface
+public interface MatrixKernel {
+    /** The system property that selects the default kernel. */
+    public static final String KERNEL_PROPERTY = "net.jmp.demo.forkjoinpool.matrix.kernel";
+
+    /**
+     * Add the product of the m by k block of a
+     * and the k by n block of b to the m by n
+     * block of c.
+     *
+     * @param   a       double[]
+     * @param   aOffset int
+     * @param   lda     int
+     * @param   b       double[]
+     * @param   bOffset int
+     * @param   ldb     int
+     * @param   c       double[]
+     * @param   cOffset int
+     * @param   ldc     int
+     * @param   m       int
+     * @param   n       int
+     * @param   k       int
+     */
+    public void multiplyAdd(double[] a, int aOffset, int lda,
+                            double[] b, int bOffset, int ldb,
+                            double[] c, int cOffset, int ldc,
+                            int m, int n, int k);
+
+    /**
+     * Return the scalar kernel.
+     *
+     * @return  net.jmp.demo.forkjoinpool.actions.MatrixKernel
+     */
+    public static MatrixKernel scalar() {
+        return ScalarMatrixKernel.INSTANCE;
+    }
+
+    /**
+     * Return the vector kernel. The class is
+     * loaded reflectively so that nothing
+     * links against the incubator module
+     * unless it is present.
+     *
+     * @return  net.jmp.demo.forkjoinpool.actions.MatrixKernel
+     * @throws  java.lang.UnsupportedOperationException When the module is missing
+     */
+    public static MatrixKernel vector() {
+        if (!SquareRootKernel.isVectorAvailable()) {
+            throw new UnsupportedOperationException("The " + SquareRootKernel.VECTOR_MODULE + " module is not available");
+        }
+
+        try {
+            return (MatrixKernel) Class.forName(MatrixKernel.class.getPackageName() + ".VectorMatrixKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("The vector kernel could not be loaded", e);
+        }
+    }
+
+    /**
+     * Return a kernel by name: 'scalar', 'vector'
+     * or 'auto', which is the vector kernel when
+     * the module is available and the scalar one
+     * otherwise.
+     *
+     * @param   name    java.lang.String
+     * @return          net.jmp.demo.forkjoinpool.actions.MatrixKernel
+     */
+    public static MatrixKernel forName(final String name) {
+        return switch (Objects.requireNonNull(name).trim()) {
+            case "scalar" -> scalar();
+            case "vector" -> vector();
+            case "auto" -> SquareRootKernel.isVectorAvailable() ? vector() : scalar();
+            default -> throw new IllegalArgumentException("Unknown matrix kernel: " + name);
+        };
+    }
+
+    /**
+     * Return the kernel named by the system
+     * property, which defaults to 'auto'.
+     *
+     * @return  net.jmp.demo.forkjoinpool.actions.MatrixKernel
+     */
+    public static MatrixKernel defaultKernel() {
+        return forName(System.getProperty(KERNEL_PROPERTY, "auto"));
+    }
+}
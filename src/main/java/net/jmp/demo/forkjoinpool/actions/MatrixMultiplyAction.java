@@ -0,0 +1,294 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)MatrixMultiplyAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action class that adds the product of an m by k
+ * matrix a and a k by n matrix b to an m by n matrix
+ * c, all row-major in flat arrays of doubles. The
+ * largest dimension is halved until every dimension
+ * fits a leaf, so blocks fit whichever cache level
+ * they reach without tuning for it. Halves of m or n
+ * write disjoint blocks of c and are run in parallel
+ * while the granularity policy allows, given the
+ * number of multiply-adds m * n * k; halves of k add
+ * to the same block and always run one after the
+ * other. Leaves are run by a matrix kernel.
+ */
+public final class MatrixMultiplyAction extends RecursiveAction {
+    /** The default workload threshold in multiply-adds. */
+    public static final long DEFAULT_WORKLOAD_THRESHOLD = 1L << 21;
+
+    /** The largest dimension of a leaf block. */
+    static final int LEAF_DIMENSION = 64;
+
+    /** The number of rows a leaf hands the kernel between checks for cancellation. */
+    private static final int ROW_BAND = 16;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(MatrixMultiplyAction.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatrixMultiplyAction.class.getName());
+
+    /** The left matrix. */
+    private final double[] a;
+
+    /** The right matrix. */
+    private final double[] b;
+
+    /** The matrix the product is added to. */
+    private final double[] c;
+
+    /** The offset of this block in a. */
+    private final int aOffset;
+
+    /** The offset of this block in b. */
+    private final int bOffset;
+
+    /** The offset of this block in c. */
+    private final int cOffset;
+
+    /** The row length of a. */
+    private final int lda;
+
+    /** The row length of b and c. */
+    private final int ldb;
+
+    /** The rows of this block of a and c. */
+    private final int m;
+
+    /** The columns of this block of b and c. */
+    private final int n;
+
+    /** The columns of this block of a and rows of this block of b. */
+    private final int k;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /** The leaf kernel. */
+    private final MatrixKernel kernel;
+
+    /**
+     * A constructor that uses the default
+     * workload threshold and kernel.
+     *
+     * @param   a   double[]
+     * @param   b   double[]
+     * @param   c   double[]
+     * @param   m   int
+     * @param   n   int
+     * @param   k   int
+     */
+    public MatrixMultiplyAction(final double[] a,
+                                final double[] b,
+                                final double[] c,
+                                final int m,
+                                final int n,
+                                final int k) {
+        this(a, b, c, m, n, k, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD), MatrixKernel.defaultKernel());
+    }
+
+    /**
+     * A constructor that takes a granularity
+     * policy and a leaf kernel.
+     *
+     * @param   a           double[]
+     * @param   b           double[]
+     * @param   c           double[]
+     * @param   m           int
+     * @param   n           int
+     * @param   k           int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   kernel      net.jmp.demo.forkjoinpool.actions.MatrixKernel
+     */
+    public MatrixMultiplyAction(final double[] a,
+                                final double[] b,
+                                final double[] c,
+                                final int m,
+                                final int n,
+                                final int k,
+                                final GranularityPolicy granularity,
+                                final MatrixKernel kernel) {
+        super();
+
+        if (m < 0 || n < 0 || k < 0) {
+            throw new IllegalArgumentException("Negative dimension: " + m + " x " + k + " times " + k + " x " + n);
+        }
+
+        checkLength("a", Objects.requireNonNull(a), (long) m * k);
+        checkLength("b", Objects.requireNonNull(b), (long) k * n);
+        checkLength("c", Objects.requireNonNull(c), (long) m * n);
+
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.aOffset = 0;
+        this.bOffset = 0;
+        this.cOffset = 0;
+        this.lda = k;
+        this.ldb = n;
+        this.m = m;
+        this.n = n;
+        this.k = k;
+        this.granularity = Objects.requireNonNull(granularity);
+        this.kernel = Objects.requireNonNull(kernel);
+    }
+
+    /**
+     * The constructor used for subtasks.
+     *
+     * @param   parent  net.jmp.demo.forkjoinpool.actions.MatrixMultiplyAction
+     * @param   aOffset int
+     * @param   bOffset int
+     * @param   cOffset int
+     * @param   m       int
+     * @param   n       int
+     * @param   k       int
+     */
+    private MatrixMultiplyAction(final MatrixMultiplyAction parent,
+                                 final int aOffset,
+                                 final int bOffset,
+                                 final int cOffset,
+                                 final int m,
+                                 final int n,
+                                 final int k) {
+        super();
+
+        this.a = parent.a;
+        this.b = parent.b;
+        this.c = parent.c;
+        this.aOffset = aOffset;
+        this.bOffset = bOffset;
+        this.cOffset = cOffset;
+        this.lda = parent.lda;
+        this.ldb = parent.ldb;
+        this.m = m;
+        this.n = n;
+        this.k = k;
+        this.granularity = parent.granularity;
+        this.kernel = parent.kernel;
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    @Override
+    protected void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        if (this.k > LEAF_DIMENSION && this.k >= this.m && this.k >= this.n) {
+            final int half = this.k >>> 1;
+
+            new MatrixMultiplyAction(this, this.aOffset, this.bOffset, this.cOffset, this.m, this.n, half).compute();
+            new MatrixMultiplyAction(this, this.aOffset + half, this.bOffset + half * this.ldb, this.cOffset,
+                    this.m, this.n, this.k - half).compute();
+        } else if (this.m > LEAF_DIMENSION || this.n > LEAF_DIMENSION) {
+            final MatrixMultiplyAction first;
+            final MatrixMultiplyAction second;
+
+            if (this.m >= this.n) {
+                final int half = this.m >>> 1;
+
+                first = new MatrixMultiplyAction(this, this.aOffset, this.bOffset, this.cOffset, half, this.n, this.k);
+                second = new MatrixMultiplyAction(this, this.aOffset + half * this.lda, this.bOffset,
+                        this.cOffset + half * this.ldb, this.m - half, this.n, this.k);
+            } else {
+                final int half = this.n >>> 1;
+
+                first = new MatrixMultiplyAction(this, this.aOffset, this.bOffset, this.cOffset, this.m, half, this.k);
+                second = new MatrixMultiplyAction(this, this.aOffset, this.bOffset + half, this.cOffset + half,
+                        this.m, this.n - half, this.k);
+            }
+
+            if (this.granularity.shouldSplit((long) this.m * this.n * this.k)) {
+                METRICS.recordSplit();
+
+                ForkJoinTask.invokeAll(first, second);
+            } else {
+                first.compute();
+                second.compute();
+            }
+        } else {
+            final long startNanos = METRICS.startLeaf();
+
+            for (int row = 0; row < this.m; row += ROW_BAND) {
+                if (row > 0) {
+                    this.granularity.checkCancelled();
+                }
+
+                this.kernel.multiplyAdd(this.a, this.aOffset + row * this.lda, this.lda,
+                        this.b, this.bOffset, this.ldb,
+                        this.c, this.cOffset + row * this.ldb, this.ldb,
+                        Math.min(ROW_BAND, this.m - row), this.n, this.k);
+            }
+
+            METRICS.recordLeaf(startNanos);
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+
+    /**
+     * Throw if a matrix is shorter
+     * than its dimensions require.
+     *
+     * @param   name        java.lang.String
+     * @param   matrix      double[]
+     * @param   elements    long
+     */
+    private static void checkLength(final String name, final double[] matrix, final long elements) {
+        if (matrix.length < elements) {
+            throw new IllegalArgumentException("Matrix " + name + " has " + matrix.length + " elements; " + elements + " are needed");
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)MergeSortAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action class that sorts a range of an array
+ * of ints, longs or doubles with a parallel merge
+ * sort. Leaves are sorted with Arrays.sort; halves
+ * are merged through a single scratch buffer that
+ * every subtask shares, each using only its own
+ * range of it, and large merges are themselves
+ * split in parallel. The buffer may be passed in
+ * so that repeated sorts allocate nothing. Doubles
+ * are ordered as by Double.compare.
+ */
+public final class MergeSortAction extends RecursiveAction {
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(MergeSortAction.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MergeSortAction.class.getName());
+
+    /** The array of ints to sort or null. */
+    private final int[] ints;
+
+    /** The array of longs to sort or null. */
+    private final long[] longs;
+
+    /** The array of doubles to sort or null. */
+    private final double[] doubles;
+
+    /** The scratch buffer of the same type as the array. */
+    private final Object buffer;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that sorts an
+     * entire array of ints using the
+     * default workload threshold.
+     *
+     * @param   ints    int[]
+     */
+    public MergeSortAction(final int[] ints) {
+        this(ints, 0, Objects.requireNonNull(ints).length, null, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that sorts a range of an
+     * array of ints. The buffer must be at
+     * least as long as the end of the range
+     * or null to allocate one.
+     *
+     * @param   ints        int[]
+     * @param   start       int
+     * @param   end         int
+     * @param   buffer      int[]
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public MergeSortAction(final int[] ints,
+                           final int start,
+                           final int end,
+                           final int[] buffer,
+                           final GranularityPolicy granularity) {
+        this(Objects.requireNonNull(ints), null, null,
+                buffer != null ? buffer : new int[end],
+                ints.length, buffer != null ? buffer.length : end, start, end, granularity);
+    }
+
+    /**
+     * A constructor that sorts an
+     * entire array of longs using the
+     * default workload threshold.
+     *
+     * @param   longs   long[]
+     */
+    public MergeSortAction(final long[] longs) {
+        this(longs, 0, Objects.requireNonNull(longs).length, null, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that sorts a range of an
+     * array of longs. The buffer must be at
+     * least as long as the end of the range
+     * or null to allocate one.
+     *
+     * @param   longs       long[]
+     * @param   start       int
+     * @param   end         int
+     * @param   buffer      long[]
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public MergeSortAction(final long[] longs,
+                           final int start,
+                           final int end,
+                           final long[] buffer,
+                           final GranularityPolicy granularity) {
+        this(null, Objects.requireNonNull(longs), null,
+                buffer != null ? buffer : new long[end],
+                longs.length, buffer != null ? buffer.length : end, start, end, granularity);
+    }
+
+    /**
+     * A constructor that sorts an
+     * entire array of doubles using the
+     * default workload threshold.
+     *
+     * @param   doubles double[]
+     */
+    public MergeSortAction(final double[] doubles) {
+        this(doubles, 0, Objects.requireNonNull(doubles).length, null, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that sorts a range of an
+     * array of doubles. The buffer must be at
+     * least as long as the end of the range
+     * or null to allocate one.
+     *
+     * @param   doubles     double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   buffer      double[]
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public MergeSortAction(final double[] doubles,
+                           final int start,
+                           final int end,
+                           final double[] buffer,
+                           final GranularityPolicy granularity) {
+        this(null, null, Objects.requireNonNull(doubles),
+                buffer != null ? buffer : new double[end],
+                doubles.length, buffer != null ? buffer.length : end, start, end, granularity);
+    }
+
+    /**
+     * The constructor that all the
+     * others delegate to.
+     *
+     * @param   ints            int[]
+     * @param   longs           long[]
+     * @param   doubles         double[]
+     * @param   buffer          java.lang.Object
+     * @param   length          int
+     * @param   bufferLength    int
+     * @param   start           int
+     * @param   end             int
+     * @param   granularity     net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    private MergeSortAction(final int[] ints,
+                            final long[] longs,
+                            final double[] doubles,
+                            final Object buffer,
+                            final int length,
+                            final int bufferLength,
+                            final int start,
+                            final int end,
+                            final GranularityPolicy granularity) {
+        super();
+
+        Objects.checkFromToIndex(start, end, length);
+        Objects.checkFromToIndex(start, end, bufferLength);
+
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The constructor used for subtasks.
+     *
+     * @param   parent  net.jmp.demo.forkjoinpool.actions.MergeSortAction
+     * @param   start   int
+     * @param   end     int
+     */
+    private MergeSortAction(final MergeSortAction parent, final int start, final int end) {
+        super();
+
+        this.ints = parent.ints;
+        this.longs = parent.longs;
+        this.doubles = parent.doubles;
+        this.buffer = parent.buffer;
+        this.start = start;
+        this.end = end;
+        this.granularity = parent.granularity;
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    @Override
+    protected void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        final int size = this.end - this.start;
+
+        if (size < 2 || !this.granularity.shouldSplit(size)) {
+            final long startNanos = METRICS.startLeaf();
+
+            this.sortLeaf();
+
+            METRICS.recordLeaf(startNanos);
+        } else {
+            METRICS.recordSplit();
+
+            final int middle = (this.start + this.end) >>> 1;
+
+            ForkJoinTask.invokeAll(new MergeSortAction(this, this.start, middle), new MergeSortAction(this, middle, this.end));
+
+            if (!this.isOrdered(middle)) {
+                System.arraycopy(this.array(), this.start, this.buffer, this.start, size);
+
+                new Merger(this.start, middle, middle, this.end, this.start).compute();
+            }
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+
+    /**
+     * Sort this task's range sequentially.
+     */
+    private void sortLeaf() {
+        if (this.ints != null) {
+            Arrays.sort(this.ints, this.start, this.end);
+        } else if (this.longs != null) {
+            Arrays.sort(this.longs, this.start, this.end);
+        } else {
+            Arrays.sort(this.doubles, this.start, this.end);
+        }
+    }
+
+    /**
+     * Return true if the sorted halves are
+     * already in order, so no merge is needed.
+     *
+     * @param   middle  int
+     * @return          boolean
+     */
+    private boolean isOrdered(final int middle) {
+        if (this.ints != null) {
+            return this.ints[middle - 1] <= this.ints[middle];
+        } else if (this.longs != null) {
+            return this.longs[middle - 1] <= this.longs[middle];
+        } else {
+            return Double.compare(this.doubles[middle - 1], this.doubles[middle]) <= 0;
+        }
+    }
+
+    /**
+     * Return the array being sorted.
+     *
+     * @return  java.lang.Object
+     */
+    private Object array() {
+        if (this.ints != null) {
+            return this.ints;
+        }
+
+        return this.longs != null ? this.longs : this.doubles;
+    }
+
+    /**
+     * Merges two sorted runs of the buffer into
+     * the array, splitting the larger run at its
+     * middle and the other at the matching point
+     * while the granularity policy says so.
+     */
+    private final class Merger extends RecursiveAction {
+        /** The start of the first run. */
+        private final int low1;
+
+        /** The end of the first run. */
+        private final int high1;
+
+        /** The start of the second run. */
+        private final int low2;
+
+        /** The end of the second run. */
+        private final int high2;
+
+        /** The first index written in the array. */
+        private final int destination;
+
+        /**
+         * The constructor.
+         *
+         * @param   low1        int
+         * @param   high1       int
+         * @param   low2        int
+         * @param   high2       int
+         * @param   destination int
+         */
+        private Merger(final int low1, final int high1, final int low2, final int high2, final int destination) {
+            super();
+
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.destination = destination;
+        }
+
+        /**
+         * Merge the runs.
+         */
+        @Override
+        protected void compute() {
+            MergeSortAction.this.granularity.checkCancelled();
+
+            final int size1 = this.high1 - this.low1;
+            final int size2 = this.high2 - this.low2;
+
+            // Splitting a run of one element leaves a child the same size as this task
+
+            if (size1 == 0 || size2 == 0 || Math.max(size1, size2) < 2 || !MergeSortAction.this.granularity.shouldSplit(size1 + size2)) {
+                MergeSortAction.this.merge(this.low1, this.high1, this.low2, this.high2, this.destination);
+            } else if (size1 >= size2) {
+                final int middle1 = (this.low1 + this.high1) >>> 1;
+                final int middle2 = MergeSortAction.this.lowerBound(this.low2, this.high2, middle1);
+
+                this.split(middle1, middle2);
+            } else {
+                final int middle2 = (this.low2 + this.high2) >>> 1;
+                final int middle1 = MergeSortAction.this.lowerBound(this.low1, this.high1, middle2);
+
+                this.split(middle1, middle2);
+            }
+        }
+
+        /**
+         * Merge the two halves of the split in parallel.
+         *
+         * @param   middle1 int
+         * @param   middle2 int
+         */
+        private void split(final int middle1, final int middle2) {
+            ForkJoinTask.invokeAll(new Merger(this.low1, middle1, this.low2, middle2, this.destination),
+                    new Merger(middle1, this.high1, middle2, this.high2,
+                            this.destination + (middle1 - this.low1) + (middle2 - this.low2)));
+        }
+    }
+
+    /**
+     * Return the first index in [low, high) of
+     * the buffer whose element is not less than
+     * the element of the buffer at the key index.
+     *
+     * @param   low     int
+     * @param   high    int
+     * @param   key     int
+     * @return          int
+     */
+    private int lowerBound(final int low, final int high, final int key) {
+        int lo = low;
+        int hi = high;
+
+        while (lo < hi) {
+            final int middle = (lo + hi) >>> 1;
+
+            if (this.less(middle, key)) {
+                lo = middle + 1;
+            } else {
+                hi = middle;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Return true if the buffer element at i
+     * is less than the one at j.
+     *
+     * @param   i   int
+     * @param   j   int
+     * @return      boolean
+     */
+    private boolean less(final int i, final int j) {
+        if (this.ints != null) {
+            final int[] source = (int[]) this.buffer;
+
+            return source[i] < source[j];
+        } else if (this.longs != null) {
+            final long[] source = (long[]) this.buffer;
+
+            return source[i] < source[j];
+        } else {
+            final double[] source = (double[]) this.buffer;
+
+            return Double.compare(source[i], source[j]) < 0;
+        }
+    }
+
+    /**
+     * Merge two sorted runs of the buffer
+     * into the array sequentially.
+     *
+     * @param   low1        int
+     * @param   high1       int
+     * @param   low2        int
+     * @param   high2       int
+     * @param   destination int
+     */
+    private void merge(final int low1, final int high1, final int low2, final int high2, final int destination) {
+        int i = low1;
+        int j = low2;
+        int k = destination;
+
+        if (this.ints != null) {
+            final int[] source = (int[]) this.buffer;
+
+            while (i < high1 && j < high2) {
+                this.ints[k++] = source[j] < source[i] ? source[j++] : source[i++];
+            }
+        } else if (this.longs != null) {
+            final long[] source = (long[]) this.buffer;
+
+            while (i < high1 && j < high2) {
+                this.longs[k++] = source[j] < source[i] ? source[j++] : source[i++];
+            }
+        } else {
+            final double[] source = (double[]) this.buffer;
+
+            while (i < high1 && j < high2) {
+                this.doubles[k++] = Double.compare(source[j], source[i]) < 0 ? source[j++] : source[i++];
+            }
+        }
+
+        final Object array = this.array();
+
+        System.arraycopy(this.buffer, i, array, k, high1 - i);
+        System.arraycopy(this.buffer, j, array, k + (high1 - i), high2 - j);
+    }
+}
@@ -0,0 +1,468 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)RadixSortAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action class that sorts a range of an array
+ * of ints or longs with a parallel most significant
+ * digit radix sort, one byte per digit. Each pass
+ * counts and scatters the range in parallel chunks
+ * through a single scratch buffer shared by every
+ * subtask, then the buckets are sorted in parallel
+ * on the next digit. Ranges the granularity policy
+ * will not split are sorted with Arrays.sort. The
+ * buffer may be passed in so that repeated sorts
+ * allocate no more than the per-pass counts.
+ */
+public final class RadixSortAction extends RecursiveAction {
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The number of buckets per digit. */
+    private static final int RADIX = 256;
+
+    /** The bits per digit. */
+    private static final int DIGIT_BITS = 8;
+
+    /** The most chunks a single pass is counted in. */
+    private static final int MAXIMUM_CHUNKS = 64;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(RadixSortAction.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RadixSortAction.class.getName());
+
+    /** The array of ints to sort or null. */
+    private final int[] ints;
+
+    /** The array of longs to sort or null. */
+    private final long[] longs;
+
+    /** The scratch buffer of the same type as the array. */
+    private final Object buffer;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The shift of the digit this task sorts on. */
+    private final int shift;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that sorts an
+     * entire array of ints using the
+     * default workload threshold.
+     *
+     * @param   ints    int[]
+     */
+    public RadixSortAction(final int[] ints) {
+        this(ints, 0, Objects.requireNonNull(ints).length, null, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that sorts a range of an
+     * array of ints. The buffer must be at
+     * least as long as the end of the range
+     * or null to allocate one.
+     *
+     * @param   ints        int[]
+     * @param   start       int
+     * @param   end         int
+     * @param   buffer      int[]
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public RadixSortAction(final int[] ints,
+                           final int start,
+                           final int end,
+                           final int[] buffer,
+                           final GranularityPolicy granularity) {
+        this(Objects.requireNonNull(ints), null,
+                buffer != null ? buffer : new int[end],
+                ints.length, buffer != null ? buffer.length : end, start, end,
+                Integer.SIZE - DIGIT_BITS, granularity);
+    }
+
+    /**
+     * A constructor that sorts an
+     * entire array of longs using the
+     * default workload threshold.
+     *
+     * @param   longs   long[]
+     */
+    public RadixSortAction(final long[] longs) {
+        this(longs, 0, Objects.requireNonNull(longs).length, null, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that sorts a range of an
+     * array of longs. The buffer must be at
+     * least as long as the end of the range
+     * or null to allocate one.
+     *
+     * @param   longs       long[]
+     * @param   start       int
+     * @param   end         int
+     * @param   buffer      long[]
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public RadixSortAction(final long[] longs,
+                           final int start,
+                           final int end,
+                           final long[] buffer,
+                           final GranularityPolicy granularity) {
+        this(null, Objects.requireNonNull(longs),
+                buffer != null ? buffer : new long[end],
+                longs.length, buffer != null ? buffer.length : end, start, end,
+                Long.SIZE - DIGIT_BITS, granularity);
+    }
+
+    /**
+     * The constructor that all the
+     * others delegate to.
+     *
+     * @param   ints            int[]
+     * @param   longs           long[]
+     * @param   buffer          java.lang.Object
+     * @param   length          int
+     * @param   bufferLength    int
+     * @param   start           int
+     * @param   end             int
+     * @param   shift           int
+     * @param   granularity     net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    private RadixSortAction(final int[] ints,
+                            final long[] longs,
+                            final Object buffer,
+                            final int length,
+                            final int bufferLength,
+                            final int start,
+                            final int end,
+                            final int shift,
+                            final GranularityPolicy granularity) {
+        super();
+
+        Objects.checkFromToIndex(start, end, length);
+        Objects.checkFromToIndex(start, end, bufferLength);
+
+        this.ints = ints;
+        this.longs = longs;
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.shift = shift;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The constructor used for subtasks.
+     *
+     * @param   parent  net.jmp.demo.forkjoinpool.actions.RadixSortAction
+     * @param   start   int
+     * @param   end     int
+     */
+    private RadixSortAction(final RadixSortAction parent, final int start, final int end) {
+        super();
+
+        this.ints = parent.ints;
+        this.longs = parent.longs;
+        this.buffer = parent.buffer;
+        this.start = start;
+        this.end = end;
+        this.shift = parent.shift - DIGIT_BITS;
+        this.granularity = parent.granularity;
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    @Override
+    protected void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        final int size = this.end - this.start;
+
+        if (size < 2 || this.shift < 0 || !this.granularity.shouldSplit(size)) {
+            final long startNanos = METRICS.startLeaf();
+
+            if (this.ints != null) {
+                Arrays.sort(this.ints, this.start, this.end);
+            } else {
+                Arrays.sort(this.longs, this.start, this.end);
+            }
+
+            METRICS.recordLeaf(startNanos);
+        } else {
+            METRICS.recordSplit();
+
+            final int[] bucketEnds = this.distribute(size);
+            final RadixSortAction[] buckets = new RadixSortAction[RADIX];
+
+            int count = 0;
+            int bucketStart = this.start;
+
+            for (final int bucketEnd : bucketEnds) {
+                if (bucketEnd - bucketStart > 1) {
+                    buckets[count++] = new RadixSortAction(this, bucketStart, bucketEnd);
+                }
+
+                bucketStart = bucketEnd;
+            }
+
+            ForkJoinTask.invokeAll(Arrays.copyOf(buckets, count));
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+
+    /**
+     * Move the range into bucket order on this
+     * task's digit and return the end of each
+     * bucket. The range is cut into chunks that
+     * are counted, scattered into the buffer and
+     * copied back in parallel; each chunk writes
+     * to its own offsets within every bucket.
+     *
+     * @param   size    int
+     * @return          int[]
+     */
+    private int[] distribute(final int size) {
+        int chunks = 1;
+
+        while (chunks < MAXIMUM_CHUNKS && this.granularity.shouldSplit(size / (chunks << 1))) {
+            chunks <<= 1;
+        }
+
+        final int[][] offsets = new int[chunks][RADIX];
+        final Chunk[] tasks = new Chunk[chunks];
+
+        for (int c = 0; c < chunks; c++) {
+            tasks[c] = new Chunk(offsets[c],
+                    this.start + (int) ((long) size * c / chunks),
+                    this.start + (int) ((long) size * (c + 1) / chunks));
+        }
+
+        this.runPhase(tasks, Phase.COUNT);
+
+        /* Turn the counts into each chunk's first index in every bucket */
+
+        final int[] bucketEnds = new int[RADIX];
+
+        int next = this.start;
+
+        for (int b = 0; b < RADIX; b++) {
+            for (int c = 0; c < chunks; c++) {
+                final int count = offsets[c][b];
+
+                offsets[c][b] = next;
+                next += count;
+            }
+
+            bucketEnds[b] = next;
+        }
+
+        this.runPhase(tasks, Phase.SCATTER);
+        this.runPhase(tasks, Phase.COPY);
+
+        return bucketEnds;
+    }
+
+    /**
+     * Run one phase of every chunk,
+     * forking all but the last.
+     *
+     * @param   tasks   net.jmp.demo.forkjoinpool.actions.RadixSortAction.Chunk[]
+     * @param   phase   net.jmp.demo.forkjoinpool.actions.RadixSortAction.Phase
+     */
+    private void runPhase(final Chunk[] tasks, final Phase phase) {
+        for (final Chunk task : tasks) {
+            task.reinitialize();
+            task.phase = phase;
+        }
+
+        if (tasks.length == 1) {
+            tasks[0].compute();
+        } else {
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Count the elements of [low, high)
+     * into the bucket counts.
+     *
+     * @param   counts  int[]
+     * @param   low     int
+     * @param   high    int
+     */
+    private void count(final int[] counts, final int low, final int high) {
+        final int flip = this.signFlip();
+
+        if (this.ints != null) {
+            for (int i = low; i < high; i++) {
+                counts[((this.ints[i] >>> this.shift) & 0xFF) ^ flip]++;
+            }
+        } else {
+            for (int i = low; i < high; i++) {
+                counts[((int) (this.longs[i] >>> this.shift) & 0xFF) ^ flip]++;
+            }
+        }
+    }
+
+    /**
+     * Scatter the elements of [low, high) into
+     * the buffer at the given bucket offsets.
+     *
+     * @param   offsets int[]
+     * @param   low     int
+     * @param   high    int
+     */
+    private void scatter(final int[] offsets, final int low, final int high) {
+        final int flip = this.signFlip();
+
+        if (this.ints != null) {
+            final int[] target = (int[]) this.buffer;
+
+            for (int i = low; i < high; i++) {
+                final int value = this.ints[i];
+
+                target[offsets[((value >>> this.shift) & 0xFF) ^ flip]++] = value;
+            }
+        } else {
+            final long[] target = (long[]) this.buffer;
+
+            for (int i = low; i < high; i++) {
+                final long value = this.longs[i];
+
+                target[offsets[((int) (value >>> this.shift) & 0xFF) ^ flip]++] = value;
+            }
+        }
+    }
+
+    /**
+     * Return the mask that orders negative values
+     * first when sorting on the sign digit.
+     *
+     * @return  int
+     */
+    private int signFlip() {
+        final int topShift = (this.ints != null ? Integer.SIZE : Long.SIZE) - DIGIT_BITS;
+
+        return this.shift == topShift ? 0x80 : 0;
+    }
+
+    /**
+     * The phases of a distribution pass.
+     */
+    private enum Phase {
+        /** Count the chunk into its buckets. */
+        COUNT,
+        /** Scatter the chunk into the buffer. */
+        SCATTER,
+        /** Copy the chunk's range of the buffer back. */
+        COPY
+    }
+
+    /**
+     * One chunk of a distribution pass. The same
+     * task is reinitialized and run once per phase.
+     */
+    private final class Chunk extends RecursiveAction {
+        /** The counts and then the offsets of this chunk. */
+        private final int[] offsets;
+
+        /** The start of the chunk. */
+        private final int low;
+
+        /** The end of the chunk. */
+        private final int high;
+
+        /** The phase to run. */
+        private Phase phase;
+
+        /**
+         * The constructor.
+         *
+         * @param   offsets int[]
+         * @param   low     int
+         * @param   high    int
+         */
+        private Chunk(final int[] offsets, final int low, final int high) {
+            super();
+
+            this.offsets = offsets;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Run the phase on this chunk.
+         */
+        @Override
+        protected void compute() {
+            RadixSortAction.this.granularity.checkCancelled();
+
+            switch (this.phase) {
+                case COUNT -> RadixSortAction.this.count(this.offsets, this.low, this.high);
+                case SCATTER -> RadixSortAction.this.scatter(this.offsets, this.low, this.high);
+                case COPY -> System.arraycopy(RadixSortAction.this.buffer, this.low,
+                        RadixSortAction.this.ints != null ? RadixSortAction.this.ints : RadixSortAction.this.longs,
+                        this.low, this.high - this.low);
+            }
+        }
+    }
+}
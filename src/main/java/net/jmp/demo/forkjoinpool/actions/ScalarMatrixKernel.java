@@ -0,0 +1,188 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)ScalarMatrixKernel.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The scalar matrix kernel. Four rows by four
+ * columns of c are accumulated in sixteen locals
+ * across the whole of k, so each element of a and
+ * b loaded is used four times; the rows and columns
+ * left over are computed as dot products.
+ */
+final class ScalarMatrixKernel implements MatrixKernel {
+    /** The single instance. */
+    static final ScalarMatrixKernel INSTANCE = new ScalarMatrixKernel();
+
+    /** The rows and columns of a tile. */
+    private static final int TILE = 4;
+
+    /**
+     * The default constructor.
+     */
+    private ScalarMatrixKernel() {
+        super();
+    }
+
+    /**
+     * Add the product of the m by k block of a
+     * and the k by n block of b to the m by n
+     * block of c.
+     *
+     * @param   a       double[]
+     * @param   aOffset int
+     * @param   lda     int
+     * @param   b       double[]
+     * @param   bOffset int
+     * @param   ldb     int
+     * @param   c       double[]
+     * @param   cOffset int
+     * @param   ldc     int
+     * @param   m       int
+     * @param   n       int
+     * @param   k       int
+     */
+    @Override
+    public void multiplyAdd(final double[] a, final int aOffset, final int lda,
+                            final double[] b, final int bOffset, final int ldb,
+                            final double[] c, final int cOffset, final int ldc,
+                            final int m, final int n, final int k) {
+        final int rows = m - m % TILE;
+        final int columns = n - n % TILE;
+
+        for (int i = 0; i < rows; i += TILE) {
+            final int a0 = aOffset + i * lda;
+            final int a1 = a0 + lda;
+            final int a2 = a1 + lda;
+            final int a3 = a2 + lda;
+
+            for (int j = 0; j < columns; j += TILE) {
+                double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+                double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+                double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+                double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+                for (int p = 0; p < k; p++) {
+                    final int row = bOffset + p * ldb + j;
+                    final double b0 = b[row];
+                    final double b1 = b[row + 1];
+                    final double b2 = b[row + 2];
+                    final double b3 = b[row + 3];
+
+                    double x = a[a0 + p];
+
+                    c00 += x * b0; c01 += x * b1; c02 += x * b2; c03 += x * b3;
+
+                    x = a[a1 + p];
+
+                    c10 += x * b0; c11 += x * b1; c12 += x * b2; c13 += x * b3;
+
+                    x = a[a2 + p];
+
+                    c20 += x * b0; c21 += x * b1; c22 += x * b2; c23 += x * b3;
+
+                    x = a[a3 + p];
+
+                    c30 += x * b0; c31 += x * b1; c32 += x * b2; c33 += x * b3;
+                }
+
+                int r = cOffset + i * ldc + j;
+
+                c[r] += c00; c[r + 1] += c01; c[r + 2] += c02; c[r + 3] += c03;
+
+                r += ldc;
+
+                c[r] += c10; c[r + 1] += c11; c[r + 2] += c12; c[r + 3] += c13;
+
+                r += ldc;
+
+                c[r] += c20; c[r + 1] += c21; c[r + 2] += c22; c[r + 3] += c23;
+
+                r += ldc;
+
+                c[r] += c30; c[r + 1] += c31; c[r + 2] += c32; c[r + 3] += c33;
+            }
+        }
+
+        dotProducts(a, aOffset, lda, b, bOffset, ldb, c, cOffset, ldc, 0, rows, columns, n, k);
+        dotProducts(a, aOffset, lda, b, bOffset, ldb, c, cOffset, ldc, rows, m, 0, n, k);
+    }
+
+    /**
+     * Add the dot products for rows [rowFrom, rowTo)
+     * and columns [columnFrom, columnTo) of the block
+     * of c.
+     *
+     * @param   a           double[]
+     * @param   aOffset     int
+     * @param   lda         int
+     * @param   b           double[]
+     * @param   bOffset     int
+     * @param   ldb         int
+     * @param   c           double[]
+     * @param   cOffset     int
+     * @param   ldc         int
+     * @param   rowFrom     int
+     * @param   rowTo       int
+     * @param   columnFrom  int
+     * @param   columnTo    int
+     * @param   k           int
+     */
+    static void dotProducts(final double[] a, final int aOffset, final int lda,
+                            final double[] b, final int bOffset, final int ldb,
+                            final double[] c, final int cOffset, final int ldc,
+                            final int rowFrom, final int rowTo,
+                            final int columnFrom, final int columnTo,
+                            final int k) {
+        for (int i = rowFrom; i < rowTo; i++) {
+            final int row = aOffset + i * lda;
+
+            for (int j = columnFrom; j < columnTo; j++) {
+                double sum = 0;
+
+                for (int p = 0; p < k; p++) {
+                    sum += a[row + p] * b[bOffset + p * ldb + j];
+                }
+
+                c[cOffset + i * ldc + j] += sum;
+            }
+        }
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,71 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)ScalarSquareRootKernel.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The scalar square root kernel.
+ */
+final class ScalarSquareRootKernel implements SquareRootKernel {
+    /** The single instance. */
+    static final ScalarSquareRootKernel INSTANCE = new ScalarSquareRootKernel();
+
+    /**
+     * The default constructor.
+     */
+    private ScalarSquareRootKernel() {
+        super();
+    }
+
+    /**
+     * Replace each element in the range
+     * with its square root.
+     *
+     * @param   data    double[]
+     * @param   from    int
+     * @param   to      int
+     */
+    @Override
+    public void apply(final double[] data, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            data[i] = Math.sqrt(data[i]);
+        }
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "scalar";
+    }
+}
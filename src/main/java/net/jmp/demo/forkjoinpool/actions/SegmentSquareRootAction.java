@@ -0,0 +1,153 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)SegmentSquareRootAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action class that computes the square
+ * roots of the doubles in a memory segment in
+ * place. Segments are split into slices with
+ * long offsets, so native or mapped data of more
+ * than 2^31 elements can be transformed without
+ * being copied onto the heap. The segment must
+ * be accessible from the pool's worker threads,
+ * e.g. allocated by a shared, automatic or
+ * global arena, or wrap an array. The doubles
+ * are accessed without assuming any alignment,
+ * so segments that wrap a byte array or start
+ * at an odd offset can be transformed too.
+ */
+public final class SegmentSquareRootAction extends RecursiveAction {
+    /** The default workload threshold in elements. */
+    public static final long DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The layout of an unaligned double in the segment. */
+    private static final ValueLayout.OfDouble LAYOUT = ValueLayout.JAVA_DOUBLE_UNALIGNED;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(SegmentSquareRootAction.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentSquareRootAction.class.getName());
+
+    /** The segment of doubles to transform to their square roots. */
+    private final transient MemorySegment segment;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that uses the
+     * default workload threshold.
+     *
+     * @param   segment java.lang.foreign.MemorySegment
+     */
+    public SegmentSquareRootAction(final MemorySegment segment) {
+        this(segment, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   segment     java.lang.foreign.MemorySegment
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public SegmentSquareRootAction(final MemorySegment segment, final GranularityPolicy granularity) {
+        super();
+
+        if (Objects.requireNonNull(segment).byteSize() % LAYOUT.byteSize() != 0) {
+            throw new IllegalArgumentException("Segment size is not a multiple of a double: " + segment.byteSize());
+        }
+
+        this.segment = segment;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    @Override
+    protected void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        final long elements = this.segment.byteSize() / LAYOUT.byteSize();
+
+        if (elements < 2 || !this.granularity.shouldSplit(elements)) {
+            final long startNanos = METRICS.startLeaf();
+
+            for (long i = 0; i < elements; i++) {
+                this.segment.setAtIndex(LAYOUT, i, Math.sqrt(this.segment.getAtIndex(LAYOUT, i)));
+            }
+
+            METRICS.recordLeaf(startNanos);
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Done: {}", Thread.currentThread().getName());
+            }
+        } else {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            METRICS.recordSplit();
+
+            final long middle = (elements >>> 1) * LAYOUT.byteSize();
+
+            ForkJoinTask.invokeAll(new SegmentSquareRootAction(this.segment.asSlice(0, middle), this.granularity),
+                    new SegmentSquareRootAction(this.segment.asSlice(middle), this.granularity));
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+}
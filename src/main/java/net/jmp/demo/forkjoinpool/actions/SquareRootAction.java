@@ -1,11 +1,12 @@
 package net.jmp.demo.forkjoinpool.actions;
 
 /*
+ * (#)SquareRootAction.java 0.5.0   10/17/2026
  * (#)SquareRootAction.java 0.4.0   09/24/2024
  * (#)SquareRootAction.java 0.2.0   09/14/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.5.0
  * @since     0.2.0
  *
  * MIT License
@@ -36,6 +37,10 @@ import java.util.Objects;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.RecursiveAction;
 
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -46,11 +51,14 @@ import org.slf4j.LoggerFactory;
  * roots of an array of doubles.
  */
 public final class SquareRootAction extends RecursiveAction {
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(SquareRootAction.class);
+
     /** The logger. */
-    private final transient Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+    private static final Logger LOGGER = LoggerFactory.getLogger(SquareRootAction.class.getName());
 
-    /** The threshold for the creation of subtasks. */
-    private final int workloadThreshold = 1_000;
+    /** The default threshold for the creation of subtasks. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 1_000;
 
     /** The array of doubles to transform to their square roots. */
     private final double[] data;
@@ -61,12 +69,62 @@ public final class SquareRootAction extends RecursiveAction {
     /** The ending point in the array. */
     private final int end;
 
-    public SquareRootAction(double[] data, int start, int end) {
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /** The kernel run by the leaves. */
+    private final SquareRootKernel kernel;
+
+    /**
+     * A constructor that uses the
+     * default workload threshold.
+     *
+     * @param   data    double[]
+     * @param   start   int
+     * @param   end     int
+     */
+    public SquareRootAction(final double[] data, final int start, final int end) {
+        this(data, start, end, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   data        double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public SquareRootAction(final double[] data,
+                            final int start,
+                            final int end,
+                            final GranularityPolicy granularity) {
+        this(data, start, end, granularity, SquareRootKernel.defaultKernel());
+    }
+
+    /**
+     * A constructor that takes a granularity
+     * policy and the kernel run by the leaves.
+     *
+     * @param   data        double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   kernel      net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     */
+    public SquareRootAction(final double[] data,
+                            final int start,
+                            final int end,
+                            final GranularityPolicy granularity,
+                            final SquareRootKernel kernel) {
         super();
 
         this.data = Objects.requireNonNull(data);
         this.start = start;
         this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+        this.kernel = Objects.requireNonNull(kernel);
     }
 
     /**
@@ -74,23 +132,27 @@ public final class SquareRootAction extends RecursiveAction {
      */
     @Override
     protected void compute() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
+        this.granularity.checkCancelled();
+
         /*
-         * If the number of elements are less
-         * than the workload threshold then
-         * operate on the workload
+         * If the granularity policy does not
+         * call for a split then operate on
+         * the workload
          */
 
-        if ((this.end - this.start) < this.workloadThreshold) {
-            for (int i = this.start; i < this.end; i++) {
-                this.data[i] = Math.sqrt(data[i]);
-            }
+        if ((this.end - this.start) < 2 || !this.granularity.shouldSplit(this.end - this.start)) {
+            final long startNanos = METRICS.startLeaf();
+
+            this.kernel.apply(this.data, this.start, this.end);
 
-            if (this.logger.isDebugEnabled()) {
-                this.logger.debug("Done: {}", Thread.currentThread().getName());
+            METRICS.recordLeaf(startNanos);
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Done: {}", Thread.currentThread().getName());
             }
         } else {
             /*
@@ -98,18 +160,20 @@ public final class SquareRootAction extends RecursiveAction {
              * data into halves using a midpoint
              */
 
-            if (this.logger.isDebugEnabled()) {
-                this.logger.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
             }
 
+            METRICS.recordSplit();
+
             final int middle = (this.start + this.end) / 2;
 
-            ForkJoinTask.invokeAll(new SquareRootAction(this.data, this.start, middle),
-                    new SquareRootAction(this.data, middle, this.end));
+            ForkJoinTask.invokeAll(new SquareRootAction(this.data, this.start, middle, this.granularity, this.kernel),
+                    new SquareRootAction(this.data, middle, this.end, this.granularity, this.kernel));
         }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
         }
     }
 }
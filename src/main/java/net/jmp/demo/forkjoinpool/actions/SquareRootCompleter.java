@@ -0,0 +1,170 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)SquareRootCompleter.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.CountedCompleter;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A counted completer that computes the square
+ * roots of a range of an array of doubles. Unlike
+ * the square root action it never joins: right
+ * halves are forked with a pending count while
+ * this task descends into the left half, and the
+ * last task to finish completes its parent.
+ */
+public final class SquareRootCompleter extends CountedCompleter<Void> {
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(SquareRootCompleter.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SquareRootCompleter.class.getName());
+
+    /** The array of doubles to transform to their square roots. */
+    private final double[] data;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /** The kernel run by the leaves. */
+    private final SquareRootKernel kernel;
+
+    /**
+     * A constructor that uses the default
+     * workload threshold and kernel.
+     *
+     * @param   data    double[]
+     * @param   start   int
+     * @param   end     int
+     */
+    public SquareRootCompleter(final double[] data, final int start, final int end) {
+        this(data, start, end, GranularityPolicy.fixed(SquareRootAction.DEFAULT_WORKLOAD_THRESHOLD), SquareRootKernel.defaultKernel());
+    }
+
+    /**
+     * A constructor that takes a granularity
+     * policy and the kernel run by the leaves.
+     *
+     * @param   data        double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   kernel      net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     */
+    public SquareRootCompleter(final double[] data,
+                               final int start,
+                               final int end,
+                               final GranularityPolicy granularity,
+                               final SquareRootKernel kernel) {
+        this(null, Objects.requireNonNull(data), start, end, granularity, kernel);
+
+        Objects.checkFromToIndex(start, end, data.length);
+    }
+
+    /**
+     * The constructor used for subtasks.
+     *
+     * @param   parent      java.util.concurrent.CountedCompleter&lt;?&gt;
+     * @param   data        double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   kernel      net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     */
+    private SquareRootCompleter(final CountedCompleter<?> parent,
+                                final double[] data,
+                                final int start,
+                                final int end,
+                                final GranularityPolicy granularity,
+                                final SquareRootKernel kernel) {
+        super(parent);
+
+        this.data = data;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+        this.kernel = Objects.requireNonNull(kernel);
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    @Override
+    public void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        int high = this.end;
+
+        while (high - this.start > 1 && this.granularity.shouldSplit(high - this.start)) {
+            final int middle = (this.start + high) >>> 1;
+
+            METRICS.recordSplit();
+
+            this.addToPendingCount(1);
+
+            new SquareRootCompleter(this, this.data, middle, high, this.granularity, this.kernel).fork();
+
+            high = middle;
+        }
+
+        final long startNanos = METRICS.startLeaf();
+
+        this.kernel.apply(this.data, this.start, high);
+
+        METRICS.recordLeaf(startNanos);
+
+        this.propagateCompletion();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+}
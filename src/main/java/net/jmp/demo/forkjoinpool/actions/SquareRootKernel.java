@@ -0,0 +1,130 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)SquareRootKernel.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+/**
+ * The square root kernel interface. A kernel
+ * transforms a range of an array of doubles in
+ * place and is run by each leaf of the square
+ * root action.
+ */
+@FunctionalInterface
+public interface SquareRootKernel {
+    /** The system property that selects the default kernel. */
+    public static final String KERNEL_PROPERTY = "net.jmp.demo.forkjoinpool.sqrt.kernel";
+
+    /** The name of the vector incubator module. */
+    public static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Replace each element in the range
+     * with its square root.
+     *
+     * @param   data    double[]
+     * @param   from    int
+     * @param   to      int
+     */
+    public void apply(double[] data, int from, int to);
+
+    /**
+     * Return the scalar kernel.
+     *
+     * @return  net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     */
+    public static SquareRootKernel scalar() {
+        return ScalarSquareRootKernel.INSTANCE;
+    }
+
+    /**
+     * Return true if the vector incubator
+     * module has been resolved, i.e. the
+     * JVM was started with --add-modules
+     * jdk.incubator.vector.
+     *
+     * @return  boolean
+     */
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    /**
+     * Return the vector kernel. The class is
+     * loaded reflectively so that nothing
+     * links against the incubator module
+     * unless it is present.
+     *
+     * @return  net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     * @throws  java.lang.UnsupportedOperationException When the module is missing
+     */
+    public static SquareRootKernel vector() {
+        if (!isVectorAvailable()) {
+            throw new UnsupportedOperationException("The " + VECTOR_MODULE + " module is not available");
+        }
+
+        try {
+            return (SquareRootKernel) Class.forName(SquareRootKernel.class.getPackageName() + ".VectorSquareRootKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("The vector kernel could not be loaded", e);
+        }
+    }
+
+    /**
+     * Return a kernel by name: 'scalar', 'vector'
+     * or 'auto', which is the vector kernel when
+     * the module is available and the scalar one
+     * otherwise.
+     *
+     * @param   name    java.lang.String
+     * @return          net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     */
+    public static SquareRootKernel forName(final String name) {
+        return switch (Objects.requireNonNull(name).trim()) {
+            case "scalar" -> scalar();
+            case "vector" -> vector();
+            case "auto" -> isVectorAvailable() ? vector() : scalar();
+            default -> throw new IllegalArgumentException("Unknown square root kernel: " + name);
+        };
+    }
+
+    /**
+     * Return the kernel named by the system
+     * property, which defaults to 'auto'.
+     *
+     * @return  net.jmp.demo.forkjoinpool.actions.SquareRootKernel
+     */
+    public static SquareRootKernel defaultKernel() {
+        return forName(System.getProperty(KERNEL_PROPERTY, "auto"));
+    }
+}
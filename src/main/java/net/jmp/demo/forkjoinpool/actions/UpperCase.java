@@ -0,0 +1,163 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)UpperCase.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Upper-casing of char ranges for the capitalizer
+ * action and completer. A quick scan of each range
+ * selects one of two engines: a branch-free loop for
+ * ranges that are all ASCII, which the JIT compiler
+ * can vectorize, or a code point loop that maps
+ * supplementary characters as whole surrogate pairs.
+ * Both use the locale-independent one-to-one mapping
+ * of Character.toUpperCase, so the text never
+ * changes length.
+ */
+final class UpperCase {
+    /** The bits that are zero in every ASCII char. */
+    private static final int NON_ASCII_BITS = 0xFF80;
+
+    /**
+     * The private constructor.
+     */
+    private UpperCase() {
+        super();
+    }
+
+    /**
+     * Upper-case the range in place with
+     * the engine that suits its contents.
+     *
+     * @param   characters  char[]
+     * @param   from        int
+     * @param   to          int
+     */
+    static void apply(final char[] characters, final int from, final int to) {
+        if (isAscii(characters, from, to)) {
+            applyAscii(characters, from, to);
+        } else {
+            applyCodePoints(characters, from, to);
+        }
+    }
+
+    /**
+     * Return true if every char in
+     * the range is ASCII.
+     *
+     * @param   characters  char[]
+     * @param   from        int
+     * @param   to          int
+     * @return              boolean
+     */
+    static boolean isAscii(final char[] characters, final int from, final int to) {
+        int bits = 0;
+
+        for (int i = from; i < to; i++) {
+            bits |= characters[i];
+        }
+
+        return (bits & NON_ASCII_BITS) == 0;
+    }
+
+    /**
+     * Upper-case a range of ASCII chars. The sign
+     * of ('a' - 1 - c) &amp; (c - 'z' - 1) is set
+     * only for lower case letters, so the loop
+     * subtracts 32 from those without branching.
+     *
+     * @param   characters  char[]
+     * @param   from        int
+     * @param   to          int
+     */
+    static void applyAscii(final char[] characters, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final int c = characters[i];
+
+            characters[i] = (char) (c - (((('a' - 1) - c) & (c - ('z' + 1))) >>> 31 << 5));
+        }
+    }
+
+    /**
+     * Upper-case a range by code point. A mapping
+     * that would change the number of chars, which
+     * Character.toUpperCase does not produce today,
+     * leaves the code point as it is.
+     *
+     * @param   characters  char[]
+     * @param   from        int
+     * @param   to          int
+     */
+    static void applyCodePoints(final char[] characters, final int from, final int to) {
+        int i = from;
+
+        while (i < to) {
+            final char c = characters[i];
+
+            if (!Character.isSurrogate(c)) {
+                characters[i++] = Character.toUpperCase(c);
+            } else {
+                final int codePoint = Character.codePointAt(characters, i, to);
+                final int count = Character.charCount(codePoint);
+                final int upper = Character.toUpperCase(codePoint);
+
+                if (Character.charCount(upper) == count) {
+                    Character.toChars(upper, characters, i);
+                }
+
+                i += count;
+            }
+        }
+    }
+
+    /**
+     * Return the index to split a range at,
+     * moving the middle past a low surrogate
+     * so that no surrogate pair is divided.
+     * The result is the end of the range when
+     * the range is a single surrogate pair.
+     *
+     * @param   characters  char[]
+     * @param   from        int
+     * @param   to          int
+     * @return              int
+     */
+    static int splitPoint(final char[] characters, final int from, final int to) {
+        final int middle = (from + to) >>> 1;
+
+        if (middle > from
+                && Character.isHighSurrogate(characters[middle - 1])
+                && Character.isLowSurrogate(characters[middle])) {
+            return middle + 1;
+        }
+
+        return middle;
+    }
+}
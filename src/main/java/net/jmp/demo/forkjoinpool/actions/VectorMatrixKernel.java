@@ -0,0 +1,131 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)VectorMatrixKernel.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The matrix kernel built on the vector API. Four
+ * rows by one vector of columns of c are held in
+ * registers across the whole of k and updated with
+ * fused multiply-adds of a broadcast element of a
+ * and a vector loaded from a row of b. Columns that
+ * do not fill a vector and rows that do not fill a
+ * tile are computed as dot products. Only load this
+ * class through MatrixKernel.vector().
+ */
+final class VectorMatrixKernel implements MatrixKernel {
+    /** The preferred species of this platform. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /** The rows of a tile. */
+    private static final int TILE = 4;
+
+    /**
+     * The default constructor.
+     */
+    VectorMatrixKernel() {
+        super();
+    }
+
+    /**
+     * Add the product of the m by k block of a
+     * and the k by n block of b to the m by n
+     * block of c.
+     *
+     * @param   a       double[]
+     * @param   aOffset int
+     * @param   lda     int
+     * @param   b       double[]
+     * @param   bOffset int
+     * @param   ldb     int
+     * @param   c       double[]
+     * @param   cOffset int
+     * @param   ldc     int
+     * @param   m       int
+     * @param   n       int
+     * @param   k       int
+     */
+    @Override
+    public void multiplyAdd(final double[] a, final int aOffset, final int lda,
+                            final double[] b, final int bOffset, final int ldb,
+                            final double[] c, final int cOffset, final int ldc,
+                            final int m, final int n, final int k) {
+        final int rows = m - m % TILE;
+        final int columns = SPECIES.loopBound(n);
+
+        for (int i = 0; i < rows; i += TILE) {
+            final int a0 = aOffset + i * lda;
+            final int a1 = a0 + lda;
+            final int a2 = a1 + lda;
+            final int a3 = a2 + lda;
+            final int c0 = cOffset + i * ldc;
+            final int c1 = c0 + ldc;
+            final int c2 = c1 + ldc;
+            final int c3 = c2 + ldc;
+
+            for (int j = 0; j < columns; j += SPECIES.length()) {
+                DoubleVector v0 = DoubleVector.fromArray(SPECIES, c, c0 + j);
+                DoubleVector v1 = DoubleVector.fromArray(SPECIES, c, c1 + j);
+                DoubleVector v2 = DoubleVector.fromArray(SPECIES, c, c2 + j);
+                DoubleVector v3 = DoubleVector.fromArray(SPECIES, c, c3 + j);
+
+                for (int p = 0; p < k; p++) {
+                    final DoubleVector row = DoubleVector.fromArray(SPECIES, b, bOffset + p * ldb + j);
+
+                    v0 = DoubleVector.broadcast(SPECIES, a[a0 + p]).fma(row, v0);
+                    v1 = DoubleVector.broadcast(SPECIES, a[a1 + p]).fma(row, v1);
+                    v2 = DoubleVector.broadcast(SPECIES, a[a2 + p]).fma(row, v2);
+                    v3 = DoubleVector.broadcast(SPECIES, a[a3 + p]).fma(row, v3);
+                }
+
+                v0.intoArray(c, c0 + j);
+                v1.intoArray(c, c1 + j);
+                v2.intoArray(c, c2 + j);
+                v3.intoArray(c, c3 + j);
+            }
+        }
+
+        ScalarMatrixKernel.dotProducts(a, aOffset, lda, b, bOffset, ldb, c, cOffset, ldc, 0, rows, columns, n, k);
+        ScalarMatrixKernel.dotProducts(a, aOffset, lda, b, bOffset, ldb, c, cOffset, ldc, rows, m, 0, n, k);
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "vector(" + SPECIES + ")";
+    }
+}
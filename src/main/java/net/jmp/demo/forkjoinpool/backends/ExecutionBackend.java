@@ -0,0 +1,167 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)ExecutionBackend.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+/**
+ * The execution backend interface. A backend
+ * reduces a splittable source with a leaf
+ * accumulator and a combiner, splitting while
+ * the granularity policy says so, on its own
+ * kind of threads. The same reduction can so
+ * be run on each backend and compared.
+ */
+public interface ExecutionBackend extends AutoCloseable {
+    /** The name of the fork-join backend. */
+    public static final String FORK_JOIN = "forkjoin";
+
+    /** The name of the virtual thread backend. */
+    public static final String VIRTUAL_THREADS = "virtual";
+
+    /** The name of the structured concurrency backend. */
+    public static final String STRUCTURED = "structured";
+
+    /**
+     * Return the name of this backend.
+     *
+     * @return  java.lang.String
+     */
+    public String getName();
+
+    /**
+     * Reduce a source.
+     *
+     * @param   <S>         The type of source
+     * @param   <A>         The type of result
+     * @param   source      S
+     * @param   splitter    net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;S&gt;
+     * @param   leaf        java.util.function.Function&lt;? super S, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              A
+     */
+    public <S, A> A reduce(S source,
+                           ParallelReduce.Splitter<S> splitter,
+                           Function<? super S, ? extends A> leaf,
+                           BinaryOperator<A> combiner,
+                           GranularityPolicy granularity);
+
+    /**
+     * Release the threads owned by this
+     * backend. Pools passed in by the
+     * caller are not shut down.
+     */
+    @Override
+    public void close();
+
+    /**
+     * Return a backend that runs
+     * reductions on a fork-join pool.
+     *
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @return          net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     */
+    public static ExecutionBackend forkJoin(final ForkJoinPool pool) {
+        return new ForkJoinBackend(pool);
+    }
+
+    /**
+     * Return a backend that runs every
+     * split on a new virtual thread.
+     *
+     * @return  net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     */
+    public static ExecutionBackend virtualThreads() {
+        return new VirtualThreadBackend();
+    }
+
+    /**
+     * Return a backend that runs both halves
+     * of every split on virtual threads in a
+     * scope that does not outlive the split
+     * and cancels the other half on failure.
+     *
+     * @return  net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     */
+    public static ExecutionBackend structured() {
+        return new StructuredBackend();
+    }
+
+    /**
+     * Return a backend by name: 'forkjoin',
+     * 'virtual' or 'structured'. The pool is
+     * only used by the fork-join backend.
+     *
+     * @param   name    java.lang.String
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @return          net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     */
+    public static ExecutionBackend forName(final String name, final ForkJoinPool pool) {
+        return switch (Objects.requireNonNull(name).trim()) {
+            case FORK_JOIN -> forkJoin(pool);
+            case VIRTUAL_THREADS -> virtualThreads();
+            case STRUCTURED -> structured();
+            default -> throw new IllegalArgumentException("Unknown execution backend: " + name);
+        };
+    }
+
+    /**
+     * Return the backends named in a comma
+     * separated list such as 'forkjoin,virtual'.
+     *
+     * @param   names   java.lang.String
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @return          java.util.List&lt;net.jmp.demo.forkjoinpool.backends.ExecutionBackend&gt;
+     */
+    public static List<ExecutionBackend> forNames(final String names, final ForkJoinPool pool) {
+        final List<ExecutionBackend> backends = new ArrayList<>();
+
+        for (final String name : Objects.requireNonNull(names).split(",")) {
+            if (!name.isBlank()) {
+                backends.add(forName(name, pool));
+            }
+        }
+
+        return backends;
+    }
+}
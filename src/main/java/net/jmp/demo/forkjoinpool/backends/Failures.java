@@ -0,0 +1,74 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)Failures.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A utility class that turns the failure of
+ * a subtask running on another thread back
+ * into the exception the leaf threw.
+ */
+final class Failures {
+    /**
+     * The default constructor.
+     */
+    private Failures() {
+        super();
+    }
+
+    /**
+     * Rethrow the cause of a failed subtask
+     * unchecked, restoring the interrupt
+     * status when the wait was interrupted.
+     *
+     * @param   e   java.lang.Exception
+     * @return      java.lang.RuntimeException Never; declared so callers can throw it
+     */
+    static RuntimeException rethrow(final Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+
+        final Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        throw new CompletionException(cause);
+    }
+}
@@ -0,0 +1,103 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)ForkJoinBackend.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+/**
+ * The backend that runs reductions
+ * as parallel reduce tasks on a
+ * fork-join pool.
+ */
+final class ForkJoinBackend implements ExecutionBackend {
+    /** The pool. */
+    private final ForkJoinPool pool;
+
+    /**
+     * The constructor.
+     *
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     */
+    ForkJoinBackend(final ForkJoinPool pool) {
+        super();
+
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Return the name of this backend.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getName() {
+        return FORK_JOIN;
+    }
+
+    /**
+     * Reduce a source.
+     *
+     * @param   <S>         The type of source
+     * @param   <A>         The type of result
+     * @param   source      S
+     * @param   splitter    net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;S&gt;
+     * @param   leaf        java.util.function.Function&lt;? super S, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              A
+     */
+    @Override
+    public <S, A> A reduce(final S source,
+                           final ParallelReduce.Splitter<S> splitter,
+                           final Function<? super S, ? extends A> leaf,
+                           final BinaryOperator<A> combiner,
+                           final GranularityPolicy granularity) {
+        return this.pool.invoke(new ParallelReduce<>(source, splitter, leaf, combiner, granularity));
+    }
+
+    /**
+     * The pool belongs to the caller
+     * so there is nothing to release.
+     */
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+}
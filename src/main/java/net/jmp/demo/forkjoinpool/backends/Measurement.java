@@ -0,0 +1,219 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)Measurement.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import java.util.function.Supplier;
+
+/**
+ * The throughput and latency of a workload
+ * run repeatedly on one backend. Warmup runs
+ * are discarded; each measured run is timed
+ * separately and the wall time of all of them
+ * gives the throughput.
+ */
+public final class Measurement {
+    /** Receives the results so the runs cannot be optimized away. */
+    private static volatile Object sink;
+
+    /** The name of the backend. */
+    private final String backend;
+
+    /** The name of the workload. */
+    private final String workload;
+
+    /** The sorted latencies of the measured runs in nanoseconds. */
+    private final long[] latencies;
+
+    /** The wall time of the measured runs in nanoseconds. */
+    private final long wallNanos;
+
+    /**
+     * The constructor.
+     *
+     * @param   backend     java.lang.String
+     * @param   workload    java.lang.String
+     * @param   latencies   long[]
+     * @param   wallNanos   long
+     */
+    private Measurement(final String backend,
+                        final String workload,
+                        final long[] latencies,
+                        final long wallNanos) {
+        super();
+
+        this.backend = backend;
+        this.workload = workload;
+        this.latencies = latencies;
+        this.wallNanos = wallNanos;
+    }
+
+    /**
+     * Run a workload the given number of warmup
+     * and measured times and return the
+     * measurement of the measured runs.
+     *
+     * @param   backend     java.lang.String
+     * @param   workload    java.lang.String
+     * @param   warmups     int
+     * @param   iterations  int
+     * @param   run         java.util.function.Supplier&lt;?&gt;
+     * @return              net.jmp.demo.forkjoinpool.backends.Measurement
+     */
+    public static Measurement measure(final String backend,
+                                      final String workload,
+                                      final int warmups,
+                                      final int iterations,
+                                      final Supplier<?> run) {
+        Objects.requireNonNull(backend);
+        Objects.requireNonNull(workload);
+        Objects.requireNonNull(run);
+
+        if (warmups < 0 || iterations < 1) {
+            throw new IllegalArgumentException("Invalid iterations: " + warmups + " warmups, " + iterations + " measured");
+        }
+
+        for (int i = 0; i < warmups; i++) {
+            sink = run.get();
+        }
+
+        final long[] latencies = new long[iterations];
+        final long wallStart = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+
+            sink = run.get();
+
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        final long wallNanos = System.nanoTime() - wallStart;
+
+        Arrays.sort(latencies);
+
+        return new Measurement(backend, workload, latencies, wallNanos);
+    }
+
+    /**
+     * Return the name of the backend.
+     *
+     * @return  java.lang.String
+     */
+    public String getBackend() {
+        return this.backend;
+    }
+
+    /**
+     * Return the name of the workload.
+     *
+     * @return  java.lang.String
+     */
+    public String getWorkload() {
+        return this.workload;
+    }
+
+    /**
+     * Return the number of measured runs.
+     *
+     * @return  int
+     */
+    public int getIterations() {
+        return this.latencies.length;
+    }
+
+    /**
+     * Return the wall time of the
+     * measured runs in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getWallNanos() {
+        return this.wallNanos;
+    }
+
+    /**
+     * Return the throughput in runs per second.
+     *
+     * @return  double
+     */
+    public double getThroughput() {
+        return this.latencies.length * 1e9 / Math.max(1, this.wallNanos);
+    }
+
+    /**
+     * Return the mean latency in nanoseconds.
+     *
+     * @return  double
+     */
+    public double getMeanLatencyNanos() {
+        return (double) Arrays.stream(this.latencies).sum() / this.latencies.length;
+    }
+
+    /**
+     * Return the latency at a percentile
+     * between 0 and 100 in nanoseconds,
+     * using the nearest rank.
+     *
+     * @param   percentile  double
+     * @return              long
+     */
+    public long getLatencyNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+
+        final int rank = (int) Math.ceil(percentile / 100 * this.latencies.length);
+
+        return this.latencies[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Return the string representation
+     * as key=value pairs.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return String.format("backend=%s workload=%s iterations=%d throughput=%.2f/s meanLatencyMicros=%.1f p50LatencyMicros=%.1f p99LatencyMicros=%.1f maxLatencyMicros=%.1f",
+                this.backend,
+                this.workload,
+                this.latencies.length,
+                this.getThroughput(),
+                this.getMeanLatencyNanos() / 1_000,
+                this.getLatencyNanos(50) / 1_000.0,
+                this.getLatencyNanos(99) / 1_000.0,
+                this.getLatencyNanos(100) / 1_000.0);
+    }
+}
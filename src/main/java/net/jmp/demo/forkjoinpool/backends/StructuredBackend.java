@@ -0,0 +1,153 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)StructuredBackend.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+/**
+ * The backend that runs both halves of every
+ * split on virtual threads inside a scope that
+ * is closed before the split returns, so no
+ * subtask outlives its parent. The first half
+ * to fail cancels the other one, as a
+ * shutdown-on-failure task scope would.
+ * StructuredTaskScope itself is a preview API
+ * in Java 23, so the scope is an executor
+ * closed by try-with-resources.
+ */
+final class StructuredBackend implements ExecutionBackend {
+    /**
+     * The constructor.
+     */
+    StructuredBackend() {
+        super();
+    }
+
+    /**
+     * Return the name of this backend.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getName() {
+        return STRUCTURED;
+    }
+
+    /**
+     * Reduce a source.
+     *
+     * @param   <S>         The type of source
+     * @param   <A>         The type of result
+     * @param   source      S
+     * @param   splitter    net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;S&gt;
+     * @param   leaf        java.util.function.Function&lt;? super S, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              A
+     */
+    @Override
+    public <S, A> A reduce(final S source,
+                           final ParallelReduce.Splitter<S> splitter,
+                           final Function<? super S, ? extends A> leaf,
+                           final BinaryOperator<A> combiner,
+                           final GranularityPolicy granularity) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(splitter);
+        Objects.requireNonNull(leaf);
+        Objects.requireNonNull(combiner);
+        Objects.requireNonNull(granularity);
+
+        final long size = splitter.size(source);
+
+        if (size > 1 && granularity.shouldSplit(size)) {
+            final S prefix = splitter.trySplit(source);
+
+            if (prefix != null) {
+                try (final ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+                    final CompletionService<A> completions = new ExecutorCompletionService<>(scope);
+                    final Future<A> left = completions.submit(() -> this.reduce(prefix, splitter, leaf, combiner, granularity));
+                    final Future<A> right = completions.submit(() -> this.reduce(source, splitter, leaf, combiner, granularity));
+
+                    this.awaitBoth(completions, scope);
+
+                    return combiner.apply(left.resultNow(), right.resultNow());
+                }
+            }
+        }
+
+        return leaf.apply(source);
+    }
+
+    /**
+     * There are no threads to release;
+     * every scope is closed by the split
+     * that opened it.
+     */
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    /**
+     * Wait until both halves have completed,
+     * cancelling the other half as soon as
+     * one of them fails.
+     *
+     * @param   <A>         The type of result
+     * @param   completions java.util.concurrent.CompletionService&lt;A&gt;
+     * @param   scope       java.util.concurrent.ExecutorService
+     */
+    private <A> void awaitBoth(final CompletionService<A> completions, final ExecutorService scope) {
+        try {
+            for (int i = 0; i < 2; i++) {
+                completions.take().get();
+            }
+        } catch (final ExecutionException | InterruptedException e) {
+            scope.shutdownNow();
+
+            throw Failures.rethrow(e);
+        }
+    }
+}
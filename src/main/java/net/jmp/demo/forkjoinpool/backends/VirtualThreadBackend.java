@@ -0,0 +1,163 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)VirtualThreadBackend.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+/**
+ * The backend that forks the first part of
+ * every split onto a new virtual thread and
+ * keeps reducing the rest in the current one.
+ * Waiting for a part unmounts the virtual
+ * thread. File reads do not unmount it: the
+ * virtual thread keeps its carrier during the
+ * read and the scheduler compensates by adding
+ * a carrier for the duration, which is what
+ * the file workload of the demo measures.
+ */
+final class VirtualThreadBackend implements ExecutionBackend {
+    /** The executor that starts a virtual thread per task. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The constructor.
+     */
+    VirtualThreadBackend() {
+        super();
+    }
+
+    /**
+     * Return the name of this backend.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getName() {
+        return VIRTUAL_THREADS;
+    }
+
+    /**
+     * Reduce a source.
+     *
+     * @param   <S>         The type of source
+     * @param   <A>         The type of result
+     * @param   source      S
+     * @param   splitter    net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;S&gt;
+     * @param   leaf        java.util.function.Function&lt;? super S, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              A
+     */
+    @Override
+    public <S, A> A reduce(final S source,
+                           final ParallelReduce.Splitter<S> splitter,
+                           final Function<? super S, ? extends A> leaf,
+                           final BinaryOperator<A> combiner,
+                           final GranularityPolicy granularity) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(splitter);
+        Objects.requireNonNull(leaf);
+        Objects.requireNonNull(combiner);
+        Objects.requireNonNull(granularity);
+
+        return this.join(this.executor.submit(() -> this.reduceOnThread(source, splitter, leaf, combiner, granularity)));
+    }
+
+    /**
+     * Release the virtual threads, waiting
+     * for running reductions to finish.
+     */
+    @Override
+    public void close() {
+        this.executor.close();
+    }
+
+    /**
+     * Reduce a source on the current
+     * virtual thread.
+     *
+     * @param   <S>         The type of source
+     * @param   <A>         The type of result
+     * @param   rest        S
+     * @param   splitter    net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;S&gt;
+     * @param   leaf        java.util.function.Function&lt;? super S, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              A
+     */
+    private <S, A> A reduceOnThread(final S rest,
+                                    final ParallelReduce.Splitter<S> splitter,
+                                    final Function<? super S, ? extends A> leaf,
+                                    final BinaryOperator<A> combiner,
+                                    final GranularityPolicy granularity) {
+        final long size = splitter.size(rest);
+
+        if (size > 1 && granularity.shouldSplit(size)) {
+            final S prefix = splitter.trySplit(rest);
+
+            if (prefix != null) {
+                final Future<A> left = this.executor.submit(() -> this.reduceOnThread(prefix, splitter, leaf, combiner, granularity));
+                final A right = this.reduceOnThread(rest, splitter, leaf, combiner, granularity);
+
+                return combiner.apply(this.join(left), right);
+            }
+        }
+
+        return leaf.apply(rest);
+    }
+
+    /**
+     * Wait for a part and return its result.
+     *
+     * @param   <A>     The type of result
+     * @param   future  java.util.concurrent.Future&lt;A&gt;
+     * @return          A
+     */
+    private <A> A join(final Future<A> future) {
+        try {
+            return future.get();
+        } catch (final ExecutionException | InterruptedException e) {
+            throw Failures.rethrow(e);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package net.jmp.demo.forkjoinpool.demos;
+
+/*
+ * (#)BackendDemo.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.function.Function;
+
+import net.jmp.demo.forkjoinpool.backends.ExecutionBackend;
+import net.jmp.demo.forkjoinpool.backends.Measurement;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import net.jmp.demo.forkjoinpool.tasks.IndexRange;
+import net.jmp.demo.forkjoinpool.tasks.LetterHistogram;
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A class that runs the same workloads on
+ * each execution backend and reports their
+ * throughput and latency. One workload is
+ * a CPU-bound sum; the other reads chunks
+ * of a file in its leaves.
+ */
+public final class BackendDemo implements Demo {
+    /** The system property that selects the backends to compare. */
+    public static final String BACKENDS_PROPERTY = "net.jmp.demo.forkjoinpool.demos.backends";
+
+    /** The backends compared by default. */
+    public static final String DEFAULT_BACKENDS = String.join(",",
+            ExecutionBackend.FORK_JOIN,
+            ExecutionBackend.VIRTUAL_THREADS,
+            ExecutionBackend.STRUCTURED);
+
+    /** The number of warmup runs of each workload. */
+    private static final int WARMUPS = 3;
+
+    /** The number of measured runs of each workload. */
+    private static final int ITERATIONS = 10;
+
+    /** The number of integers summed. */
+    private static final int SUM_SIZE = 1_000_000;
+
+    /** The size of the chunks read by the leaves. */
+    private static final int CHUNK_SIZE = 64 * 1_024;
+
+    /** The number of chunks in the file. */
+    private static final int CHUNKS = 64;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The pool provider. */
+    private final PoolProvider poolProvider;
+
+    /** The comma separated names of the backends. */
+    private final String backendNames;
+
+    /**
+     * The default constructor. It
+     * uses the default pool provider.
+     */
+    public BackendDemo() {
+        this(PoolProvider.getDefault());
+    }
+
+    /**
+     * A constructor that takes the pool
+     * provider and compares the backends
+     * named by the system property.
+     *
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    public BackendDemo(final PoolProvider poolProvider) {
+        this(poolProvider, System.getProperty(BACKENDS_PROPERTY, DEFAULT_BACKENDS));
+    }
+
+    /**
+     * A constructor that takes the pool
+     * provider and the backends to compare.
+     *
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
+     * @param   backendNames    java.lang.String
+     */
+    public BackendDemo(final PoolProvider poolProvider, final String backendNames) {
+        super();
+
+        this.poolProvider = Objects.requireNonNull(poolProvider);
+        this.backendNames = Objects.requireNonNull(backendNames);
+    }
+
+    /**
+     * The demo method.
+     */
+    @Override
+    public void demo() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            for (final Measurement measurement : this.compare()) {
+                this.logger.info("{}", measurement);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Run both workloads on each backend
+     * and return the measurements.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.forkjoinpool.backends.Measurement&gt;
+     */
+    private List<Measurement> compare() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<Measurement> measurements = new ArrayList<>();
+        final int[] integers = new int[SUM_SIZE];
+
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = i % 1_000;
+        }
+
+        try {
+            final Path file = Files.createTempFile("backends", ".txt");
+
+            try (final FileChannel channel = this.writeText(file)) {
+                final List<ExecutionBackend> backends = ExecutionBackend.forNames(this.backendNames,
+                        this.poolProvider.getPool(PoolProvider.NUMERIC));
+
+                for (final ExecutionBackend backend : backends) {
+                    try (backend) {
+                        measurements.add(this.measure(backend, "sum", b -> this.sum(b, integers)));
+                        measurements.add(this.measure(backend, "file-letters", b -> this.countLetters(b, channel)));
+                    }
+                }
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(measurements));
+        }
+
+        return measurements;
+    }
+
+    /**
+     * Measure a workload on a backend.
+     *
+     * @param   backend     net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     * @param   workload    java.lang.String
+     * @param   run         java.util.function.Function&lt;net.jmp.demo.forkjoinpool.backends.ExecutionBackend, ?&gt;
+     * @return              net.jmp.demo.forkjoinpool.backends.Measurement
+     */
+    private Measurement measure(final ExecutionBackend backend,
+                                final String workload,
+                                final Function<ExecutionBackend, ?> run) {
+        return Measurement.measure(backend.getName(), workload, WARMUPS, ITERATIONS, () -> run.apply(backend));
+    }
+
+    /**
+     * Sum the integers on a backend.
+     *
+     * @param   backend     net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     * @param   integers    int[]
+     * @return              long
+     */
+    private long sum(final ExecutionBackend backend, final int[] integers) {
+        return backend.reduce(new IndexRange(0, integers.length),
+                ParallelReduce.Splitter.indexRange(),
+                range -> {
+                    final int to = (int) range.getEnd();
+
+                    long sum = 0;
+
+                    for (int i = (int) range.getStart(); i < to; i++) {
+                        sum += integers[i];
+                    }
+
+                    return sum;
+                },
+                Long::sum,
+                GranularityPolicy.fixed(16_384));
+    }
+
+    /**
+     * Count the letters in a file on a
+     * backend, one leaf per chunk, each
+     * leaf reading its chunk from disk.
+     *
+     * @param   backend net.jmp.demo.forkjoinpool.backends.ExecutionBackend
+     * @param   channel java.nio.channels.FileChannel
+     * @return          net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     */
+    private LetterHistogram countLetters(final ExecutionBackend backend, final FileChannel channel) {
+        return backend.reduce(new IndexRange(0, CHUNKS),
+                ParallelReduce.Splitter.indexRange(),
+                range -> {
+                    final LetterHistogram histogram = new LetterHistogram();
+                    final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+                    for (long chunk = range.getStart(); chunk < range.getEnd(); chunk++) {
+                        buffer.clear();
+
+                        try {
+                            while (buffer.hasRemaining() && channel.read(buffer, chunk * CHUNK_SIZE + buffer.position()) > 0) {
+                                // Positional reads do not move the shared channel
+                            }
+                        } catch (final IOException ioe) {
+                            throw new UncheckedIOException(ioe);
+                        }
+
+                        for (int i = 0; i < buffer.position(); i++) {
+                            final char lower = (char) (buffer.get(i) | 0x20);
+
+                            if (lower >= 'a' && lower <= 'z') {
+                                histogram.add(lower);
+                            }
+                        }
+                    }
+
+                    return histogram;
+                },
+                LetterHistogram::merge,
+                GranularityPolicy.fixed(1));
+    }
+
+    /**
+     * Fill a file with ASCII text and
+     * return a channel to read it.
+     *
+     * @param   file    java.nio.file.Path
+     * @return          java.nio.channels.FileChannel
+     * @throws          java.io.IOException When the file cannot be written or opened
+     */
+    private FileChannel writeText(final Path file) throws IOException {
+        final String sentence = "The quick brown fox jumps over the lazy dog. ";
+        final StringBuilder text = new StringBuilder(CHUNK_SIZE * CHUNKS);
+
+        while (text.length() < CHUNK_SIZE * CHUNKS) {
+            text.append(sentence);
+        }
+
+        text.setLength(CHUNK_SIZE * CHUNKS);
+
+        Files.writeString(file, text, StandardCharsets.US_ASCII);
+
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+}
@@ -1,12 +1,13 @@
 package net.jmp.demo.forkjoinpool.demos;
 
 /*
+ * (#)RecursiveActionDemo.java  0.5.0   10/17/2026
  * (#)RecursiveActionDemo.java  0.4.0   09/24/2024
  * (#)RecursiveActionDemo.java  0.2.0   09/14/2024
  * (#)RecursiveActionDemo.java  0.1.0   09/14/2024
  *
  * @author   Jonathan Parker
- * @version  0.4.0
+ * @version  0.5.0
  * @since    0.1.0
  *
  * MIT License
@@ -32,12 +33,32 @@ package net.jmp.demo.forkjoinpool.demos;
  * SOFTWARE.
  */
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.Arrays;
+import java.util.Objects;
+
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 
 import net.jmp.demo.forkjoinpool.actions.CapitalizerAction;
+import net.jmp.demo.forkjoinpool.actions.MatrixKernel;
+import net.jmp.demo.forkjoinpool.actions.MatrixMultiplyAction;
+import net.jmp.demo.forkjoinpool.actions.MergeSortAction;
+import net.jmp.demo.forkjoinpool.actions.RadixSortAction;
+import net.jmp.demo.forkjoinpool.actions.SegmentSquareRootAction;
 import net.jmp.demo.forkjoinpool.actions.SquareRootAction;
 
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import net.jmp.demo.forkjoinpool.tasks.Buckets;
+import net.jmp.demo.forkjoinpool.tasks.HistogramTask;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -50,11 +71,27 @@ public class RecursiveActionDemo implements Demo {
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
+    /** The pool provider. */
+    private final PoolProvider poolProvider;
+
     /**
-     * The default constructor.
+     * The default constructor. It
+     * uses the default pool provider.
      */
     public RecursiveActionDemo() {
+        this(PoolProvider.getDefault());
+    }
+
+    /**
+     * A constructor that takes
+     * the pool provider.
+     *
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    public RecursiveActionDemo(final PoolProvider poolProvider) {
         super();
+
+        this.poolProvider = Objects.requireNonNull(poolProvider);
     }
 
     /**
@@ -74,6 +111,12 @@ public class RecursiveActionDemo implements Demo {
             for (final double result : results) {
                 this.logger.info("{}", String.format("%.4f ", result));
             }
+
+            this.logger.info("Square root histogram: {}", Arrays.toString(this.squareRootHistogram()));
+            this.logger.info("Segment square roots: {}", this.segmentSquareRootAction());
+            this.logger.info("Merge sorted: {}", Arrays.toString(this.mergeSortAction()));
+            this.logger.info("Radix sorted: {}", Arrays.toString(this.radixSortAction()));
+            this.logger.info("Matrix product sum: {}", this.matrixMultiplyAction());
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -83,9 +126,9 @@ public class RecursiveActionDemo implements Demo {
 
     /**
      * Demonstrate the capitalizer action
-     * using execute. Execute does not
-     * return a ForkJoinTask so there is
-     * nothing to wait on.
+     * using invoke. Invoke returns once
+     * every subtask has completed so there
+     * is no need to guess how long to wait.
      *
      * @return  java.lang.String
      */
@@ -104,16 +147,8 @@ public class RecursiveActionDemo implements Demo {
 
         final char[] characters = sentences.toCharArray();
 
-        try (final ForkJoinPool forkJoinPool = ForkJoinPool.commonPool()) {
-            forkJoinPool.execute(new CapitalizerAction(characters, 0, characters.length, 32));
-
-            try {
-                Thread.sleep(350);
-            } catch (final InterruptedException ie) {
-                this.logger.error(ie.getMessage(), ie);
-                Thread.currentThread().interrupt();
-            }
-        }
+        this.poolProvider.getPool(PoolProvider.TEXT)
+                .invoke(new CapitalizerAction(characters, 0, characters.length, 32));
 
         final String result = new String(characters);
 
@@ -143,11 +178,11 @@ public class RecursiveActionDemo implements Demo {
             doubles[i] = i;
         }
 
-        try (final ForkJoinPool forkJoinPool = ForkJoinPool.commonPool()) {
-            final ForkJoinTask<Void> task = forkJoinPool.submit(new SquareRootAction(doubles, 0, doubles.length));
+        final ForkJoinPool forkJoinPool = this.poolProvider.getPool(PoolProvider.NUMERIC);
+        final GranularityPolicy granularity = GranularityPolicy.proportional(doubles.length, forkJoinPool);
+        final ForkJoinTask<Void> task = forkJoinPool.submit(new SquareRootAction(doubles, 0, doubles.length, granularity));
 
-            task.join();
-        }
+        task.join();
 
         final double[] results = new double[10];
 
@@ -159,4 +194,167 @@ public class RecursiveActionDemo implements Demo {
 
         return results;
     }
+
+    /**
+     * Demonstrate bucketing the results of
+     * the square root action with the
+     * histogram task on the same pool
+     * instead of in a second sequential
+     * pass.
+     *
+     * @return  long[]
+     */
+    private long[] squareRootHistogram() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final double[] doubles = new double[10_000];
+
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = i;
+        }
+
+        final ForkJoinPool forkJoinPool = this.poolProvider.getPool(PoolProvider.NUMERIC);
+        final GranularityPolicy granularity = GranularityPolicy.proportional(doubles.length, forkJoinPool);
+
+        forkJoinPool.invoke(new SquareRootAction(doubles, 0, doubles.length, granularity));
+
+        final long[] results = forkJoinPool.invoke(new HistogramTask(doubles, 0, doubles.length, Buckets.fixedWidth(0, 100, 10), granularity))
+                .toArray();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(results));
+        }
+
+        return results;
+    }
+
+    /**
+     * Demonstrate the square root action
+     * over an off-heap memory segment.
+     *
+     * @return  double
+     */
+    private double segmentSquareRootAction() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        double result = 0;
+
+        try (final Arena arena = Arena.ofShared()) {
+            final MemorySegment segment = arena.allocate(MemoryLayout.sequenceLayout(100_000, ValueLayout.JAVA_DOUBLE));
+
+            for (long i = 0; i < 100_000; i++) {
+                segment.setAtIndex(ValueLayout.JAVA_DOUBLE, i, (double) i * i);
+            }
+
+            this.poolProvider.getPool(PoolProvider.NUMERIC).invoke(new SegmentSquareRootAction(segment));
+
+            for (long i = 0; i < 100_000; i++) {
+                result += segment.getAtIndex(ValueLayout.JAVA_DOUBLE, i);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the merge sort action on a
+     * permutation of 0 through 99,999 and
+     * return the ten smallest values.
+     *
+     * @return  int[]
+     */
+    private int[] mergeSortAction() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final int[] ints = new int[100_000];
+
+        Arrays.setAll(ints, i -> (int) ((i * 7_919L) % ints.length));
+
+        final ForkJoinPool forkJoinPool = this.poolProvider.getPool(PoolProvider.NUMERIC);
+        final GranularityPolicy granularity = GranularityPolicy.proportional(ints.length, forkJoinPool);
+
+        forkJoinPool.invoke(new MergeSortAction(ints, 0, ints.length, null, granularity));
+
+        final int[] results = Arrays.copyOf(ints, 10);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(results));
+        }
+
+        return results;
+    }
+
+    /**
+     * Demonstrate the radix sort action on a
+     * permutation of -50,000 through 49,999
+     * and return the ten smallest values.
+     *
+     * @return  long[]
+     */
+    private long[] radixSortAction() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long[] longs = new long[100_000];
+
+        Arrays.setAll(longs, i -> (i * 7_919L) % longs.length - 50_000);
+
+        final ForkJoinPool forkJoinPool = this.poolProvider.getPool(PoolProvider.NUMERIC);
+        final GranularityPolicy granularity = GranularityPolicy.proportional(longs.length, forkJoinPool);
+
+        forkJoinPool.invoke(new RadixSortAction(longs, 0, longs.length, null, granularity));
+
+        final long[] results = Arrays.copyOf(longs, 10);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(results));
+        }
+
+        return results;
+    }
+
+    /**
+     * Demonstrate the matrix multiply action on a
+     * 200 by 300 matrix of ones and a 300 by 100
+     * matrix of twos and return the sum of the
+     * product, every element of which is 600.
+     *
+     * @return  double
+     */
+    private double matrixMultiplyAction() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final double[] a = new double[200 * 300];
+        final double[] b = new double[300 * 100];
+        final double[] c = new double[200 * 100];
+
+        Arrays.fill(a, 1);
+        Arrays.fill(b, 2);
+
+        final ForkJoinPool forkJoinPool = this.poolProvider.getPool(PoolProvider.NUMERIC);
+        final GranularityPolicy granularity = GranularityPolicy.proportional(200L * 100 * 300, forkJoinPool);
+
+        forkJoinPool.invoke(new MatrixMultiplyAction(a, b, c, 200, 100, 300, granularity, MatrixKernel.defaultKernel()));
+
+        final double result = Arrays.stream(c).sum();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
 }
@@ -1,11 +1,12 @@
 package net.jmp.demo.forkjoinpool.demos;
 
 /*
+ * (#)RecursiveTaskDemo.java    0.5.0   10/17/2026
  * (#)RecursiveTaskDemo.java    0.4.0   09/24/2024
  * (#)RecursiveTaskDemo.java    0.3.0   09/14/2024
  *
  * @author   Jonathan Parker
- * @version  0.4.0
+ * @version  0.5.0
  * @since    0.3.0
  *
  * MIT License
@@ -31,17 +32,48 @@ package net.jmp.demo.forkjoinpool.demos;
  * SOFTWARE.
  */
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
 import java.math.BigInteger;
 
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeoutException;
+
+import net.jmp.demo.forkjoinpool.policies.CancellationToken;
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
 
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import net.jmp.demo.forkjoinpool.tasks.Combinatorics;
+import net.jmp.demo.forkjoinpool.tasks.FactorialEngine;
 import net.jmp.demo.forkjoinpool.tasks.FactorialTask;
 import net.jmp.demo.forkjoinpool.tasks.LetterDistributionTask;
+import net.jmp.demo.forkjoinpool.tasks.MappedLetterDistributionTask;
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+import net.jmp.demo.forkjoinpool.tasks.PrefixSumTask;
+import net.jmp.demo.forkjoinpool.tasks.RangeSumTask;
+import net.jmp.demo.forkjoinpool.tasks.SegmentSumTask;
 import net.jmp.demo.forkjoinpool.tasks.SumTask;
+import net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
@@ -55,11 +87,27 @@ public final class RecursiveTaskDemo implements Demo {
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
+    /** The pool provider. */
+    private final PoolProvider poolProvider;
+
     /**
-     * The default constructor.
+     * The default constructor. It
+     * uses the default pool provider.
      */
     public RecursiveTaskDemo() {
+        this(PoolProvider.getDefault());
+    }
+
+    /**
+     * A constructor that takes
+     * the pool provider.
+     *
+     * @param   poolProvider    net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    public RecursiveTaskDemo(final PoolProvider poolProvider) {
         super();
+
+        this.poolProvider = Objects.requireNonNull(poolProvider);
     }
 
     /**
@@ -73,8 +121,17 @@ public final class RecursiveTaskDemo implements Demo {
 
         if (this.logger.isInfoEnabled()) {
             this.logger.info("Sum: {}", this.sumTask());
+            this.logger.info("Range sum: {}", this.rangeSumTask());
+            this.logger.info("Segment sum: {}", this.segmentSumTask());
+            this.logger.info("Sum of squares: {}", this.parallelReduce());
+            this.logger.info("Prefix sums: {}", Arrays.toString(this.prefixSumTask()));
             this.logger.info("Letters: {}", this.letterDistributionTask());
+            this.logger.info("Mapped letters: {}", this.mappedLetterDistributionTask());
+            this.logger.info("Top words: {}", this.tokenFrequencyTask());
             this.logger.info("16!: {}", this.factorialTask());
+            this.logger.info("1000! has {} bits", this.factorialEngine().bitLength());
+            this.logger.info("Poker hands of 5 to 7 cards: {}", this.combinatorics());
+            this.logger.info("A runaway factorial was stopped after {} ms", this.deadline().toMillis());
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -101,12 +158,135 @@ public final class RecursiveTaskDemo implements Demo {
             integers[i] = i + 1;
         }
 
-        try (final ForkJoinPool forkJoinPool = ForkJoinPool.commonPool()) {
-            final ForkJoinTask<Integer> task = forkJoinPool.submit(new SumTask(integers));
+        final ForkJoinPool forkJoinPool = this.poolProvider.getPool(PoolProvider.NUMERIC);
+        final ForkJoinTask<Integer> task = forkJoinPool.submit(new SumTask(integers));
+
+        result = task.join();
 
-            result = task.join();
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
         }
 
+        return result;
+    }
+
+    /**
+     * Demonstrate the task that sums a
+     * range of integers in an array without
+     * copying it. The total exceeds the
+     * range of an int.
+     *
+     * @return  long
+     */
+    private long rangeSumTask() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final int[] integers = new int[100_000];
+
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = i + 1;
+        }
+
+        final RangeSumTask task = new RangeSumTask(integers, 0, integers.length, 1_000);
+
+        this.poolProvider.getPool(PoolProvider.NUMERIC).invoke(task);
+
+        final long result = task.getSum();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the task that sums
+     * the integers in an off-heap
+     * memory segment.
+     *
+     * @return  long
+     */
+    private long segmentSumTask() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        long result;
+
+        try (final Arena arena = Arena.ofShared()) {
+            final MemorySegment segment = arena.allocate(MemoryLayout.sequenceLayout(100_000, ValueLayout.JAVA_INT));
+
+            for (long i = 0; i < 100_000; i++) {
+                segment.setAtIndex(ValueLayout.JAVA_INT, i, (int) i + 1);
+            }
+
+            result = this.poolProvider.getPool(PoolProvider.NUMERIC).invoke(new SegmentSumTask(segment));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the parallel reduce
+     * framework by summing the squares
+     * of the integers 1 through 1000.
+     *
+     * @return  long
+     */
+    private long parallelReduce() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final ParallelReduce.OfLong task = ParallelReduce.overRangeToLong(1, 1_001, (start, end) -> {
+            long sum = 0;
+
+            for (long i = start; i < end; i++) {
+                sum += i * i;
+            }
+
+            return sum;
+        }, Long::sum);
+
+        this.poolProvider.getPool(PoolProvider.NUMERIC).invoke(task);
+
+        final long result = task.getAsLong();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the prefix sum task by
+     * returning the first ten inclusive
+     * prefix sums of the integers 1
+     * through 100,000.
+     *
+     * @return  long[]
+     */
+    private long[] prefixSumTask() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long[] longs = new long[100_000];
+
+        Arrays.setAll(longs, i -> i + 1);
+
+        this.poolProvider.getPool(PoolProvider.NUMERIC).invoke(new PrefixSumTask(longs, PrefixSumTask.Mode.INCLUSIVE));
+
+        final long[] result = Arrays.copyOf(longs, 10);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
         }
@@ -119,19 +299,54 @@ public final class RecursiveTaskDemo implements Demo {
      * the occurrences of each letter in
      * an array of characters.
      *
-     * @return  java.util.Map&lt;java.lang.Character, java.lang.Integer&gt;
+     * @return  java.util.Map&lt;java.lang.Character, java.lang.Long&gt;
      */
-    private Map<Character, Integer> letterDistributionTask() {
+    private Map<Character, Long> letterDistributionTask() {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
-        final Map<Character, Integer> letterDistribution = new ConcurrentHashMap<>();
-
         final String test = "abBcCcdDdDeEeEefFfFfFgGgGgGghHhHhHhHiIiIiIiIijJjJjJjJjJkKkKkKkKkKklLlLlLlLlLlL";
+        final char[] characters = test.toCharArray();
+
+        final Map<Character, Long> letterDistribution = this.poolProvider.getPool(PoolProvider.TEXT)
+                .invoke(new LetterDistributionTask(characters, 0, characters.length, 5))
+                .toMap();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(letterDistribution));
+        }
+
+        return letterDistribution;
+    }
 
-        try (final ForkJoinPool forkJoinPool = ForkJoinPool.commonPool()) {
-            forkJoinPool.invoke(new LetterDistributionTask(test.toCharArray(), letterDistribution));
+    /**
+     * Demonstrate the task that counts the
+     * occurrences of each letter in a
+     * memory-mapped UTF-8 file.
+     *
+     * @return  java.util.Map&lt;java.lang.Character, java.lang.Long&gt;
+     */
+    private Map<Character, Long> mappedLetterDistributionTask() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        Map<Character, Long> letterDistribution;
+
+        try {
+            final Path file = Files.createTempFile("letters", ".txt");
+
+            try {
+                Files.writeString(file, "Größe, Äpfel und Übermaß; abBcCcdDdD", StandardCharsets.UTF_8);
+
+                letterDistribution = MappedLetterDistributionTask.countFile(file, this.poolProvider.getPool(PoolProvider.TEXT))
+                        .toMap();
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -141,6 +356,32 @@ public final class RecursiveTaskDemo implements Demo {
         return letterDistribution;
     }
 
+    /**
+     * Demonstrate the task that counts
+     * the words in an array of characters
+     * and return the three most frequent.
+     *
+     * @return  java.util.List&lt;java.util.Map.Entry&lt;java.lang.String, java.lang.Long&gt;&gt;
+     */
+    private List<Map.Entry<String, Long>> tokenFrequencyTask() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final String test = "The cat saw the dog. The dog saw a cat; the cat ran.";
+        final char[] characters = test.toCharArray();
+
+        final List<Map.Entry<String, Long>> topWords = this.poolProvider.getPool(PoolProvider.TEXT)
+                .invoke(TokenFrequencyTask.words(characters, 0, characters.length, GranularityPolicy.fixed(8)))
+                .top(3);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(topWords));
+        }
+
+        return topWords;
+    }
+
     /**
      * Demonstrate the factorial task.
      *
@@ -151,9 +392,58 @@ public final class RecursiveTaskDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        // Uses the ForkJoinPool
+        final BigInteger result = this.poolProvider.getPool(PoolProvider.BIG_INTEGER)
+                .invoke(new FactorialTask(1, 16));
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the factorial engine.
+     *
+     * @return  java.math.BigInteger
+     */
+    private BigInteger factorialEngine() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final BigInteger result = new FactorialEngine(this.poolProvider.getPool(PoolProvider.BIG_INTEGER)).factorial(1_000);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result.bitLength()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the combinatorics service,
+     * whose binomial coefficients share the
+     * factorials it has already cached.
+     *
+     * @return  java.math.BigInteger
+     */
+    private BigInteger combinatorics() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Combinatorics combinatorics = new Combinatorics(this.poolProvider.getPool(PoolProvider.BIG_INTEGER));
+
+        BigInteger result = BigInteger.ZERO;
+
+        for (int cards = 5; cards <= 7; cards++) {
+            result = result.add(combinatorics.binomial(52, cards));
+        }
 
-        final BigInteger result = new FactorialTask(1, 16).invoke();
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Cache: {}", combinatorics.getCacheStats());
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -161,4 +451,41 @@ public final class RecursiveTaskDemo implements Demo {
 
         return result;
     }
+
+    /**
+     * Demonstrate bounding a runaway factorial
+     * task with a deadline. The caller gets a
+     * timeout exception at the deadline and the
+     * rest of the job is pruned from the pool.
+     *
+     * @return  java.time.Duration
+     */
+    private Duration deadline() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final CancellationToken token = CancellationToken.withTimeout(Duration.ofMillis(100));
+        final GranularityPolicy granularity = GranularityPolicy.cancellable(GranularityPolicy.fixed(2), token);
+        final long start = System.nanoTime();
+
+        try {
+            final BigInteger result = token.invoke(this.poolProvider.getPool(PoolProvider.BIG_INTEGER),
+                    new FactorialTask(1, 10_000_000, granularity));
+
+            this.logger.warn("10,000,000! finished within the deadline: {} bits", result.bitLength());
+        } catch (final TimeoutException te) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("The deadline passed: {}", token);
+            }
+        }
+
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(elapsed));
+        }
+
+        return elapsed;
+    }
 }
@@ -0,0 +1,255 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)AllocationMeter.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.ManagementFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * A worker thread factory that remembers the threads
+ * it creates so that the bytes allocated by a pool's
+ * workers can be measured. A measurement sums the
+ * allocation of every live worker and of the calling
+ * thread, which may run tasks while it waits. Workers
+ * that terminate during a measurement take their
+ * counts with them, so pools being measured should
+ * keep idle workers alive.
+ */
+public final class AllocationMeter implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    /** The thread bean. */
+    private static final ThreadMXBean THREAD_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** The factory that creates the threads. */
+    private final ForkJoinPool.ForkJoinWorkerThreadFactory delegate;
+
+    /** The threads created so far. */
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A constructor that creates
+     * default worker threads.
+     */
+    public AllocationMeter() {
+        this(ForkJoinPool.defaultForkJoinWorkerThreadFactory);
+    }
+
+    /**
+     * A constructor that takes the
+     * factory that creates the threads.
+     *
+     * @param   delegate    java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory
+     */
+    public AllocationMeter(final ForkJoinPool.ForkJoinWorkerThreadFactory delegate) {
+        super();
+
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    /**
+     * Return true if this JVM can measure
+     * the bytes allocated by a thread,
+     * enabling the measurement if needed.
+     *
+     * @return  boolean
+     */
+    public static boolean isSupported() {
+        if (!THREAD_BEAN.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+
+        if (!THREAD_BEAN.isThreadAllocatedMemoryEnabled()) {
+            THREAD_BEAN.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        return true;
+    }
+
+    /**
+     * Create a worker thread and remember it.
+     *
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @return          java.util.concurrent.ForkJoinWorkerThread
+     */
+    @Override
+    public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+        final ForkJoinWorkerThread thread = this.delegate.newThread(pool);
+
+        if (thread != null) {
+            this.workers.add(thread);
+        }
+
+        return thread;
+    }
+
+    /**
+     * Run a workload and return the bytes
+     * allocated and the time it took.
+     *
+     * @param   workload    java.lang.Runnable
+     * @return              net.jmp.demo.forkjoinpool.metrics.AllocationMeter.Sample
+     */
+    public Sample measure(final Runnable workload) {
+        Objects.requireNonNull(workload);
+
+        final Map<Long, Long> before = this.snapshot();
+        final long startNanos = System.nanoTime();
+
+        workload.run();
+
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final Map<Long, Long> after = this.snapshot();
+
+        long allocatedBytes = 0;
+
+        for (final Map.Entry<Long, Long> entry : after.entrySet()) {
+            allocatedBytes += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+
+        return new Sample(allocatedBytes, elapsedNanos);
+    }
+
+    /**
+     * Return the bytes allocated so far by each
+     * live worker and the calling thread, keyed
+     * by thread identifier.
+     *
+     * @return  java.util.Map&lt;java.lang.Long, java.lang.Long&gt;
+     */
+    private Map<Long, Long> snapshot() {
+        this.workers.removeIf(thread -> !thread.isAlive());
+
+        final Thread[] threads = this.workers.toArray(new Thread[0]);
+        final long[] ids = new long[threads.length + 1];
+
+        for (int i = 0; i < threads.length; i++) {
+            ids[i] = threads[i].threadId();
+        }
+
+        ids[threads.length] = Thread.currentThread().threadId();
+
+        final long[] bytes = THREAD_BEAN.getThreadAllocatedBytes(ids);
+        final Map<Long, Long> snapshot = new HashMap<>();
+
+        for (int i = 0; i < ids.length; i++) {
+            if (bytes[i] >= 0) {
+                snapshot.put(ids[i], bytes[i]);
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * The bytes allocated and the
+     * time taken by one workload.
+     */
+    public static final class Sample {
+        /** The bytes allocated. */
+        private final long allocatedBytes;
+
+        /** The elapsed time. */
+        private final long elapsedNanos;
+
+        /**
+         * The constructor.
+         *
+         * @param   allocatedBytes  long
+         * @param   elapsedNanos    long
+         */
+        private Sample(final long allocatedBytes, final long elapsedNanos) {
+            super();
+
+            this.allocatedBytes = allocatedBytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Return the bytes allocated.
+         *
+         * @return  long
+         */
+        public long getAllocatedBytes() {
+            return this.allocatedBytes;
+        }
+
+        /**
+         * Return the elapsed time.
+         *
+         * @return  long
+         */
+        public long getElapsedNanos() {
+            return this.elapsedNanos;
+        }
+
+        /**
+         * Return the bytes allocated per element
+         * of a workload of the given size.
+         *
+         * @param   elements    long
+         * @return              double
+         */
+        public double getBytesPerElement(final long elements) {
+            return (double) this.allocatedBytes / elements;
+        }
+
+        /**
+         * Return the elements processed per second
+         * by a workload of the given size.
+         *
+         * @param   elements    long
+         * @return              double
+         */
+        public double getElementsPerSecond(final long elements) {
+            return elements * 1e9 / Math.max(1, this.elapsedNanos);
+        }
+
+        /**
+         * Return the string representation of this object.
+         *
+         * @return  java.lang.String
+         */
+        @Override
+        public String toString() {
+            return "allocatedBytes=" + this.allocatedBytes +
+                    " elapsedNanos=" + this.elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)MetricsExporter.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.ManagementFactory;
+
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports pool and task metrics as MXBeans in the
+ * platform MBean server and, once started, as
+ * periodic key=value log lines at info level.
+ */
+public final class MetricsExporter implements AutoCloseable {
+    /** The JMX domain of the exported beans. */
+    public static final String DOMAIN = "net.jmp.demo.forkjoinpool";
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The MBean server. */
+    private final MBeanServer server;
+
+    /** The pool metrics keyed by their registered names. */
+    private final Map<ObjectName, PoolMetrics> pools = new ConcurrentHashMap<>();
+
+    /** The task metrics keyed by their registered names. */
+    private final Map<ObjectName, TaskMetrics> tasks = new ConcurrentHashMap<>();
+
+    /** The scheduler of the periodic log lines or null. */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * A constructor that uses the
+     * platform MBean server.
+     */
+    public MetricsExporter() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param   server  javax.management.MBeanServer
+     */
+    public MetricsExporter(final MBeanServer server) {
+        super();
+
+        this.server = Objects.requireNonNull(server);
+    }
+
+    /**
+     * Register the metrics of a pool. The
+     * signature matches the pool creation
+     * listener of the pool provider.
+     *
+     * @param   workload    java.lang.String
+     * @param   pool        java.util.concurrent.ForkJoinPool
+     */
+    public void register(final String workload, final ForkJoinPool pool) {
+        final PoolMetrics metrics = new PoolMetrics(workload, pool);
+        final ObjectName name = objectName("ForkJoinPool", workload);
+
+        if (this.registerBean(name, metrics)) {
+            this.pools.put(name, metrics);
+        }
+
+        this.registerTasks();
+    }
+
+    /**
+     * Start logging the metrics periodically.
+     *
+     * @param   period  long
+     * @param   unit    java.util.concurrent.TimeUnit
+     */
+    public synchronized void start(final long period, final TimeUnit unit) {
+        if (this.scheduler != null) {
+            throw new IllegalStateException("The metrics exporter has already been started");
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "metrics-exporter");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.scheduler.scheduleAtFixedRate(this::report, period, period, unit);
+    }
+
+    /**
+     * Log one line for every pool and for
+     * every task type that has done work.
+     */
+    public void report() {
+        this.registerTasks();
+
+        if (this.logger.isInfoEnabled()) {
+            for (final PoolMetrics metrics : this.pools.values()) {
+                this.logger.info("{}", metrics);
+            }
+
+            for (final TaskMetrics metrics : this.tasks.values()) {
+                if (metrics.getSplits() != 0 || metrics.getLeaves() != 0) {
+                    this.logger.info("{}", metrics);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop the periodic log lines, log a
+     * final report and unregister the beans.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.report();
+        }
+
+        this.pools.keySet().forEach(this::unregisterBean);
+        this.tasks.keySet().forEach(this::unregisterBean);
+        this.pools.clear();
+        this.tasks.clear();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Register the metrics of the task
+     * types that are not registered yet.
+     */
+    private void registerTasks() {
+        for (final TaskMetrics metrics : TaskMetrics.all()) {
+            final ObjectName name = objectName("Task", metrics.getTaskType());
+
+            if (!this.tasks.containsKey(name) && this.registerBean(name, metrics)) {
+                this.tasks.put(name, metrics);
+            }
+        }
+    }
+
+    /**
+     * Register a bean, logging rather than
+     * failing if that is not possible.
+     *
+     * @param   name    javax.management.ObjectName
+     * @param   bean    java.lang.Object
+     * @return          boolean
+     */
+    private boolean registerBean(final ObjectName name, final Object bean) {
+        try {
+            this.server.registerMBean(bean, name);
+
+            return true;
+        } catch (final InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException e) {
+            this.logger.warn("Unable to register {}: {}", name, e.getMessage());
+
+            return false;
+        }
+    }
+
+    /**
+     * Unregister a bean.
+     *
+     * @param   name    javax.management.ObjectName
+     */
+    private void unregisterBean(final ObjectName name) {
+        try {
+            this.server.unregisterMBean(name);
+        } catch (final InstanceNotFoundException | MBeanRegistrationException e) {
+            this.logger.warn("Unable to unregister {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Return the object name of a bean.
+     *
+     * @param   type    java.lang.String
+     * @param   name    java.lang.String
+     * @return          javax.management.ObjectName
+     */
+    private static ObjectName objectName(final String type, final String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+        } catch (final MalformedObjectNameException mone) {
+            throw new IllegalArgumentException(mone);
+        }
+    }
+}
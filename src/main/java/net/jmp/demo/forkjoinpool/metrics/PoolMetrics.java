@@ -0,0 +1,174 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)PoolMetrics.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The metrics of a fork-join pool. Every
+ * getter samples the pool when it is called.
+ */
+public final class PoolMetrics implements PoolMetricsMXBean {
+    /** The workload class. */
+    private final String workload;
+
+    /** The pool. */
+    private final ForkJoinPool pool;
+
+    /**
+     * The constructor.
+     *
+     * @param   workload    java.lang.String
+     * @param   pool        java.util.concurrent.ForkJoinPool
+     */
+    public PoolMetrics(final String workload, final ForkJoinPool pool) {
+        super();
+
+        this.workload = Objects.requireNonNull(workload);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Return the workload class of the pool.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getWorkload() {
+        return this.workload;
+    }
+
+    /**
+     * Return the target parallelism.
+     *
+     * @return  int
+     */
+    @Override
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * Return the number of worker threads.
+     *
+     * @return  int
+     */
+    @Override
+    public int getPoolSize() {
+        return this.pool.getPoolSize();
+    }
+
+    /**
+     * Return the estimated number of
+     * tasks stolen between workers.
+     *
+     * @return  long
+     */
+    @Override
+    public long getStealCount() {
+        return this.pool.getStealCount();
+    }
+
+    /**
+     * Return the estimated number of tasks
+     * queued by the worker threads.
+     *
+     * @return  long
+     */
+    @Override
+    public long getQueuedTaskCount() {
+        return this.pool.getQueuedTaskCount();
+    }
+
+    /**
+     * Return the estimated number of tasks
+     * submitted from outside the pool that
+     * have not started yet.
+     *
+     * @return  int
+     */
+    @Override
+    public int getQueuedSubmissionCount() {
+        return this.pool.getQueuedSubmissionCount();
+    }
+
+    /**
+     * Return the estimated number of threads
+     * that are stealing or running tasks.
+     *
+     * @return  int
+     */
+    @Override
+    public int getActiveThreadCount() {
+        return this.pool.getActiveThreadCount();
+    }
+
+    /**
+     * Return the estimated number of threads
+     * that are not blocked in a join.
+     *
+     * @return  int
+     */
+    @Override
+    public int getRunningThreadCount() {
+        return this.pool.getRunningThreadCount();
+    }
+
+    /**
+     * Return true if all the workers are idle.
+     *
+     * @return  boolean
+     */
+    @Override
+    public boolean isQuiescent() {
+        return this.pool.isQuiescent();
+    }
+
+    /**
+     * Return a sample of the metrics
+     * as space separated key=value pairs.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "pool=" + this.workload +
+                " parallelism=" + this.getParallelism() +
+                " poolSize=" + this.getPoolSize() +
+                " steals=" + this.getStealCount() +
+                " queuedTasks=" + this.getQueuedTaskCount() +
+                " queuedSubmissions=" + this.getQueuedSubmissionCount() +
+                " active=" + this.getActiveThreadCount() +
+                " running=" + this.getRunningThreadCount();
+    }
+}
@@ -0,0 +1,106 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)PoolMetricsMXBean.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The management interface of the
+ * metrics of a fork-join pool.
+ */
+public interface PoolMetricsMXBean {
+    /**
+     * Return the workload class of the pool.
+     *
+     * @return  java.lang.String
+     */
+    public String getWorkload();
+
+    /**
+     * Return the target parallelism.
+     *
+     * @return  int
+     */
+    public int getParallelism();
+
+    /**
+     * Return the number of worker threads.
+     *
+     * @return  int
+     */
+    public int getPoolSize();
+
+    /**
+     * Return the estimated number of
+     * tasks stolen between workers.
+     *
+     * @return  long
+     */
+    public long getStealCount();
+
+    /**
+     * Return the estimated number of tasks
+     * queued by the worker threads.
+     *
+     * @return  long
+     */
+    public long getQueuedTaskCount();
+
+    /**
+     * Return the estimated number of tasks
+     * submitted from outside the pool that
+     * have not started yet.
+     *
+     * @return  int
+     */
+    public int getQueuedSubmissionCount();
+
+    /**
+     * Return the estimated number of threads
+     * that are stealing or running tasks.
+     *
+     * @return  int
+     */
+    public int getActiveThreadCount();
+
+    /**
+     * Return the estimated number of threads
+     * that are not blocked in a join.
+     *
+     * @return  int
+     */
+    public int getRunningThreadCount();
+
+    /**
+     * Return true if all the workers are idle.
+     *
+     * @return  boolean
+     */
+    public boolean isQuiescent();
+}
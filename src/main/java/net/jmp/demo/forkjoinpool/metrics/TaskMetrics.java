@@ -0,0 +1,214 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)TaskMetrics.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The split and leaf counters of a type of task.
+ * Tasks obtain their instance once, in a static
+ * field, and record into striped adders so that
+ * workers do not contend on a shared counter.
+ * Recording can be turned off with the system
+ * property net.jmp.demo.forkjoinpool.metrics.disabled.
+ */
+public final class TaskMetrics implements TaskMetricsMXBean {
+    /** True if recording is enabled. */
+    public static final boolean ENABLED = !Boolean.getBoolean("net.jmp.demo.forkjoinpool.metrics.disabled");
+
+    /** The metrics of every task type keyed by class name. */
+    private static final Map<String, TaskMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    /** The simple name of the task type. */
+    private final String taskType;
+
+    /** The number of splits. */
+    private final LongAdder splits = new LongAdder();
+
+    /** The number of leaves. */
+    private final LongAdder leaves = new LongAdder();
+
+    /** The total time spent in leaves. */
+    private final LongAdder leafTimeNanos = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param   taskType    java.lang.String
+     */
+    private TaskMetrics(final String taskType) {
+        super();
+
+        this.taskType = taskType;
+    }
+
+    /**
+     * Return the metrics of a task type.
+     *
+     * @param   type    java.lang.Class&lt;?&gt;
+     * @return          net.jmp.demo.forkjoinpool.metrics.TaskMetrics
+     */
+    public static TaskMetrics of(final Class<?> type) {
+        Objects.requireNonNull(type);
+
+        return REGISTRY.computeIfAbsent(type.getName(), name -> new TaskMetrics(type.getSimpleName()));
+    }
+
+    /**
+     * Return the metrics of every task
+     * type that has been loaded.
+     *
+     * @return  java.util.Collection&lt;net.jmp.demo.forkjoinpool.metrics.TaskMetrics&gt;
+     */
+    public static Collection<TaskMetrics> all() {
+        return Collections.unmodifiableCollection(REGISTRY.values());
+    }
+
+    /**
+     * Record a split.
+     */
+    public void recordSplit() {
+        if (ENABLED) {
+            this.splits.increment();
+        }
+    }
+
+    /**
+     * Return the start time of a leaf
+     * or zero when recording is off.
+     *
+     * @return  long
+     */
+    public long startLeaf() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record a leaf that started
+     * at the given time.
+     *
+     * @param   startNanos  long
+     */
+    public void recordLeaf(final long startNanos) {
+        if (ENABLED) {
+            this.leaves.increment();
+            this.leafTimeNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Return the simple name of the task type.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String getTaskType() {
+        return this.taskType;
+    }
+
+    /**
+     * Return the number of times a
+     * task split itself into subtasks.
+     *
+     * @return  long
+     */
+    @Override
+    public long getSplits() {
+        return this.splits.sum();
+    }
+
+    /**
+     * Return the number of leaves,
+     * i.e. ranges processed directly.
+     *
+     * @return  long
+     */
+    @Override
+    public long getLeaves() {
+        return this.leaves.sum();
+    }
+
+    /**
+     * Return the total time spent
+     * in leaves in nanoseconds.
+     *
+     * @return  long
+     */
+    @Override
+    public long getLeafTimeNanos() {
+        return this.leafTimeNanos.sum();
+    }
+
+    /**
+     * Return the mean time spent
+     * per leaf in nanoseconds.
+     *
+     * @return  long
+     */
+    @Override
+    public long getMeanLeafTimeNanos() {
+        final long count = this.getLeaves();
+
+        return count == 0 ? 0 : this.getLeafTimeNanos() / count;
+    }
+
+    /**
+     * Reset the counters.
+     */
+    @Override
+    public void reset() {
+        this.splits.reset();
+        this.leaves.reset();
+        this.leafTimeNanos.reset();
+    }
+
+    /**
+     * Return a sample of the metrics
+     * as space separated key=value pairs.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "task=" + this.taskType +
+                " splits=" + this.getSplits() +
+                " leaves=" + this.getLeaves() +
+                " leafTimeNanos=" + this.getLeafTimeNanos() +
+                " meanLeafTimeNanos=" + this.getMeanLeafTimeNanos();
+    }
+}
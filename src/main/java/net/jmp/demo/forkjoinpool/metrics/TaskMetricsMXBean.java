@@ -0,0 +1,81 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)TaskMetricsMXBean.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * The management interface of the
+ * metrics of a type of task.
+ */
+public interface TaskMetricsMXBean {
+    /**
+     * Return the simple name of the task type.
+     *
+     * @return  java.lang.String
+     */
+    public String getTaskType();
+
+    /**
+     * Return the number of times a
+     * task split itself into subtasks.
+     *
+     * @return  long
+     */
+    public long getSplits();
+
+    /**
+     * Return the number of leaves,
+     * i.e. ranges processed directly.
+     *
+     * @return  long
+     */
+    public long getLeaves();
+
+    /**
+     * Return the total time spent
+     * in leaves in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getLeafTimeNanos();
+
+    /**
+     * Return the mean time spent
+     * per leaf in nanoseconds.
+     *
+     * @return  long
+     */
+    public long getMeanLeafTimeNanos();
+
+    /**
+     * Reset the counters.
+     */
+    public void reset();
+}
@@ -0,0 +1,112 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)CancellableGranularityPolicy.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+/**
+ * A granularity policy that decorates another
+ * with a cancellation token. It splits as the
+ * other policy does, and tasks that check it
+ * fail fast once the token is cancelled.
+ */
+public final class CancellableGranularityPolicy implements GranularityPolicy {
+    /** The decorated policy. */
+    private final GranularityPolicy policy;
+
+    /** The cancellation token. */
+    private final CancellationToken token;
+
+    /**
+     * The constructor.
+     *
+     * @param   policy  net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   token   net.jmp.demo.forkjoinpool.policies.CancellationToken
+     */
+    public CancellableGranularityPolicy(final GranularityPolicy policy, final CancellationToken token) {
+        super();
+
+        this.policy = Objects.requireNonNull(policy);
+        this.token = Objects.requireNonNull(token);
+    }
+
+    /**
+     * Return true if the decorated policy would
+     * split. Cancellation does not stop splitting,
+     * since a task that stopped would run its whole
+     * range as one leaf; the subtasks instead fail
+     * fast when they check the token.
+     *
+     * @param   size    long
+     * @return          boolean
+     */
+    @Override
+    public boolean shouldSplit(final long size) {
+        return this.policy.shouldSplit(size);
+    }
+
+    /**
+     * Throw a cancellation exception if
+     * the token has been cancelled.
+     */
+    @Override
+    public void checkCancelled() {
+        this.token.throwIfCancelled();
+    }
+
+    /**
+     * Return the decorated policy.
+     *
+     * @return  net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public GranularityPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Return the cancellation token.
+     *
+     * @return  net.jmp.demo.forkjoinpool.policies.CancellationToken
+     */
+    public CancellationToken getToken() {
+        return this.token;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return this.policy + " (cancellable)";
+    }
+}
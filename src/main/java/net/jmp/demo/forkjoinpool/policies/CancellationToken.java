@@ -0,0 +1,241 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)CancellationToken.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Objects;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A token shared by every task of one job that
+ * tells them the job has been cancelled, either
+ * explicitly or by passing its deadline. Tasks
+ * see the token through a cancellable granularity
+ * policy and check it before doing any work, so
+ * once it is cancelled the pending subtasks of
+ * the job finish at once and the job fails with
+ * a cancellation exception. A token is thread
+ * safe.
+ */
+public final class CancellationToken {
+    /** True if the token has a deadline. */
+    private final boolean hasDeadline;
+
+    /** The deadline as a System.nanoTime() value. */
+    private final long deadlineNanos;
+
+    /** True once the token has been cancelled. */
+    private volatile boolean cancelled;
+
+    /**
+     * A constructor for a token
+     * without a deadline.
+     */
+    public CancellationToken() {
+        this(false, 0);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param   hasDeadline     boolean
+     * @param   deadlineNanos   long
+     */
+    private CancellationToken(final boolean hasDeadline, final long deadlineNanos) {
+        super();
+
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Return a token that cancels itself
+     * once a timeout, starting now, passes.
+     *
+     * @param   timeout java.time.Duration
+     * @return          net.jmp.demo.forkjoinpool.policies.CancellationToken
+     */
+    public static CancellationToken withTimeout(final Duration timeout) {
+        if (Objects.requireNonNull(timeout).isNegative()) {
+            throw new IllegalArgumentException("The timeout must not be negative: " + timeout);
+        }
+
+        final long nanos = timeout.compareTo(Duration.ofNanos(Long.MAX_VALUE / 2)) < 0
+                ? timeout.toNanos()
+                : Long.MAX_VALUE / 2;
+
+        return new CancellationToken(true, System.nanoTime() + nanos);
+    }
+
+    /**
+     * Cancel the token.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Return true if the token has been
+     * cancelled or its deadline has passed.
+     *
+     * @return  boolean
+     */
+    public boolean isCancelled() {
+        if (!this.cancelled && this.hasExpired()) {
+            this.cancelled = true;
+        }
+
+        return this.cancelled;
+    }
+
+    /**
+     * Return true if the token has a
+     * deadline and it has passed.
+     *
+     * @return  boolean
+     */
+    public boolean hasExpired() {
+        return this.hasDeadline && System.nanoTime() - this.deadlineNanos >= 0;
+    }
+
+    /**
+     * Throw a cancellation exception
+     * if the token has been cancelled.
+     *
+     * @throws  java.util.concurrent.CancellationException  When the token has been cancelled
+     */
+    public void throwIfCancelled() {
+        if (this.isCancelled()) {
+            throw new CancellationException(this.hasExpired() ? "The deadline has passed" : "The job was cancelled");
+        }
+    }
+
+    /**
+     * Run a task on a pool and wait for its result
+     * until the deadline, if there is one. When the
+     * deadline passes the caller is released at
+     * once even if a leaf is still running; the
+     * token and the task are cancelled so that the
+     * rest of the job is pruned from the pool. The
+     * task's granularity policy is expected to be
+     * cancellable with this token.
+     *
+     * @param   <T>     The type of result
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @param   task    java.util.concurrent.ForkJoinTask&lt;T&gt;
+     * @return          T
+     * @throws  java.util.concurrent.TimeoutException       When the deadline passes first
+     * @throws  java.util.concurrent.CancellationException  When the token is cancelled or the waiting thread is interrupted
+     */
+    public <T> T invoke(final ForkJoinPool pool, final ForkJoinTask<T> task) throws TimeoutException {
+        Objects.requireNonNull(pool).execute(Objects.requireNonNull(task));
+
+        try {
+            return this.hasDeadline
+                    ? task.get(this.deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)
+                    : task.get();
+        } catch (final TimeoutException te) {
+            this.cancel(task);
+
+            throw new TimeoutException("The deadline has passed");
+        } catch (final CancellationException ce) {
+            throw this.failure(ce);
+        } catch (final ExecutionException ee) {
+            if (ee.getCause() instanceof CancellationException ce) {
+                throw this.failure(ce);
+            }
+
+            if (ee.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            if (ee.getCause() instanceof Error e) {
+                throw e;
+            }
+
+            throw new IllegalStateException(ee.getCause());
+        } catch (final InterruptedException ie) {
+            this.cancel(task);
+
+            Thread.currentThread().interrupt();
+
+            throw new CancellationException("Interrupted while waiting for the job");
+        }
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "CancellationToken{" +
+                "cancelled=" + this.isCancelled() +
+                ", remaining=" + (this.hasDeadline ? Duration.ofNanos(this.deadlineNanos - System.nanoTime()) : "unbounded") +
+                '}';
+    }
+
+    /**
+     * Cancel this token and a task.
+     *
+     * @param   task    java.util.concurrent.ForkJoinTask&lt;?&gt;
+     */
+    private void cancel(final ForkJoinTask<?> task) {
+        this.cancel();
+
+        task.cancel(true);
+    }
+
+    /**
+     * Return the exception to rethrow when a
+     * job was cancelled: a timeout if its
+     * deadline passed, else the cancellation.
+     *
+     * @param   cancellation    java.util.concurrent.CancellationException
+     * @return                  java.util.concurrent.CancellationException
+     * @throws  java.util.concurrent.TimeoutException   When the deadline has passed
+     */
+    private CancellationException failure(final CancellationException cancellation) throws TimeoutException {
+        if (this.hasExpired()) {
+            throw new TimeoutException("The deadline has passed");
+        }
+
+        return cancellation;
+    }
+}
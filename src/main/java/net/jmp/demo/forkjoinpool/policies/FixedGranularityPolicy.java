@@ -0,0 +1,86 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)FixedGranularityPolicy.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A granularity policy that splits while a
+ * range is larger than a fixed threshold.
+ */
+public final class FixedGranularityPolicy implements GranularityPolicy {
+    /** The threshold. */
+    private final long threshold;
+
+    /**
+     * The constructor.
+     *
+     * @param   threshold   long
+     */
+    public FixedGranularityPolicy(final long threshold) {
+        super();
+
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The workload threshold must be positive: " + threshold);
+        }
+
+        this.threshold = threshold;
+    }
+
+    /**
+     * Return true if the size is
+     * larger than the threshold.
+     *
+     * @param   size    long
+     * @return          boolean
+     */
+    @Override
+    public boolean shouldSplit(final long size) {
+        return size > this.threshold;
+    }
+
+    /**
+     * Return the threshold.
+     *
+     * @return  long
+     */
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "fixed:" + this.threshold;
+    }
+}
@@ -0,0 +1,178 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)GranularityPolicy.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The granularity policy interface. Tasks consult
+ * a policy instead of a hard-coded threshold to
+ * decide whether a range is worth splitting.
+ */
+@FunctionalInterface
+public interface GranularityPolicy {
+    /**
+     * Return true if a task covering
+     * the given number of elements
+     * should split itself further.
+     *
+     * @param   size    long
+     * @return          boolean
+     */
+    public boolean shouldSplit(long size);
+
+    /**
+     * Throw a cancellation exception if the job
+     * that uses this policy has been cancelled.
+     * Tasks call this before doing any work, so
+     * the subtasks of a cancelled job finish at
+     * once, and long leaves call it as they go.
+     * Only cancellable policies throw.
+     *
+     * @throws  java.util.concurrent.CancellationException  When the job has been cancelled
+     */
+    public default void checkCancelled() {
+    }
+
+    /**
+     * Return a policy that splits while
+     * a range is larger than a threshold.
+     *
+     * @param   threshold   long
+     * @return              net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy fixed(final long threshold) {
+        return new FixedGranularityPolicy(threshold);
+    }
+
+    /**
+     * Return a policy whose threshold is the
+     * total size divided by parallelism * k,
+     * so that about k leaves are created for
+     * each worker in the pool.
+     *
+     * @param   size        long
+     * @param   parallelism int
+     * @param   k           int
+     * @return              net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy proportional(final long size, final int parallelism, final int k) {
+        return new ProportionalGranularityPolicy(size, parallelism, k);
+    }
+
+    /**
+     * Return a proportional policy for a
+     * pool using the default leaves per
+     * worker.
+     *
+     * @param   size    long
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @return          net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy proportional(final long size, final ForkJoinPool pool) {
+        return proportional(size, Objects.requireNonNull(pool).getParallelism(), ProportionalGranularityPolicy.DEFAULT_LEAVES_PER_WORKER);
+    }
+
+    /**
+     * Return a policy that splits while the
+     * current worker has no more than the
+     * given number of surplus queued tasks
+     * and the range is larger than a minimum.
+     *
+     * @param   minimumSize     long
+     * @param   maximumSurplus  int
+     * @return                  net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy surplus(final long minimumSize, final int maximumSurplus) {
+        return new SurplusGranularityPolicy(minimumSize, maximumSurplus);
+    }
+
+    /**
+     * Return a policy that splits as another
+     * does and makes the tasks that use it
+     * fail fast once a token is cancelled.
+     *
+     * @param   policy  net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   token   net.jmp.demo.forkjoinpool.policies.CancellationToken
+     * @return          net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy cancellable(final GranularityPolicy policy, final CancellationToken token) {
+        return new CancellableGranularityPolicy(policy, token);
+    }
+
+    /**
+     * Parse a policy from a specification
+     * such as 'fixed:1000', 'proportional:4'
+     * or 'surplus:3'. The size and parallelism
+     * are only used by proportional policies.
+     *
+     * @param   specification   java.lang.String
+     * @param   size            long
+     * @param   parallelism     int
+     * @return                  net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy parse(final String specification, final long size, final int parallelism) {
+        final String[] parts = Objects.requireNonNull(specification).split(":", 2);
+        final String name = parts[0].trim();
+
+        try {
+            return switch (name) {
+                case "fixed" -> fixed(Long.parseLong(argument(parts, specification)));
+                case "proportional" -> proportional(size,
+                        parallelism,
+                        parts.length == 1 ? ProportionalGranularityPolicy.DEFAULT_LEAVES_PER_WORKER : Integer.parseInt(parts[1].trim()));
+                case "surplus" -> surplus(SurplusGranularityPolicy.DEFAULT_MINIMUM_SIZE,
+                        parts.length == 1 ? SurplusGranularityPolicy.DEFAULT_MAXIMUM_SURPLUS : Integer.parseInt(parts[1].trim()));
+                default -> throw new IllegalArgumentException("Unknown granularity policy: " + specification);
+            };
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("Invalid granularity policy: " + specification, nfe);
+        }
+    }
+
+    /**
+     * Return the required argument of
+     * a policy specification.
+     *
+     * @param   parts           java.lang.String[]
+     * @param   specification   java.lang.String
+     * @return                  java.lang.String
+     */
+    private static String argument(final String[] parts, final String specification) {
+        if (parts.length == 1) {
+            throw new IllegalArgumentException("Missing granularity policy argument: " + specification);
+        }
+
+        return parts[1].trim();
+    }
+}
@@ -0,0 +1,106 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)ProportionalGranularityPolicy.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A granularity policy whose threshold is the
+ * total size divided by parallelism * k. This
+ * is the rule used by Arrays.parallelSort and
+ * creates about k leaves for each worker, which
+ * leaves room for stealing to balance the load.
+ */
+public final class ProportionalGranularityPolicy implements GranularityPolicy {
+    /** The default number of leaves per worker. */
+    public static final int DEFAULT_LEAVES_PER_WORKER = 4;
+
+    /** The smallest threshold this policy will use. */
+    private static final long MINIMUM_THRESHOLD = 1_024;
+
+    /** The threshold derived from the size. */
+    private final long threshold;
+
+    /** The number of leaves per worker. */
+    private final int leavesPerWorker;
+
+    /**
+     * The constructor.
+     *
+     * @param   size            long
+     * @param   parallelism     int
+     * @param   leavesPerWorker int
+     */
+    public ProportionalGranularityPolicy(final long size, final int parallelism, final int leavesPerWorker) {
+        super();
+
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative: " + size);
+        }
+
+        if (parallelism < 1 || leavesPerWorker < 1) {
+            throw new IllegalArgumentException("The parallelism and leaves per worker must be positive: " +
+                    parallelism + ", " + leavesPerWorker);
+        }
+
+        this.leavesPerWorker = leavesPerWorker;
+        this.threshold = Math.max(MINIMUM_THRESHOLD, size / ((long) parallelism * leavesPerWorker));
+    }
+
+    /**
+     * Return true if the size is larger
+     * than the derived threshold.
+     *
+     * @param   size    long
+     * @return          boolean
+     */
+    @Override
+    public boolean shouldSplit(final long size) {
+        return size > this.threshold;
+    }
+
+    /**
+     * Return the derived threshold.
+     *
+     * @return  long
+     */
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "proportional:" + this.leavesPerWorker + " (threshold " + this.threshold + ")";
+    }
+}
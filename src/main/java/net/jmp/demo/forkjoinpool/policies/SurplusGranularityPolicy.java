@@ -0,0 +1,96 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)SurplusGranularityPolicy.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A granularity policy that keeps splitting while
+ * the current worker has only a few surplus tasks
+ * queued, i.e. while there may be idle workers
+ * that could steal them. Once other workers are
+ * busy the task runs its range sequentially. A
+ * minimum size bounds the depth of the split tree.
+ */
+public final class SurplusGranularityPolicy implements GranularityPolicy {
+    /** The default minimum size. */
+    public static final long DEFAULT_MINIMUM_SIZE = 1_024;
+
+    /** The default maximum surplus. */
+    public static final int DEFAULT_MAXIMUM_SURPLUS = 3;
+
+    /** The size at or below which a range is never split. */
+    private final long minimumSize;
+
+    /** The surplus above which a range is not split. */
+    private final int maximumSurplus;
+
+    /**
+     * The constructor.
+     *
+     * @param   minimumSize     long
+     * @param   maximumSurplus  int
+     */
+    public SurplusGranularityPolicy(final long minimumSize, final int maximumSurplus) {
+        super();
+
+        if (minimumSize < 1 || maximumSurplus < 0) {
+            throw new IllegalArgumentException("Invalid minimum size or maximum surplus: " +
+                    minimumSize + ", " + maximumSurplus);
+        }
+
+        this.minimumSize = minimumSize;
+        this.maximumSurplus = maximumSurplus;
+    }
+
+    /**
+     * Return true if the size is larger than
+     * the minimum and the current worker's
+     * surplus is small enough.
+     *
+     * @param   size    long
+     * @return          boolean
+     */
+    @Override
+    public boolean shouldSplit(final long size) {
+        return size > this.minimumSize && ForkJoinTask.getSurplusQueuedTaskCount() <= this.maximumSurplus;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "surplus:" + this.maximumSurplus + " (minimum " + this.minimumSize + ")";
+    }
+}
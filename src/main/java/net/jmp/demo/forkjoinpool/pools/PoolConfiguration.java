@@ -0,0 +1,420 @@
+package net.jmp.demo.forkjoinpool.pools;
+
+/*
+ * (#)PoolConfiguration.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The configuration of a dedicated fork-join
+ * pool. Instances are immutable and are created
+ * with the builder.
+ */
+public final class PoolConfiguration {
+    /** The prefix of the system properties read by fromSystemProperties. */
+    public static final String PROPERTY_PREFIX = "net.jmp.demo.forkjoinpool.pools.";
+
+    /** The default keep-alive time in seconds. */
+    private static final long DEFAULT_KEEP_ALIVE_SECONDS = 60;
+
+    /** The default number of spare threads allowed for compensation. */
+    private static final int DEFAULT_SPARE_THREADS = 256;
+
+    /** The parallelism. */
+    private final int parallelism;
+
+    /** True if local tasks are processed in FIFO order. */
+    private final boolean asyncMode;
+
+    /** The worker thread factory or null for the default. */
+    private final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory;
+
+    /** The uncaught exception handler or null for the default. */
+    private final Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+
+    /** The maximum number of threads, including compensating ones. */
+    private final int maximumPoolSize;
+
+    /** The saturation policy or null to reject when saturated. */
+    private final Predicate<? super ForkJoinPool> saturationPolicy;
+
+    /** The keep-alive time of idle threads in seconds. */
+    private final long keepAliveSeconds;
+
+    /**
+     * The constructor.
+     *
+     * @param   builder net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+     */
+    private PoolConfiguration(final Builder builder) {
+        super();
+
+        this.parallelism = builder.parallelism;
+        this.asyncMode = builder.asyncMode;
+        this.threadFactory = builder.threadFactory;
+        this.uncaughtExceptionHandler = builder.uncaughtExceptionHandler;
+        this.maximumPoolSize = builder.maximumPoolSize == 0
+                ? builder.parallelism + DEFAULT_SPARE_THREADS
+                : builder.maximumPoolSize;
+        this.saturationPolicy = builder.saturationPolicy;
+        this.keepAliveSeconds = builder.keepAliveSeconds;
+    }
+
+    /**
+     * Return a new builder.
+     *
+     * @return  net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Return the configuration for a workload
+     * class read from the system properties
+     * PROPERTY_PREFIX + workload + '.parallelism'
+     * and '.asyncMode'. Missing properties
+     * take the builder defaults.
+     *
+     * @param   workload    java.lang.String
+     * @return              net.jmp.demo.forkjoinpool.pools.PoolConfiguration
+     */
+    public static PoolConfiguration fromSystemProperties(final String workload) {
+        final String prefix = PROPERTY_PREFIX + Objects.requireNonNull(workload) + ".";
+        final Builder builder = builder();
+        final String parallelism = System.getProperty(prefix + "parallelism");
+
+        if (parallelism != null) {
+            try {
+                builder.parallelism(Integer.parseInt(parallelism.trim()));
+            } catch (final NumberFormatException nfe) {
+                throw new IllegalArgumentException("Invalid parallelism for workload " + workload + ": " + parallelism, nfe);
+            }
+        }
+
+        return builder
+                .asyncMode(Boolean.getBoolean(prefix + "asyncMode"))
+                .build();
+    }
+
+    /**
+     * Create a pool from this configuration.
+     * Threads are named after the workload
+     * unless a thread factory was supplied.
+     *
+     * @param   workload    java.lang.String
+     * @return              java.util.concurrent.ForkJoinPool
+     */
+    ForkJoinPool newPool(final String workload) {
+        final ForkJoinPool.ForkJoinWorkerThreadFactory factory = this.threadFactory != null
+                ? this.threadFactory
+                : new NamedThreadFactory(workload);
+
+        final Thread.UncaughtExceptionHandler handler = this.uncaughtExceptionHandler != null
+                ? this.uncaughtExceptionHandler
+                : new LoggingUncaughtExceptionHandler();
+
+        return new ForkJoinPool(this.parallelism,
+                factory,
+                handler,
+                this.asyncMode,
+                0,
+                this.maximumPoolSize,
+                1,
+                this.saturationPolicy,
+                this.keepAliveSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Return the parallelism.
+     *
+     * @return  int
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Return true if the pool is in async mode.
+     *
+     * @return  boolean
+     */
+    public boolean isAsyncMode() {
+        return this.asyncMode;
+    }
+
+    /**
+     * Return the maximum pool size.
+     *
+     * @return  int
+     */
+    public int getMaximumPoolSize() {
+        return this.maximumPoolSize;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "PoolConfiguration{" +
+                "parallelism=" + this.parallelism +
+                ", asyncMode=" + this.asyncMode +
+                ", maximumPoolSize=" + this.maximumPoolSize +
+                ", keepAliveSeconds=" + this.keepAliveSeconds +
+                '}';
+    }
+
+    /**
+     * The builder class.
+     */
+    public static final class Builder {
+        /** The parallelism. */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /** True if local tasks are processed in FIFO order. */
+        private boolean asyncMode;
+
+        /** The worker thread factory. */
+        private ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory;
+
+        /** The uncaught exception handler. */
+        private Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+
+        /** The maximum pool size; zero for parallelism plus spares. */
+        private int maximumPoolSize;
+
+        /** The saturation policy. */
+        private Predicate<? super ForkJoinPool> saturationPolicy;
+
+        /** The keep-alive time in seconds. */
+        private long keepAliveSeconds = DEFAULT_KEEP_ALIVE_SECONDS;
+
+        /**
+         * The default constructor.
+         */
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Set the parallelism.
+         *
+         * @param   parallelism int
+         * @return              net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+            }
+
+            this.parallelism = parallelism;
+
+            return this;
+        }
+
+        /**
+         * Set the async mode.
+         *
+         * @param   asyncMode   boolean
+         * @return              net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder asyncMode(final boolean asyncMode) {
+            this.asyncMode = asyncMode;
+
+            return this;
+        }
+
+        /**
+         * Set the worker thread factory.
+         *
+         * @param   threadFactory   java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory
+         * @return                  net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder threadFactory(final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory) {
+            this.threadFactory = Objects.requireNonNull(threadFactory);
+
+            return this;
+        }
+
+        /**
+         * Set the uncaught exception handler.
+         *
+         * @param   uncaughtExceptionHandler    java.lang.Thread.UncaughtExceptionHandler
+         * @return                              net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder uncaughtExceptionHandler(final Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+            this.uncaughtExceptionHandler = Objects.requireNonNull(uncaughtExceptionHandler);
+
+            return this;
+        }
+
+        /**
+         * Set the maximum pool size.
+         *
+         * @param   maximumPoolSize int
+         * @return                  net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder maximumPoolSize(final int maximumPoolSize) {
+            if (maximumPoolSize < 1) {
+                throw new IllegalArgumentException("The maximum pool size must be positive: " + maximumPoolSize);
+            }
+
+            this.maximumPoolSize = maximumPoolSize;
+
+            return this;
+        }
+
+        /**
+         * Set the saturation policy. The predicate is
+         * called when a blocked join would need a
+         * thread beyond the maximum pool size; if it
+         * returns true the join proceeds with fewer
+         * threads, otherwise it is rejected.
+         *
+         * @param   saturationPolicy    java.util.function.Predicate&lt;? super java.util.concurrent.ForkJoinPool&gt;
+         * @return                      net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder saturationPolicy(final Predicate<? super ForkJoinPool> saturationPolicy) {
+            this.saturationPolicy = Objects.requireNonNull(saturationPolicy);
+
+            return this;
+        }
+
+        /**
+         * Set the keep-alive time of idle threads.
+         *
+         * @param   keepAliveSeconds    long
+         * @return                      net.jmp.demo.forkjoinpool.pools.PoolConfiguration.Builder
+         */
+        public Builder keepAliveSeconds(final long keepAliveSeconds) {
+            if (keepAliveSeconds < 1) {
+                throw new IllegalArgumentException("The keep-alive time must be positive: " + keepAliveSeconds);
+            }
+
+            this.keepAliveSeconds = keepAliveSeconds;
+
+            return this;
+        }
+
+        /**
+         * Build the configuration.
+         *
+         * @return  net.jmp.demo.forkjoinpool.pools.PoolConfiguration
+         */
+        public PoolConfiguration build() {
+            if (this.maximumPoolSize != 0 && this.maximumPoolSize < this.parallelism) {
+                throw new IllegalArgumentException("The maximum pool size is less than the parallelism: " +
+                        this.maximumPoolSize + " < " + this.parallelism);
+            }
+
+            return new PoolConfiguration(this);
+        }
+    }
+
+    /**
+     * A worker thread factory that names
+     * its threads after the workload.
+     */
+    private static final class NamedThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        /** The thread name prefix. */
+        private final String prefix;
+
+        /** The number of the next thread. */
+        private final AtomicInteger counter = new AtomicInteger();
+
+        /**
+         * The constructor.
+         *
+         * @param   workload    java.lang.String
+         */
+        private NamedThreadFactory(final String workload) {
+            super();
+
+            this.prefix = "fjp-" + workload + "-worker-";
+        }
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param   pool    java.util.concurrent.ForkJoinPool
+         * @return          java.util.concurrent.ForkJoinWorkerThread
+         */
+        @Override
+        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+            thread.setName(this.prefix + this.counter.incrementAndGet());
+
+            return thread;
+        }
+    }
+
+    /**
+     * An uncaught exception handler
+     * that logs the exception.
+     */
+    private static final class LoggingUncaughtExceptionHandler implements Thread.UncaughtExceptionHandler {
+        /** The logger. */
+        private final Logger logger = LoggerFactory.getLogger(PoolConfiguration.class.getName());
+
+        /**
+         * The default constructor.
+         */
+        private LoggingUncaughtExceptionHandler() {
+            super();
+        }
+
+        /**
+         * Log the uncaught exception.
+         *
+         * @param   thread      java.lang.Thread
+         * @param   throwable   java.lang.Throwable
+         */
+        @Override
+        public void uncaughtException(final Thread thread, final Throwable throwable) {
+            this.logger.error("Uncaught exception in {}: {}", thread.getName(), throwable.getMessage(), throwable);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package net.jmp.demo.forkjoinpool.pools;
+
+/*
+ * (#)PoolProvider.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.BiConsumer;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A provider of dedicated fork-join pools, one per
+ * workload class. Pools are created on first use
+ * from the configuration registered for their
+ * workload, or from the system properties when
+ * none was registered, and are reused after that.
+ * Closing the provider shuts its pools down; the
+ * common pool is never touched.
+ */
+public final class PoolProvider implements AutoCloseable {
+    /** The workload class of array arithmetic and transforms. */
+    public static final String NUMERIC = "numeric";
+
+    /** The workload class of text processing. */
+    public static final String TEXT = "text";
+
+    /** The workload class of big integer arithmetic. */
+    public static final String BIG_INTEGER = "big-integer";
+
+    /** How long close waits for each pool to terminate. */
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The registered configurations. */
+    private final Map<String, PoolConfiguration> configurations = new ConcurrentHashMap<>();
+
+    /** The pools created so far. */
+    private final Map<String, ForkJoinPool> pools = new ConcurrentHashMap<>();
+
+    /** The listener told about every pool that is created. */
+    private final BiConsumer<String, ForkJoinPool> listener;
+
+    /** True once the provider has been closed. */
+    private volatile boolean closed;
+
+    /**
+     * The default constructor.
+     */
+    public PoolProvider() {
+        this((workload, pool) -> {});
+    }
+
+    /**
+     * A constructor that takes a listener
+     * that is told about every pool as soon
+     * as it is created, e.g. to export its
+     * metrics.
+     *
+     * @param   listener    java.util.function.BiConsumer&lt;java.lang.String, java.util.concurrent.ForkJoinPool&gt;
+     */
+    public PoolProvider(final BiConsumer<String, ForkJoinPool> listener) {
+        super();
+
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Return the provider shared by callers that
+     * are not given one. Its pools are never
+     * closed; their worker threads are daemons.
+     *
+     * @return  net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    public static PoolProvider getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Register the configuration of a workload
+     * class. This must be done before the pool
+     * of the workload class is first used. It
+     * holds the same lock as pool creation, so
+     * it cannot succeed once a racing getPool
+     * has built the pool from another
+     * configuration.
+     *
+     * @param   workload        java.lang.String
+     * @param   configuration   net.jmp.demo.forkjoinpool.pools.PoolConfiguration
+     * @return                  net.jmp.demo.forkjoinpool.pools.PoolProvider
+     */
+    public synchronized PoolProvider configure(final String workload, final PoolConfiguration configuration) {
+        Objects.requireNonNull(workload);
+        Objects.requireNonNull(configuration);
+
+        if (this.pools.containsKey(workload)) {
+            throw new IllegalStateException("The pool for workload " + workload + " has already been created");
+        }
+
+        this.configurations.put(workload, configuration);
+
+        return this;
+    }
+
+    /**
+     * Return the pool of a workload
+     * class, creating it if needed.
+     *
+     * @param   workload    java.lang.String
+     * @return              java.util.concurrent.ForkJoinPool
+     */
+    public ForkJoinPool getPool(final String workload) {
+        Objects.requireNonNull(workload);
+
+        if (this.closed) {
+            throw new IllegalStateException("The pool provider has been closed");
+        }
+
+        final ForkJoinPool pool = this.pools.get(workload);
+
+        return pool != null ? pool : this.createPool(workload);
+    }
+
+    /**
+     * Return the pools created so far
+     * keyed by their workload class.
+     *
+     * @return  java.util.Map&lt;java.lang.String, java.util.concurrent.ForkJoinPool&gt;
+     */
+    public Map<String, ForkJoinPool> getPools() {
+        return Collections.unmodifiableMap(this.pools);
+    }
+
+    /**
+     * Return the workload classes that
+     * have a registered configuration.
+     *
+     * @return  java.util.Set&lt;java.lang.String&gt;
+     */
+    public Set<String> getConfiguredWorkloads() {
+        return Collections.unmodifiableSet(this.configurations.keySet());
+    }
+
+    /**
+     * Shut down every pool and wait for them
+     * to terminate. It holds the lock that
+     * pool creation holds, so no pool can be
+     * created once it has begun.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.closed = true;
+
+        this.pools.forEach((workload, pool) -> pool.shutdown());
+
+        for (final Map.Entry<String, ForkJoinPool> entry : this.pools.entrySet()) {
+            try {
+                if (!entry.getValue().awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    this.logger.warn("The pool for workload {} did not terminate; cancelling its tasks", entry.getKey());
+
+                    entry.getValue().shutdownNow();
+                }
+            } catch (final InterruptedException ie) {
+                entry.getValue().shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Create the pool of a workload class
+     * unless another thread has done so or
+     * the provider has been closed, holding
+     * the lock that configure and close hold.
+     *
+     * @param   workload    java.lang.String
+     * @return              java.util.concurrent.ForkJoinPool
+     */
+    private synchronized ForkJoinPool createPool(final String workload) {
+        if (this.closed) {
+            throw new IllegalStateException("The pool provider has been closed");
+        }
+
+        return this.pools.computeIfAbsent(workload, this::newPool);
+    }
+
+    /**
+     * Create the pool of a workload class.
+     *
+     * @param   workload    java.lang.String
+     * @return              java.util.concurrent.ForkJoinPool
+     */
+    private ForkJoinPool newPool(final String workload) {
+        final PoolConfiguration configuration = this.configurations.computeIfAbsent(workload, PoolConfiguration::fromSystemProperties);
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Creating the pool for workload {}: {}", workload, configuration);
+        }
+
+        final ForkJoinPool pool = configuration.newPool(workload);
+
+        this.listener.accept(workload, pool);
+
+        return pool;
+    }
+
+    /**
+     * The holder of the default provider.
+     */
+    private static final class DefaultHolder {
+        /** The default provider. */
+        private static final PoolProvider INSTANCE = new PoolProvider();
+
+        /**
+         * The default constructor.
+         */
+        private DefaultHolder() {
+            super();
+        }
+    }
+}
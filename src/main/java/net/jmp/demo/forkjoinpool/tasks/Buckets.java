@@ -0,0 +1,271 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)Buckets.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+/**
+ * The buckets of a histogram over doubles, either
+ * of a fixed width or between explicit boundaries.
+ * Bucket i holds the values from its lower bound,
+ * inclusive, to its upper bound, exclusive. Values
+ * below the first bucket, at or above the last and
+ * NaN are each counted on their own. Buckets are
+ * immutable and may be shared by any number of
+ * histograms and tasks.
+ */
+public final class Buckets {
+    /** The lower bound of the first bucket. */
+    private final double minimum;
+
+    /** The upper bound of the last bucket. */
+    private final double maximum;
+
+    /** The number of buckets per unit, or zero for explicit boundaries. */
+    private final double scale;
+
+    /** The explicit boundaries, or null for a fixed width. */
+    private final double[] boundaries;
+
+    /** The number of buckets. */
+    private final int count;
+
+    /**
+     * The constructor.
+     *
+     * @param   minimum     double
+     * @param   maximum     double
+     * @param   scale       double
+     * @param   boundaries  double[]
+     * @param   count       int
+     */
+    private Buckets(final double minimum,
+                    final double maximum,
+                    final double scale,
+                    final double[] boundaries,
+                    final int count) {
+        super();
+
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.scale = scale;
+        this.boundaries = boundaries;
+        this.count = count;
+    }
+
+    /**
+     * Return a number of buckets of the
+     * same width between two bounds.
+     *
+     * @param   minimum double
+     * @param   maximum double
+     * @param   count   int
+     * @return          net.jmp.demo.forkjoinpool.tasks.Buckets
+     */
+    public static Buckets fixedWidth(final double minimum, final double maximum, final int count) {
+        if (!Double.isFinite(minimum) || !Double.isFinite(maximum) || minimum >= maximum) {
+            throw new IllegalArgumentException("The bounds must be finite and increasing: " + minimum + ", " + maximum);
+        }
+
+        if (count < 1) {
+            throw new IllegalArgumentException("The number of buckets must be positive: " + count);
+        }
+
+        final double scale = count / (maximum - minimum);
+
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("The bounds are too close or too far apart: " + minimum + ", " + maximum);
+        }
+
+        return new Buckets(minimum, maximum, scale, null, count);
+    }
+
+    /**
+     * Return the buckets between explicit
+     * boundaries, which must be strictly
+     * increasing. Infinite boundaries are
+     * allowed.
+     *
+     * @param   boundaries  double[]
+     * @return              net.jmp.demo.forkjoinpool.tasks.Buckets
+     */
+    public static Buckets boundaries(final double... boundaries) {
+        if (boundaries.length < 2) {
+            throw new IllegalArgumentException("At least two boundaries are needed: " + boundaries.length);
+        }
+
+        final double[] copy = boundaries.clone();
+
+        for (int i = 0; i < copy.length; i++) {
+            if (Double.isNaN(copy[i]) || (i > 0 && copy[i] <= copy[i - 1])) {
+                throw new IllegalArgumentException("The boundaries must be strictly increasing: " + Arrays.toString(boundaries));
+            }
+        }
+
+        return new Buckets(copy[0], copy[copy.length - 1], 0, copy, copy.length - 1);
+    }
+
+    /**
+     * Return the number of buckets.
+     *
+     * @return  int
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Return the lower bound of a bucket.
+     *
+     * @param   bucket  int
+     * @return          double
+     */
+    public double lowerBound(final int bucket) {
+        return this.bound(bucket);
+    }
+
+    /**
+     * Return the upper bound of a bucket.
+     *
+     * @param   bucket  int
+     * @return          double
+     */
+    public double upperBound(final int bucket) {
+        return this.bound(bucket + 1);
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return this.boundaries == null
+                ? "fixedWidth(" + this.minimum + ", " + this.maximum + ", " + this.count + ")"
+                : "boundaries" + Arrays.toString(this.boundaries);
+    }
+
+    /**
+     * Count a range of values into an array
+     * laid out as the underflow, the buckets,
+     * the overflow and the NaN count. Fixed
+     * widths are counted by scaling and
+     * explicit boundaries by binary search.
+     *
+     * @param   values  double[]
+     * @param   from    int
+     * @param   to      int
+     * @param   counts  long[]
+     */
+    void count(final double[] values, final int from, final int to, final long[] counts) {
+        if (this.boundaries == null) {
+            for (int i = from; i < to; i++) {
+                final double value = values[i];
+
+                if (value >= this.minimum && value < this.maximum) {
+                    // Rounding can put a value just below the maximum one past the last bucket
+
+                    counts[1 + Math.min((int) ((value - this.minimum) * this.scale), this.count - 1)]++;
+                } else {
+                    counts[this.outside(value)]++;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                final double value = values[i];
+
+                if (value >= this.minimum && value < this.maximum) {
+                    counts[1 + this.search(value)]++;
+                } else {
+                    counts[this.outside(value)]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the index of the bucket that
+     * holds a value within the boundaries.
+     *
+     * @param   value   double
+     * @return          int
+     */
+    private int search(final double value) {
+        int low = 0;
+        int high = this.boundaries.length - 1;
+
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+
+            if (value < this.boundaries[middle]) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Return the slot of a value that lies
+     * outside of the buckets.
+     *
+     * @param   value   double
+     * @return          int
+     */
+    private int outside(final double value) {
+        if (value < this.minimum) {
+            return 0;
+        }
+
+        return value >= this.maximum ? this.count + 1 : this.count + 2;
+    }
+
+    /**
+     * Return a boundary.
+     *
+     * @param   index   int
+     * @return          double
+     */
+    private double bound(final int index) {
+        if (index < 0 || index > this.count) {
+            throw new IndexOutOfBoundsException("Bucket boundary out of range: " + index);
+        }
+
+        if (this.boundaries != null) {
+            return this.boundaries[index];
+        }
+
+        return index == this.count ? this.maximum : this.minimum + index / this.scale;
+    }
+}
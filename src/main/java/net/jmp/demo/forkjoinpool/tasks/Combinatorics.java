@@ -0,0 +1,330 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)Combinatorics.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.util.NavigableSet;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A service that computes factorials, binomial
+ * coefficients and multinomial coefficients on
+ * a fork-join pool and remembers the factorials
+ * it has computed. The cache is bounded by the
+ * total bit length of the factorials it holds,
+ * so a few huge values cannot crowd out memory.
+ * A factorial that is not cached is computed
+ * from the largest smaller one that is, as
+ * n! = m! * (m + 1) * ... * n, with the product
+ * of the range taken by a product task. The
+ * service is thread safe and concurrent requests
+ * for the same factorial compute it only once.
+ */
+public final class Combinatorics {
+    /** The default maximum total bit length of the cached factorials. */
+    public static final long DEFAULT_MAXIMUM_BITS = 1L << 28;
+
+    /** The largest n whose factorial fits in a long. */
+    private static final int MAX_LONG_FACTORIAL = 20;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The fork-join pool. */
+    private final ForkJoinPool pool;
+
+    /** The granularity policy of the product tasks. */
+    private final GranularityPolicy granularity;
+
+    /** The cached factorials by n. */
+    private final Cache<Integer, BigInteger> factorials;
+
+    /** The n of the cached factorials, ordered so that the nearest can be found. */
+    private final NavigableSet<Integer> cached = new ConcurrentSkipListSet<>();
+
+    /**
+     * A constructor that uses the
+     * default maximum bit length.
+     *
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     */
+    public Combinatorics(final ForkJoinPool pool) {
+        this(pool, DEFAULT_MAXIMUM_BITS);
+    }
+
+    /**
+     * A constructor that takes the maximum total
+     * bit length of the cached factorials.
+     *
+     * @param   pool        java.util.concurrent.ForkJoinPool
+     * @param   maximumBits long
+     */
+    public Combinatorics(final ForkJoinPool pool, final long maximumBits) {
+        super();
+
+        if (maximumBits < 0) {
+            throw new IllegalArgumentException("The maximum bit length must not be negative: " + maximumBits);
+        }
+
+        this.pool = Objects.requireNonNull(pool);
+        this.granularity = GranularityPolicy.fixed(ProductTask.DEFAULT_WORKLOAD_THRESHOLD);
+        this.factorials = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBits)
+                .weigher((Integer n, BigInteger factorial) -> factorial.bitLength())
+                .removalListener(this::removed)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return n factorial.
+     *
+     * @param   n   int
+     * @return      java.math.BigInteger
+     */
+    public BigInteger factorial(final int n) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (n < 0) {
+            throw new IllegalArgumentException("The factorial of a negative number is undefined: " + n);
+        }
+
+        BigInteger result;
+
+        if (n <= MAX_LONG_FACTORIAL) {
+            long product = 1;
+
+            for (int i = 2; i <= n; i++) {
+                product *= i;
+            }
+
+            result = BigInteger.valueOf(product);
+        } else {
+            result = this.cachedFactorial(n);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result.bitLength()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the binomial coefficient n choose k,
+     * which is zero when k is outside of 0..n.
+     *
+     * @param   n   int
+     * @param   k   int
+     * @return      java.math.BigInteger
+     */
+    public BigInteger binomial(final int n, final int k) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The binomial coefficient of a negative number is undefined: " + n);
+        }
+
+        if (k < 0 || k > n) {
+            return BigInteger.ZERO;
+        }
+
+        return this.factorial(n).divide(ProductTask.multiply(this.factorial(k), this.factorial(n - k)));
+    }
+
+    /**
+     * Return the multinomial coefficient of a
+     * number of groups, i.e. the number of ways
+     * to divide the sum of the group sizes into
+     * groups of those sizes.
+     *
+     * @param   groups  int[]
+     * @return          java.math.BigInteger
+     */
+    public BigInteger multinomial(final int... groups) {
+        int n = 0;
+
+        BigInteger divisor = BigInteger.ONE;
+
+        for (final int group : groups) {
+            if (group < 0) {
+                throw new IllegalArgumentException("A group size must not be negative: " + group);
+            }
+
+            n = Math.addExact(n, group);
+            divisor = ProductTask.multiply(divisor, this.factorial(group));
+        }
+
+        return this.factorial(n).divide(divisor);
+    }
+
+    /**
+     * Return the statistics of the cache.
+     *
+     * @return  com.google.common.cache.CacheStats
+     */
+    public CacheStats getCacheStats() {
+        return this.factorials.stats();
+    }
+
+    /**
+     * Return the total bit length
+     * of the cached factorials.
+     *
+     * @return  long
+     */
+    public long getCachedBits() {
+        return this.factorials.asMap().values().stream()
+                .mapToLong(BigInteger::bitLength)
+                .sum();
+    }
+
+    /**
+     * Empty the cache.
+     */
+    public void clear() {
+        this.factorials.invalidateAll();
+    }
+
+    /**
+     * Return n! from the cache, computing it if it
+     * is missing. A thread that asks for a factorial
+     * another thread is computing waits on the lock
+     * of the cache, which the fork-join pool cannot
+     * see; the wait is made a managed block so that
+     * the pool can activate a spare worker to run the
+     * product tasks instead of deadlocking. A hit is
+     * returned without the managed block, which may
+     * itself activate a spare worker.
+     *
+     * @param   n   int
+     * @return      java.math.BigInteger
+     */
+    private BigInteger cachedFactorial(final int n) {
+        final BigInteger cached = this.factorials.getIfPresent(n);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final BigInteger[] result = new BigInteger[1];
+
+        try {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() {
+                    try {
+                        result[0] = Combinatorics.this.factorials.get(n, () -> Combinatorics.this.extend(n));
+                    } catch (final ExecutionException e) {
+                        throw new IllegalStateException(e.getCause());
+                    }
+
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return result[0] != null;
+                }
+            });
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while computing " + n + "!", ie);
+        }
+
+        return result[0];
+    }
+
+    /**
+     * Compute n! from the largest cached factorial
+     * below it, or from scratch if there is none.
+     *
+     * @param   n   int
+     * @return      java.math.BigInteger
+     */
+    private BigInteger extend(final int n) {
+        int m = MAX_LONG_FACTORIAL;
+
+        BigInteger base = this.factorial(m);
+
+        for (Integer candidate = this.cached.lower(n); candidate != null; candidate = this.cached.lower(candidate)) {
+            final BigInteger factorial = this.factorials.getIfPresent(candidate);
+
+            if (factorial != null) {        // Else it was evicted after it was found
+                m = candidate;
+                base = factorial;
+
+                break;
+            }
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Computing {}! from {}!", n, m);
+        }
+
+        final BigInteger result = ProductTask.multiply(base, this.pool.invoke(new ProductTask(null, m + 1, n + 1, this.granularity)));
+
+        this.cached.add(n);
+
+        return result;
+    }
+
+    /**
+     * Forget a factorial that
+     * has left the cache.
+     *
+     * @param   notification    com.google.common.cache.RemovalNotification&lt;java.lang.Integer, java.math.BigInteger&gt;
+     */
+    private void removed(final RemovalNotification<Integer, BigInteger> notification) {
+        if (notification.getCause() != RemovalCause.REPLACED) {
+            this.cached.remove(notification.getKey());
+        }
+    }
+}
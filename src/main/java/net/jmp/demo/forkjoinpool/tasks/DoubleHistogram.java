@@ -0,0 +1,243 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)DoubleHistogram.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A histogram of doubles over a set of buckets.
+ * The counts are kept in one primitive array
+ * that also holds the values below and above
+ * the buckets and the NaNs, so merging two
+ * histograms is a single loop. A histogram is
+ * owned by a single task so it is not thread
+ * safe and needs no locking.
+ */
+public final class DoubleHistogram {
+    /** The buckets. */
+    private final Buckets buckets;
+
+    /** The underflow, the bucket counts, the overflow and the NaN count. */
+    private final long[] counts;
+
+    /**
+     * The constructor.
+     *
+     * @param   buckets net.jmp.demo.forkjoinpool.tasks.Buckets
+     */
+    public DoubleHistogram(final Buckets buckets) {
+        super();
+
+        this.buckets = Objects.requireNonNull(buckets);
+        this.counts = new long[buckets.count() + 3];
+    }
+
+    /**
+     * Count a range of values.
+     *
+     * @param   values  double[]
+     * @param   from    int
+     * @param   to      int
+     */
+    public void addAll(final double[] values, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+
+        this.buckets.count(values, from, to, this.counts);
+    }
+
+    /**
+     * Merge another histogram over the
+     * same buckets into this one.
+     *
+     * @param   other   net.jmp.demo.forkjoinpool.tasks.DoubleHistogram
+     * @return          net.jmp.demo.forkjoinpool.tasks.DoubleHistogram
+     */
+    public DoubleHistogram merge(final DoubleHistogram other) {
+        if (this.buckets != other.buckets) {
+            throw new IllegalArgumentException("Histograms over different buckets cannot be merged");
+        }
+
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Return the buckets.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.Buckets
+     */
+    public Buckets getBuckets() {
+        return this.buckets;
+    }
+
+    /**
+     * Return the count of a bucket.
+     *
+     * @param   bucket  int
+     * @return          long
+     */
+    public long count(final int bucket) {
+        Objects.checkIndex(bucket, this.buckets.count());
+
+        return this.counts[bucket + 1];
+    }
+
+    /**
+     * Return the bucket counts.
+     *
+     * @return  long[]
+     */
+    public long[] toArray() {
+        return Arrays.copyOfRange(this.counts, 1, this.counts.length - 2);
+    }
+
+    /**
+     * Return the number of values
+     * below the first bucket.
+     *
+     * @return  long
+     */
+    public long getUnderflow() {
+        return this.counts[0];
+    }
+
+    /**
+     * Return the number of values at or
+     * above the end of the last bucket.
+     *
+     * @return  long
+     */
+    public long getOverflow() {
+        return this.counts[this.counts.length - 2];
+    }
+
+    /**
+     * Return the number of NaNs.
+     *
+     * @return  long
+     */
+    public long getNaNCount() {
+        return this.counts[this.counts.length - 1];
+    }
+
+    /**
+     * Return the number of values
+     * counted, excluding NaNs.
+     *
+     * @return  long
+     */
+    public long getTotal() {
+        long total = 0;
+
+        for (int i = 0; i < this.counts.length - 1; i++) {
+            total += this.counts[i];
+        }
+
+        return total;
+    }
+
+    /**
+     * Return an approximate quantile, interpolated
+     * linearly within the bucket it falls in, so
+     * the error is at most that bucket's width. A
+     * quantile that falls below or above the
+     * buckets is negative or positive infinity,
+     * one in an unbounded bucket is its finite
+     * bound, and with no values it is NaN.
+     *
+     * @param   probability double
+     * @return              double
+     */
+    public double quantile(final double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("The probability must be between 0 and 1: " + probability);
+        }
+
+        final long total = this.getTotal();
+
+        if (total == 0) {
+            return Double.NaN;
+        }
+
+        final double rank = probability * total;
+
+        long below = this.counts[0];
+
+        if (below > 0 && rank <= below) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        for (int bucket = 0; bucket < this.buckets.count(); bucket++) {
+            final long count = this.counts[bucket + 1];
+
+            if (count > 0 && rank <= below + count) {
+                final double lower = this.buckets.lowerBound(bucket);
+                final double upper = this.buckets.upperBound(bucket);
+
+                if (Double.isInfinite(lower) || Double.isInfinite(upper)) {
+                    return Double.isInfinite(lower) ? upper : lower;
+                }
+
+                if (Double.isInfinite(upper - lower)) {
+                    final double fraction = (rank - below) / count;
+
+                    return lower * (1 - fraction) + upper * fraction;
+                }
+
+                return lower + (upper - lower) * (rank - below) / count;
+            }
+
+            below += count;
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "DoubleHistogram{" +
+                "buckets=" + this.buckets +
+                ", counts=" + Arrays.toString(this.toArray()) +
+                ", underflow=" + this.getUnderflow() +
+                ", overflow=" + this.getOverflow() +
+                ", nan=" + this.getNaNCount() +
+                '}';
+    }
+}
@@ -0,0 +1,258 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)FactorialEngine.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An engine that computes large factorials on
+ * a fork-join pool. Unlike the factorial task,
+ * which forks down to one or two numbers, the
+ * engine multiplies leaves of several hundred
+ * factors in long arithmetic and combines them
+ * as a balanced product tree.
+ */
+public final class FactorialEngine {
+    /**
+     * The algorithms offered by the engine.
+     */
+    public enum Algorithm {
+        /** Multiply 2..n as a balanced product tree. */
+        PRODUCT_TREE,
+
+        /**
+         * Factor n! into prime powers and evaluate
+         * them by repeated squaring, so that most of
+         * the work is in a few very large squarings.
+         */
+        PRIME_FACTORIZATION
+    }
+
+    /** The largest n whose factorial fits in a long. */
+    private static final int MAX_LONG_FACTORIAL = 20;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The fork-join pool. */
+    private final ForkJoinPool pool;
+
+    /** The algorithm. */
+    private final Algorithm algorithm;
+
+    /** The granularity policy of the product tasks. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that uses the
+     * prime factorization algorithm.
+     *
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     */
+    public FactorialEngine(final ForkJoinPool pool) {
+        this(pool, Algorithm.PRIME_FACTORIZATION);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param   pool        java.util.concurrent.ForkJoinPool
+     * @param   algorithm   net.jmp.demo.forkjoinpool.tasks.FactorialEngine.Algorithm
+     */
+    public FactorialEngine(final ForkJoinPool pool, final Algorithm algorithm) {
+        this(pool, algorithm, GranularityPolicy.fixed(ProductTask.DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that takes the granularity
+     * policy of the product tasks.
+     *
+     * @param   pool        java.util.concurrent.ForkJoinPool
+     * @param   algorithm   net.jmp.demo.forkjoinpool.tasks.FactorialEngine.Algorithm
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public FactorialEngine(final ForkJoinPool pool, final Algorithm algorithm, final GranularityPolicy granularity) {
+        super();
+
+        this.pool = Objects.requireNonNull(pool);
+        this.algorithm = Objects.requireNonNull(algorithm);
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * Return n factorial.
+     *
+     * @param   n   int
+     * @return      java.math.BigInteger
+     */
+    public BigInteger factorial(final int n) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (n < 0) {
+            throw new IllegalArgumentException("The factorial of a negative number is undefined: " + n);
+        }
+
+        BigInteger result;
+
+        if (n <= MAX_LONG_FACTORIAL) {
+            long product = 1;
+
+            for (int i = 2; i <= n; i++) {
+                product *= i;
+            }
+
+            result = BigInteger.valueOf(product);
+        } else {
+            result = switch (this.algorithm) {
+                case PRODUCT_TREE -> this.pool.invoke(new ProductTask(null, 2, n + 1, this.granularity));
+                case PRIME_FACTORIZATION -> this.primeFactorization(n);
+            };
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result.bitLength()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Compute n! from its prime factorization.
+     * By Legendre's formula the exponent of p
+     * in n! is the sum of n / p^k. Writing each
+     * exponent in binary, n! is evaluated from
+     * the highest bit down as r = r^2 * P(bit),
+     * where P(bit) is the product of the odd
+     * primes whose exponent has that bit set.
+     * The power of two is applied as a shift.
+     *
+     * @param   n   int
+     * @return      java.math.BigInteger
+     */
+    private BigInteger primeFactorization(final int n) {
+        final int[] primes = oddPrimes(n);
+        final int[] exponents = new int[primes.length];
+
+        int highestBit = 0;
+
+        for (int i = 0; i < primes.length; i++) {
+            exponents[i] = legendre(n, primes[i]);
+            highestBit = Math.max(highestBit, 31 - Integer.numberOfLeadingZeros(exponents[i]));
+        }
+
+        final int[] factors = new int[primes.length];
+
+        BigInteger result = BigInteger.ONE;
+
+        for (int bit = highestBit; bit >= 0; bit--) {
+            int count = 0;
+
+            for (int i = 0; i < primes.length; i++) {
+                if ((exponents[i] & (1 << bit)) != 0) {
+                    factors[count++] = primes[i];
+                }
+            }
+
+            result = ProductTask.multiply(result, result);
+
+            if (count > 0) {
+                result = ProductTask.multiply(result,
+                        this.pool.invoke(new ProductTask(factors, 0, count, this.granularity)));
+            }
+        }
+
+        return result.shiftLeft(legendre(n, 2));
+    }
+
+    /**
+     * Return the exponent of a prime in n!.
+     *
+     * @param   n       int
+     * @param   prime   int
+     * @return          int
+     */
+    private static int legendre(final int n, final int prime) {
+        int exponent = 0;
+
+        for (int m = n / prime; m > 0; m /= prime) {
+            exponent += m;
+        }
+
+        return exponent;
+    }
+
+    /**
+     * Return the odd primes up to and including
+     * n using a sieve of Eratosthenes in which
+     * bit i stands for the odd number 2i + 1.
+     *
+     * @param   n   int
+     * @return      int[]
+     */
+    private static int[] oddPrimes(final int n) {
+        final int size = (n + 1) / 2;
+        final BitSet composite = new BitSet(size);
+
+        composite.set(0);                   // 1 is not a prime
+
+        for (long p = 3; p * p <= n; p += 2) {
+            if (!composite.get((int) (p / 2))) {
+                for (long multiple = p * p; multiple <= n; multiple += 2 * p) {
+                    composite.set((int) (multiple / 2));
+                }
+            }
+        }
+
+        final int[] primes = new int[size - composite.cardinality()];
+
+        int count = 0;
+
+        for (int i = composite.nextClearBit(0); i < size; i = composite.nextClearBit(i + 1)) {
+            primes[count++] = 2 * i + 1;
+        }
+
+        return primes;
+    }
+}
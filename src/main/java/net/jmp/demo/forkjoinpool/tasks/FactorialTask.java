@@ -1,11 +1,12 @@
 package net.jmp.demo.forkjoinpool.tasks;
 
 /*
+ * (#)FactorialTask.java    0.5.0   10/17/2026
  * (#)FactorialTask.java    0.4.0   09/24/2024
  * (#)FactorialTask.java    0.3.0   09/16/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.5.0
  * @since     0.3.0
  *
  * MIT License
@@ -33,8 +34,14 @@ package net.jmp.demo.forkjoinpool.tasks;
 
 import java.math.BigInteger;
 
+import java.util.Objects;
+
 import java.util.concurrent.RecursiveTask;
 
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -44,8 +51,14 @@ import org.slf4j.LoggerFactory;
  * A task class that computes a factorial.
  */
 public final class FactorialTask extends RecursiveTask<BigInteger> {
+    /** One less than the number of factors a leaf multiplies between checks for cancellation. */
+    private static final int CANCELLATION_INTERVAL_MASK = 255;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(FactorialTask.class);
+
     /** The logger. */
-    private final transient Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+    private static final Logger LOGGER = LoggerFactory.getLogger(FactorialTask.class.getName());
 
     /** The 'from' value. */
     private final int from;
@@ -53,17 +66,34 @@ public final class FactorialTask extends RecursiveTask<BigInteger> {
     /** The 'to' value. */
     private final int to;
 
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
     /**
-     * The constructor.
+     * A constructor that splits down
+     * to ranges of one or two numbers.
      *
      * @param   from    int
      * @param   to      int
      */
     public FactorialTask(final int from, final int to) {
+        this(from, to, GranularityPolicy.fixed(2));
+    }
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   from        int
+     * @param   to          int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public FactorialTask(final int from, final int to, final GranularityPolicy granularity) {
         super();
 
         this.from = from;
         this.to = to;
+        this.granularity = Objects.requireNonNull(granularity);
     }
 
     /**
@@ -73,32 +103,51 @@ public final class FactorialTask extends RecursiveTask<BigInteger> {
      */
     @Override
     protected BigInteger compute() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
+        this.granularity.checkCancelled();
+
         BigInteger result;
 
         final int range = this.to - this.from;
 
-        switch (range) {
-            case 0 -> result = BigInteger.valueOf(this.from);
-            case 1 -> result = BigInteger.valueOf(this.from).multiply(BigInteger.valueOf(this.to));
-            default -> {
-                final int middle = this.from + range / 2;
+        if (range < 2 || !this.granularity.shouldSplit(range + 1L)) {
+            final long startNanos = METRICS.startLeaf();
+
+            result = BigInteger.valueOf(this.from);
 
-                if (this.logger.isDebugEnabled()) {
-                    this.logger.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            for (int i = this.from + 1; i <= this.to; i++) {
+                if ((i & CANCELLATION_INTERVAL_MASK) == 0) {
+                    this.granularity.checkCancelled();
                 }
 
-                final FactorialTask left = new FactorialTask(this.from, middle);
+                result = result.multiply(BigInteger.valueOf(i));
+            }
 
-                left.fork();                        // Execute using the ForkJoinPool.commonPool()
+            METRICS.recordLeaf(startNanos);
+        } else {
+            METRICS.recordSplit();
 
-                result = new FactorialTask(middle + 1, this.to)
-                        .compute()                  // Compute the right side ...
-                        .multiply(left.join());     // After waiting for the left side
+            final int middle = this.from + range / 2;
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
             }
+
+            final FactorialTask left = new FactorialTask(this.from, middle, this.granularity);
+
+            left.fork();                        // Execute using the ForkJoinPool.commonPool()
+
+            final BigInteger right = new FactorialTask(middle + 1, this.to, this.granularity)
+                    .compute();                 // Compute the right side ...
+
+            final BigInteger product = left.join();     // After waiting for the left side
+
+            this.granularity.checkCancelled();  // Skip the largest multiplications of a cancelled job
+
+            result = right.multiply(product);
         }
 
 //        if (range == 0) {
@@ -117,8 +166,8 @@ public final class FactorialTask extends RecursiveTask<BigInteger> {
 //                    .multiply(left.join());
 //        }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(result));
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
         }
 
         return result;
@@ -0,0 +1,326 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)HistogramTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task class that counts an array of doubles
+ * into the buckets of a histogram, e.g. the
+ * results of a square root action, on the same
+ * pool. Each leaf counts its range into its own
+ * array of counts and the histograms are merged
+ * as the subtasks are joined.
+ */
+public final class HistogramTask extends RecursiveTask<DoubleHistogram> {
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 1 << 14;
+
+    /** The default number of buckets used to estimate quantiles. */
+    public static final int DEFAULT_QUANTILE_BUCKETS = 4_096;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(HistogramTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistogramTask.class.getName());
+
+    /** The array of doubles to count. */
+    private final double[] values;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The buckets. */
+    private final Buckets buckets;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that counts an
+     * entire array of doubles.
+     *
+     * @param   values  double[]
+     * @param   buckets net.jmp.demo.forkjoinpool.tasks.Buckets
+     */
+    public HistogramTask(final double[] values, final Buckets buckets) {
+        this(values, 0, Objects.requireNonNull(values).length, buckets, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that counts a
+     * range of an array of doubles.
+     *
+     * @param   values      double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   buckets     net.jmp.demo.forkjoinpool.tasks.Buckets
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public HistogramTask(final double[] values,
+                         final int start,
+                         final int end,
+                         final Buckets buckets,
+                         final GranularityPolicy granularity) {
+        super();
+
+        Objects.checkFromToIndex(start, end, Objects.requireNonNull(values).length);
+
+        this.values = values;
+        this.start = start;
+        this.end = end;
+        this.buckets = Objects.requireNonNull(buckets);
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * Estimate quantiles of an array of doubles
+     * using the default number of buckets.
+     *
+     * @param   values          double[]
+     * @param   pool            java.util.concurrent.ForkJoinPool
+     * @param   probabilities   double[]
+     * @return                  double[]
+     */
+    public static double[] quantiles(final double[] values, final ForkJoinPool pool, final double... probabilities) {
+        return quantiles(values, pool, DEFAULT_QUANTILE_BUCKETS, probabilities);
+    }
+
+    /**
+     * Estimate quantiles of an array of doubles.
+     * One parallel pass finds the range of the
+     * finite values and a second counts them into
+     * buckets of a fixed width spanning it, so an
+     * estimate is within the range divided by the
+     * number of buckets. Infinities fall outside
+     * the buckets and NaNs are ignored. The
+     * probabilities are not varargs here so that
+     * a probability of 0 is not taken as a
+     * number of buckets.
+     *
+     * @param   values          double[]
+     * @param   pool            java.util.concurrent.ForkJoinPool
+     * @param   buckets         int
+     * @param   probabilities   double[]
+     * @return                  double[]
+     */
+    public static double[] quantiles(final double[] values,
+                                     final ForkJoinPool pool,
+                                     final int buckets,
+                                     final double[] probabilities) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(pool);
+
+        final GranularityPolicy granularity = GranularityPolicy.proportional(values.length, pool);
+
+        final double[] range = pool.invoke(ParallelReduce.overRange(0, values.length, r -> finiteRange(values, r), HistogramTask::union, granularity));
+
+        final DoubleHistogram histogram = pool.invoke(new HistogramTask(values, 0, values.length, spanning(range[0], range[1], buckets), granularity));
+        final double[] quantiles = new double[probabilities.length];
+
+        for (int i = 0; i < probabilities.length; i++) {
+            final double quantile = histogram.quantile(probabilities[i]);
+
+            // Interpolation can pass the largest value in the last bucket
+
+            quantiles[i] = Double.isFinite(quantile) ? Math.clamp(quantile, range[0], range[1]) : quantile;
+        }
+
+        return quantiles;
+    }
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.DoubleHistogram
+     */
+    @Override
+    protected DoubleHistogram compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        DoubleHistogram result;
+
+        if ((this.end - this.start) > 1 && this.granularity.shouldSplit(this.end - this.start)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            METRICS.recordSplit();
+
+            final int middle = (this.start + this.end) >>> 1;
+
+            final HistogramTask right = new HistogramTask(this.values, middle, this.end, this.buckets, this.granularity);
+
+            right.fork();
+
+            result = new HistogramTask(this.values, this.start, middle, this.buckets, this.granularity)
+                    .compute()
+                    .merge(right.join());
+        } else {
+            final long startNanos = METRICS.startLeaf();
+
+            result = new DoubleHistogram(this.buckets);
+            result.addAll(this.values, this.start, this.end);
+
+            METRICS.recordLeaf(startNanos);
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Return buckets of a fixed width that
+     * span a range of finite values, or a
+     * single bucket when the range holds
+     * one value or none. A range wider than
+     * the largest double, or so narrow that
+     * the scale of fixed-width buckets would
+     * overflow, is split by explicit boundaries
+     * instead; a narrow range gets only as many
+     * buckets as it has distinct boundaries.
+     *
+     * @param   minimum double
+     * @param   maximum double
+     * @param   count   int
+     * @return          net.jmp.demo.forkjoinpool.tasks.Buckets
+     */
+    private static Buckets spanning(final double minimum, final double maximum, final int count) {
+        if (minimum > maximum) {
+            return Buckets.boundaries(0, 1);
+        }
+
+        if (minimum == maximum) {
+            return Buckets.boundaries(minimum, Math.nextUp(minimum));
+        }
+
+        final double upper = Math.nextUp(maximum);
+
+        if (Double.isInfinite(upper - minimum)) {
+            final double[] boundaries = new double[count + 1];
+
+            boundaries[0] = minimum;
+            boundaries[count] = upper;
+
+            // Each term is at most the largest double, so the boundaries do not overflow
+
+            for (int i = 1; i < count; i++) {
+                boundaries[i] = minimum / count * (count - i) + maximum / count * i;
+            }
+
+            return Buckets.boundaries(boundaries);
+        }
+
+        if (Double.isInfinite(count / (upper - minimum))) {
+            final double step = (upper - minimum) / count;
+            final double[] boundaries = new double[count + 1];
+
+            int size = 0;
+
+            boundaries[size++] = minimum;
+
+            // Few doubles lie between the bounds, so the rounded boundaries repeat
+
+            for (int i = 1; i < count; i++) {
+                final double boundary = minimum + i * step;
+
+                if (boundary > boundaries[size - 1] && boundary < upper) {
+                    boundaries[size++] = boundary;
+                }
+            }
+
+            boundaries[size++] = upper;
+
+            return Buckets.boundaries(Arrays.copyOf(boundaries, size));
+        }
+
+        return Buckets.fixedWidth(minimum, upper, count);
+    }
+
+    /**
+     * Return the minimum and maximum of
+     * the finite values in a range.
+     *
+     * @param   values  double[]
+     * @param   range   net.jmp.demo.forkjoinpool.tasks.IndexRange
+     * @return          double[]
+     */
+    private static double[] finiteRange(final double[] values, final IndexRange range) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+
+        for (int i = (int) range.getStart(); i < range.getEnd(); i++) {
+            final double value = values[i];
+
+            if (Double.isFinite(value)) {
+                minimum = Math.min(minimum, value);
+                maximum = Math.max(maximum, value);
+            }
+        }
+
+        return new double[] {minimum, maximum};
+    }
+
+    /**
+     * Return the union of two ranges.
+     *
+     * @param   left    double[]
+     * @param   right   double[]
+     * @return          double[]
+     */
+    private static double[] union(final double[] left, final double[] right) {
+        return new double[] {Math.min(left[0], right[0]), Math.max(left[1], right[1])};
+    }
+}
@@ -0,0 +1,121 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)IndexRange.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A half-open range of indices [start, end)
+ * that is split like a spliterator: trySplit
+ * returns the first half and this range keeps
+ * the second. It is only split by the task
+ * that owns it, before the prefix is forked.
+ */
+public final class IndexRange {
+    /** The first index of the range. */
+    private long start;
+
+    /** The index after the last index of the range. */
+    private final long end;
+
+    /**
+     * The constructor.
+     *
+     * @param   start   long
+     * @param   end     long
+     */
+    public IndexRange(final long start, final long end) {
+        super();
+
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is invalid");
+        }
+
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Return the first index.
+     *
+     * @return  long
+     */
+    public long getStart() {
+        return this.start;
+    }
+
+    /**
+     * Return the index after the last index.
+     *
+     * @return  long
+     */
+    public long getEnd() {
+        return this.end;
+    }
+
+    /**
+     * Return the number of indices.
+     *
+     * @return  long
+     */
+    public long size() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Split off and return the first half of
+     * this range, keeping the second half, or
+     * return null if the range has fewer than
+     * two indices.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.IndexRange
+     */
+    public IndexRange trySplit() {
+        if (this.size() < 2) {
+            return null;
+        }
+
+        final long middle = (this.start + this.end) >>> 1;
+        final IndexRange prefix = new IndexRange(this.start, middle);
+
+        this.start = middle;
+
+        return prefix;
+    }
+
+    /**
+     * Return the string representation of this object.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return "[" + this.start + ", " + this.end + ")";
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.demo.forkjoinpool.tasks;
 
 /*
+ * (#)LetterDistributionTask.java   0.5.0   10/17/2026
  * (#)LetterDistributionTask.java   0.4.0   09/24/2024
  * (#)LetterDistributionTask.java   0.3.0   09/15/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.5.0
  * @since     0.3.0
  *
  * MIT License
@@ -31,17 +32,13 @@ package net.jmp.demo.forkjoinpool.tasks;
  * SOFTWARE.
  */
 
-import com.google.common.util.concurrent.Striped;
+import java.util.Objects;
 
-import java.util.*;
-
-import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.RecursiveTask;
 
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
 
-import java.util.stream.Stream;
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
@@ -50,120 +47,154 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A task class that counts the distribution of
- * letters in an array of characters. The return
- * type is Void so this really should be an action
- * and not a task.
+ * letters in an array of characters. Each leaf
+ * counts its range into its own histogram and
+ * the histograms are merged as the subtasks are
+ * joined, so no locks or shared maps are needed.
  */
-public final class LetterDistributionTask extends RecursiveTask<Void> {
+public final class LetterDistributionTask extends RecursiveTask<LetterHistogram> {
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(LetterDistributionTask.class);
+
     /** The logger. */
-    private final transient Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+    private static final Logger LOGGER = LoggerFactory.getLogger(LetterDistributionTask.class.getName());
 
     /** The array of characters to process. */
     private final char[] characters;
 
-    /** The workload threshold. */
-    private final int workloadThreshold = 5;
+    /** The starting point in the array. */
+    private final int start;
 
-    /** The map of letter distributions. */
-    private final Map<Character, Integer> letters;
+    /** The ending point in the array. */
+    private final int end;
 
-    /** Control access to the individual key/value entries in the map. */
-    private final transient Striped<ReadWriteLock> locks = Striped.readWriteLock(26);
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
 
     /**
-     * The constructor.
+     * A constructor that counts
+     * an entire array of characters.
      *
      * @param   characters  char[]
-     * @param   letters     java.util.Map&lt;java.lang.Character, java.lang.Integer&gt;
      */
-    public LetterDistributionTask(final char[] characters, final Map<Character, Integer> letters) {
-        super();
-
-        this.characters = Objects.requireNonNull(characters);
-        this.letters = Objects.requireNonNull(letters);
+    public LetterDistributionTask(final char[] characters) {
+        this(characters, 0, Objects.requireNonNull(characters).length, DEFAULT_WORKLOAD_THRESHOLD);
     }
 
     /**
-     * The main computation performed by this task.
+     * A constructor that counts a range
+     * of an array of characters using a
+     * fixed workload threshold.
      *
-     * @return  java.lang.Void
+     * @param   characters          char[]
+     * @param   start               int
+     * @param   end                 int
+     * @param   workloadThreshold   int
      */
-    @Override
-    protected Void compute() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
-        }
+    public LetterDistributionTask(final char[] characters,
+                                  final int start,
+                                  final int end,
+                                  final int workloadThreshold) {
+        this(characters, start, end, GranularityPolicy.fixed(workloadThreshold));
+    }
 
-        if (this.characters.length > this.workloadThreshold) {
-            ForkJoinTask.invokeAll(this.createSubtasks());
-        } else {
-            this.processWorkload();
-        }
+    /**
+     * A constructor that counts a range
+     * of an array of characters.
+     *
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public LetterDistributionTask(final char[] characters,
+                                  final int start,
+                                  final int end,
+                                  final GranularityPolicy granularity) {
+        super();
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(null));
-        }
+        Objects.checkFromToIndex(start, end, Objects.requireNonNull(characters).length);
 
-        return null;
+        this.characters = characters;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
     }
 
     /**
-     * Return a list of subtasks.
+     * The main computation performed by this task.
      *
-     * @return  java.util.List&lt;net.jmp.demo.forkjoinpool.tasks.LetterDistributionTask&gt;
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
      */
-    private List<LetterDistributionTask> createSubtasks() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+    @Override
+    protected LetterHistogram compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
-        if (this.logger.isDebugEnabled()) {
-            this.logger.debug("Creating subtasks: {}", Thread.currentThread().getName());
-        }
+        this.granularity.checkCancelled();
+
+        LetterHistogram result;
+
+        if ((this.end - this.start) > 1 && this.granularity.shouldSplit(this.end - this.start)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            METRICS.recordSplit();
+
+            final int middle = (this.start + this.end) >>> 1;
+
+            final LetterDistributionTask right = new LetterDistributionTask(this.characters, middle, this.end, this.granularity);
 
-        final List<LetterDistributionTask> subtasks = new ArrayList<>();
+            right.fork();
 
-        final LetterDistributionTask left = new LetterDistributionTask(Arrays.copyOfRange(this.characters, 0, this.characters.length / 2), this.letters);
-        final LetterDistributionTask right = new LetterDistributionTask(Arrays.copyOfRange(this.characters, this.characters.length / 2, this.characters.length), this.letters);
+            result = new LetterDistributionTask(this.characters, this.start, middle, this.granularity)
+                    .compute()                  // Compute the left side ...
+                    .merge(right.join());       // Then merge the right side
+        } else {
+            final long startNanos = METRICS.startLeaf();
+
+            result = this.processWorkload();
 
-        subtasks.add(left);
-        subtasks.add(right);
+            METRICS.recordLeaf(startNanos);
+        }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(subtasks));
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
         }
 
-        return subtasks;
+        return result;
     }
 
     /**
-     * Process the workload.
+     * Process the workload by counting
+     * the letters in this task's range.
+     * ASCII characters are classified
+     * without calling into Character.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
      */
-    private void processWorkload() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
-        }
-
-        final Stream<Character> stream = new String(this.characters)
-                .chars()
-                .mapToObj(i -> (char) i);
+    private LetterHistogram processWorkload() {
+        final LetterHistogram histogram = new LetterHistogram();
 
-        stream.filter(Character::isLetter)
-                .forEach(character -> {
-                    final char letter = Character.toLowerCase(character);
-                    final Lock lock = this.locks.get(letter).writeLock();
+        for (int i = this.start; i < this.end; i++) {
+            final char character = this.characters[i];
 
-                    lock.lock();
+            if (character < 128) {
+                final char lower = (char) (character | 0x20);
 
-                    try {
-                        this.letters.merge(letter, 1, Integer::sum);
-                    } finally {
-                        lock.unlock();
-                    }
-                });
-
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exit());
+                if (lower >= 'a' && lower <= 'z') {
+                    histogram.add(lower);
+                }
+            } else if (Character.isLetter(character)) {
+                histogram.add(Character.toLowerCase(character));
+            }
         }
+
+        return histogram;
     }
 }
@@ -0,0 +1,242 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)LetterHistogram.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A histogram of letter counts. The letters 'a'
+ * through 'z' are counted in a primitive array;
+ * any other letter is counted in a small open
+ * addressing table of primitive chars and longs.
+ * Counts are longs so that the letters of files
+ * larger than 2^31 bytes do not wrap.
+ * A histogram is owned by a single task so it
+ * is not thread safe and needs no locking.
+ */
+public final class LetterHistogram {
+    /** The initial capacity of the table of other letters. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The counts of the letters 'a' through 'z'. */
+    private final long[] asciiCounts = new long[26];
+
+    /** The keys of the table of other letters; zero marks an empty slot. */
+    private char[] otherKeys;
+
+    /** The counts of the table of other letters. */
+    private long[] otherCounts;
+
+    /** The number of other letters in the table. */
+    private int otherSize;
+
+    /**
+     * The default constructor.
+     */
+    public LetterHistogram() {
+        super();
+    }
+
+    /**
+     * Count one occurrence of a letter.
+     * The letter is expected to have
+     * been lower-cased by the caller.
+     *
+     * @param   letter  char
+     */
+    public void add(final char letter) {
+        if (letter >= 'a' && letter <= 'z') {
+            this.asciiCounts[letter - 'a']++;
+        } else {
+            this.addOther(letter, 1);
+        }
+    }
+
+    /**
+     * Merge another histogram into this one.
+     *
+     * @param   other   net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     * @return          net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     */
+    public LetterHistogram merge(final LetterHistogram other) {
+        for (int i = 0; i < this.asciiCounts.length; i++) {
+            this.asciiCounts[i] += other.asciiCounts[i];
+        }
+
+        if (other.otherKeys != null) {
+            for (int i = 0; i < other.otherKeys.length; i++) {
+                if (other.otherKeys[i] != 0) {
+                    this.addOther(other.otherKeys[i], other.otherCounts[i]);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Return the count for a letter.
+     *
+     * @param   letter  char
+     * @return          long
+     */
+    public long count(final char letter) {
+        if (letter >= 'a' && letter <= 'z') {
+            return this.asciiCounts[letter - 'a'];
+        }
+
+        if (this.otherKeys != null) {
+            final int mask = this.otherKeys.length - 1;
+
+            for (int i = hash(letter) & mask; this.otherKeys[i] != 0; i = (i + 1) & mask) {
+                if (this.otherKeys[i] == letter) {
+                    return this.otherCounts[i];
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Return the letters that occurred
+     * at least once with their counts.
+     *
+     * @return  java.util.Map&lt;java.lang.Character, java.lang.Long&gt;
+     */
+    public Map<Character, Long> toMap() {
+        final Map<Character, Long> map = new HashMap<>();
+
+        for (int i = 0; i < this.asciiCounts.length; i++) {
+            if (this.asciiCounts[i] != 0) {
+                map.put((char) ('a' + i), this.asciiCounts[i]);
+            }
+        }
+
+        if (this.otherKeys != null) {
+            for (int i = 0; i < this.otherKeys.length; i++) {
+                if (this.otherKeys[i] != 0) {
+                    map.put(this.otherKeys[i], this.otherCounts[i]);
+                }
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return this.toMap().toString();
+    }
+
+    /**
+     * Add to the count of a letter outside
+     * 'a' through 'z', growing the table
+     * when it becomes half full.
+     *
+     * @param   letter  char
+     * @param   count   long
+     */
+    private void addOther(final char letter, final long count) {
+        if (this.otherKeys == null) {
+            this.otherKeys = new char[INITIAL_CAPACITY];
+            this.otherCounts = new long[INITIAL_CAPACITY];
+        }
+
+        final int mask = this.otherKeys.length - 1;
+
+        int i = hash(letter) & mask;
+
+        while (this.otherKeys[i] != 0) {
+            if (this.otherKeys[i] == letter) {
+                this.otherCounts[i] += count;
+
+                return;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        this.otherKeys[i] = letter;
+        this.otherCounts[i] = count;
+
+        if (++this.otherSize * 2 > this.otherKeys.length) {
+            this.resize();
+        }
+    }
+
+    /**
+     * Double the capacity of the
+     * table of other letters.
+     */
+    private void resize() {
+        final char[] oldKeys = this.otherKeys;
+        final long[] oldCounts = this.otherCounts;
+
+        this.otherKeys = new char[oldKeys.length * 2];
+        this.otherCounts = new long[oldKeys.length * 2];
+
+        final int mask = this.otherKeys.length - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != 0) {
+                int i = hash(oldKeys[j]) & mask;
+
+                while (this.otherKeys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+
+                this.otherKeys[i] = oldKeys[j];
+                this.otherCounts[i] = oldCounts[j];
+            }
+        }
+    }
+
+    /**
+     * Spread the bits of a letter so that
+     * neighbouring code points do not
+     * cluster in the table.
+     *
+     * @param   letter  char
+     * @return          int
+     */
+    private static int hash(final char letter) {
+        final int h = letter * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,350 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)MappedLetterDistributionTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task class that counts the distribution of
+ * letters in a range of UTF-8 encoded bytes, such
+ * as a memory-mapped file. Leaves decode straight
+ * from the buffer with absolute reads, so nothing
+ * is copied onto the heap, and ranges are only
+ * split where a character starts. Letters outside
+ * the basic multilingual plane are not counted,
+ * just as surrogates are not letters in char input.
+ */
+public final class MappedLetterDistributionTask extends RecursiveTask<LetterHistogram> {
+    /** The default workload threshold in bytes. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 1 << 16;
+
+    /** The largest region of a file mapped into one buffer. */
+    static final long REGION_SIZE = 1L << 30;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(MappedLetterDistributionTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedLetterDistributionTask.class.getName());
+
+    /** The buffer of UTF-8 bytes; only absolute reads are used. */
+    private final transient ByteBuffer buffer;
+
+    /** The starting point in the buffer. */
+    private final int start;
+
+    /** The ending point in the buffer. */
+    private final int end;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * The constructor.
+     *
+     * @param   buffer      java.nio.ByteBuffer
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public MappedLetterDistributionTask(final ByteBuffer buffer,
+                                        final int start,
+                                        final int end,
+                                        final GranularityPolicy granularity) {
+        super();
+
+        Objects.checkFromToIndex(start, end, Objects.requireNonNull(buffer).limit());
+
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * Count the letters in a UTF-8 encoded file.
+     * The file is mapped read-only in regions of
+     * at most 1 GiB that each start on a character
+     * boundary; the regions are counted in parallel
+     * and their histograms merged.
+     *
+     * @param   file    java.nio.file.Path
+     * @param   pool    java.util.concurrent.ForkJoinPool
+     * @return          net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     * @throws          java.io.IOException When the file cannot be mapped
+     */
+    public static LetterHistogram countFile(final Path file, final ForkJoinPool pool) throws IOException {
+        return countFile(file, pool, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD), REGION_SIZE);
+    }
+
+    /**
+     * Count the letters in a UTF-8 encoded
+     * file using a granularity policy and
+     * a region size.
+     *
+     * @param   file        java.nio.file.Path
+     * @param   pool        java.util.concurrent.ForkJoinPool
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   regionSize  long
+     * @return              net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     * @throws              java.io.IOException When the file cannot be mapped
+     */
+    static LetterHistogram countFile(final Path file,
+                                     final ForkJoinPool pool,
+                                     final GranularityPolicy granularity,
+                                     final long regionSize) throws IOException {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(granularity);
+
+        if (regionSize < 4 || regionSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid region size: " + regionSize);
+        }
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final List<MappedLetterDistributionTask> regions = new ArrayList<>();
+
+            long regionStart = 0;
+
+            while (regionStart < size) {
+                final long regionEnd = characterBoundary(channel, Math.min(size, regionStart + regionSize), size);
+                final ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+
+                regions.add(new MappedLetterDistributionTask(region, 0, region.limit(), granularity));
+
+                regionStart = regionEnd;
+            }
+
+            return pool.invoke(new RecursiveTask<LetterHistogram>() {
+                @Override
+                protected LetterHistogram compute() {
+                    return ForkJoinTask.invokeAll(regions)
+                            .stream()
+                            .map(ForkJoinTask::join)
+                            .reduce(new LetterHistogram(), LetterHistogram::merge);
+                }
+            });
+        }
+    }
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     */
+    @Override
+    protected LetterHistogram compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        LetterHistogram result;
+
+        final int middle = this.characterBoundary((this.start + this.end) >>> 1);
+
+        if (middle > this.start && middle < this.end && this.granularity.shouldSplit(this.end - this.start)) {
+            METRICS.recordSplit();
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            final MappedLetterDistributionTask right = new MappedLetterDistributionTask(this.buffer, middle, this.end, this.granularity);
+
+            right.fork();
+
+            result = new MappedLetterDistributionTask(this.buffer, this.start, middle, this.granularity)
+                    .compute()                  // Compute the left side ...
+                    .merge(right.join());       // Then merge the right side
+        } else {
+            final long startNanos = METRICS.startLeaf();
+
+            result = this.processWorkload();
+
+            METRICS.recordLeaf(startNanos);
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the first offset at or after the
+     * given one that is not a UTF-8 continuation
+     * byte, or the end of this task's range.
+     *
+     * @param   offset  int
+     * @return          int
+     */
+    private int characterBoundary(final int offset) {
+        int boundary = offset;
+
+        while (boundary < this.end && isContinuation(this.buffer.get(boundary))) {
+            boundary++;
+        }
+
+        return boundary;
+    }
+
+    /**
+     * Process the workload by decoding the
+     * UTF-8 bytes in this task's range and
+     * counting the letters.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     */
+    private LetterHistogram processWorkload() {
+        final LetterHistogram histogram = new LetterHistogram();
+
+        int i = this.start;
+
+        while (i < this.end) {
+            final int b = this.buffer.get(i);
+
+            if (b >= 0) {
+                final char lower = (char) (b | 0x20);
+
+                if (lower >= 'a' && lower <= 'z') {
+                    histogram.add(lower);
+                }
+
+                i++;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < this.end) {
+                countLetter(histogram, ((b & 0x1F) << 6) | (this.buffer.get(i + 1) & 0x3F));
+
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < this.end) {
+                countLetter(histogram, ((b & 0x0F) << 12) | ((this.buffer.get(i + 1) & 0x3F) << 6) | (this.buffer.get(i + 2) & 0x3F));
+
+                i += 3;
+            } else if ((b & 0xF8) == 0xF0) {
+                i += 4;                             // Outside the basic multilingual plane
+            } else {
+                i++;                                // A malformed or truncated sequence
+            }
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Count a decoded character
+     * if it is a letter.
+     *
+     * @param   histogram   net.jmp.demo.forkjoinpool.tasks.LetterHistogram
+     * @param   codePoint   int
+     */
+    private static void countLetter(final LetterHistogram histogram, final int codePoint) {
+        final char character = (char) codePoint;
+
+        if (Character.isLetter(character)) {
+            histogram.add(Character.toLowerCase(character));
+        }
+    }
+
+    /**
+     * Return true if a byte is a
+     * UTF-8 continuation byte.
+     *
+     * @param   b   byte
+     * @return      boolean
+     */
+    private static boolean isContinuation(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Return the first file position at or after
+     * the given one that is not a UTF-8 continuation
+     * byte, or the size of the file.
+     *
+     * @param   channel     java.nio.channels.FileChannel
+     * @param   position    long
+     * @param   size        long
+     * @return              long
+     * @throws              java.io.IOException When the file cannot be read
+     */
+    private static long characterBoundary(final FileChannel channel, final long position, final long size) throws IOException {
+        final ByteBuffer probe = ByteBuffer.allocate(4);
+
+        long boundary = position;
+
+        while (boundary < size) {
+            probe.clear();
+
+            if (channel.read(probe, boundary) <= 0) {
+                break;
+            }
+
+            probe.flip();
+
+            while (probe.hasRemaining()) {
+                if (!isContinuation(probe.get())) {
+                    return boundary;
+                }
+
+                boundary++;
+            }
+        }
+
+        return Math.min(boundary, size);
+    }
+}
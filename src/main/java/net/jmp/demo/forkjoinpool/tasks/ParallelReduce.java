@@ -0,0 +1,641 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)ParallelReduce.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+import net.jmp.demo.forkjoinpool.policies.SurplusGranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task that reduces a splittable source, such
+ * as an index range or a spliterator, with a leaf
+ * accumulator and a combiner. It splits the source
+ * in place without copying, forks the first part
+ * and keeps splitting the rest in the current
+ * thread. The default granularity is adaptive:
+ * it splits while the worker's surplus of queued
+ * tasks is small. The nested OfLong and OfDouble
+ * tasks reduce index ranges to primitives without
+ * boxing below the root.
+ *
+ * @param   <S> The type of source
+ * @param   <A> The type of result
+ */
+public final class ParallelReduce<S, A> extends RecursiveTask<A> {
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(ParallelReduce.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelReduce.class.getName());
+
+    /** The source to reduce. */
+    private final transient S source;
+
+    /** The splitter of the source. */
+    private final transient Splitter<S> splitter;
+
+    /** The leaf accumulator. */
+    private final transient Function<? super S, ? extends A> leaf;
+
+    /** The combiner of a left and a right result. */
+    private final transient BinaryOperator<A> combiner;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * The constructor.
+     *
+     * @param   source      S
+     * @param   splitter    net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;S&gt;
+     * @param   leaf        java.util.function.Function&lt;? super S, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public ParallelReduce(final S source,
+                          final Splitter<S> splitter,
+                          final Function<? super S, ? extends A> leaf,
+                          final BinaryOperator<A> combiner,
+                          final GranularityPolicy granularity) {
+        super();
+
+        this.source = Objects.requireNonNull(source);
+        this.splitter = Objects.requireNonNull(splitter);
+        this.leaf = Objects.requireNonNull(leaf);
+        this.combiner = Objects.requireNonNull(combiner);
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * Return a task that reduces an index
+     * range using the adaptive granularity.
+     *
+     * @param   <A>         The type of result
+     * @param   start       long
+     * @param   end         long
+     * @param   leaf        java.util.function.Function&lt;? super net.jmp.demo.forkjoinpool.tasks.IndexRange, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @return              net.jmp.demo.forkjoinpool.tasks.ParallelReduce&lt;net.jmp.demo.forkjoinpool.tasks.IndexRange, A&gt;
+     */
+    public static <A> ParallelReduce<IndexRange, A> overRange(final long start,
+                                                               final long end,
+                                                               final Function<? super IndexRange, ? extends A> leaf,
+                                                               final BinaryOperator<A> combiner) {
+        return overRange(start, end, leaf, combiner, adaptive());
+    }
+
+    /**
+     * Return a task that reduces an
+     * index range using a granularity
+     * policy.
+     *
+     * @param   <A>         The type of result
+     * @param   start       long
+     * @param   end         long
+     * @param   leaf        java.util.function.Function&lt;? super net.jmp.demo.forkjoinpool.tasks.IndexRange, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              net.jmp.demo.forkjoinpool.tasks.ParallelReduce&lt;net.jmp.demo.forkjoinpool.tasks.IndexRange, A&gt;
+     */
+    public static <A> ParallelReduce<IndexRange, A> overRange(final long start,
+                                                               final long end,
+                                                               final Function<? super IndexRange, ? extends A> leaf,
+                                                               final BinaryOperator<A> combiner,
+                                                               final GranularityPolicy granularity) {
+        return new ParallelReduce<>(new IndexRange(start, end), Splitter.indexRange(), leaf, combiner, granularity);
+    }
+
+    /**
+     * Return a task that reduces a
+     * spliterator using the adaptive
+     * granularity. The leaf consumes
+     * the elements left in its part.
+     *
+     * @param   <T>         The type of element
+     * @param   <A>         The type of result
+     * @param   spliterator java.util.Spliterator&lt;T&gt;
+     * @param   leaf        java.util.function.Function&lt;? super java.util.Spliterator&lt;T&gt;, ? extends A&gt;
+     * @param   combiner    java.util.function.BinaryOperator&lt;A&gt;
+     * @return              net.jmp.demo.forkjoinpool.tasks.ParallelReduce&lt;java.util.Spliterator&lt;T&gt;, A&gt;
+     */
+    public static <T, A> ParallelReduce<Spliterator<T>, A> overSpliterator(final Spliterator<T> spliterator,
+                                                                            final Function<? super Spliterator<T>, ? extends A> leaf,
+                                                                            final BinaryOperator<A> combiner) {
+        return new ParallelReduce<>(spliterator, Splitter.spliterator(), leaf, combiner, adaptive());
+    }
+
+    /**
+     * Return a task that reduces an index
+     * range to a long using the adaptive
+     * granularity.
+     *
+     * @param   start       long
+     * @param   end         long
+     * @param   leaf        net.jmp.demo.forkjoinpool.tasks.ParallelReduce.RangeToLongFunction
+     * @param   combiner    java.util.function.LongBinaryOperator
+     * @return              net.jmp.demo.forkjoinpool.tasks.ParallelReduce.OfLong
+     */
+    public static OfLong overRangeToLong(final long start,
+                                         final long end,
+                                         final RangeToLongFunction leaf,
+                                         final LongBinaryOperator combiner) {
+        return new OfLong(start, end, leaf, combiner, adaptive());
+    }
+
+    /**
+     * Return a task that reduces an index
+     * range to a double using the adaptive
+     * granularity.
+     *
+     * @param   start       long
+     * @param   end         long
+     * @param   leaf        net.jmp.demo.forkjoinpool.tasks.ParallelReduce.RangeToDoubleFunction
+     * @param   combiner    java.util.function.DoubleBinaryOperator
+     * @return              net.jmp.demo.forkjoinpool.tasks.ParallelReduce.OfDouble
+     */
+    public static OfDouble overRangeToDouble(final long start,
+                                             final long end,
+                                             final RangeToDoubleFunction leaf,
+                                             final DoubleBinaryOperator combiner) {
+        return new OfDouble(start, end, leaf, combiner, adaptive());
+    }
+
+    /**
+     * Return the adaptive granularity policy,
+     * which splits while the worker's surplus
+     * of queued tasks is small.
+     *
+     * @return  net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public static GranularityPolicy adaptive() {
+        return GranularityPolicy.surplus(SurplusGranularityPolicy.DEFAULT_MINIMUM_SIZE,
+                SurplusGranularityPolicy.DEFAULT_MAXIMUM_SURPLUS);
+    }
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return  A
+     */
+    @Override
+    protected A compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        final A result = this.reduce(this.source);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Reduce a source, forking its first part
+     * and reducing the rest in this thread
+     * while the granularity policy calls for
+     * a split.
+     *
+     * @param   rest    S
+     * @return          A
+     */
+    private A reduce(final S rest) {
+        final long size = this.splitter.size(rest);
+
+        if (size > 1 && this.granularity.shouldSplit(size)) {
+            final S prefix = this.splitter.trySplit(rest);
+
+            if (prefix != null) {
+                METRICS.recordSplit();
+
+                final ParallelReduce<S, A> left = new ParallelReduce<>(prefix, this.splitter, this.leaf, this.combiner, this.granularity);
+
+                left.fork();
+
+                final A right = this.reduce(rest);
+
+                return this.combiner.apply(left.join(), right);
+            }
+        }
+
+        final long startNanos = METRICS.startLeaf();
+        final A result = this.leaf.apply(rest);
+
+        METRICS.recordLeaf(startNanos);
+
+        return result;
+    }
+
+    /**
+     * A strategy that sizes and splits a source.
+     * Splitting follows the spliterator contract:
+     * the first part is returned and the source
+     * keeps the rest.
+     *
+     * @param   <S> The type of source
+     */
+    public interface Splitter<S> {
+        /**
+         * Return the estimated number
+         * of elements in a source.
+         *
+         * @param   source  S
+         * @return          long
+         */
+        long size(S source);
+
+        /**
+         * Split off and return the first part
+         * of a source, or return null if it
+         * cannot be split.
+         *
+         * @param   source  S
+         * @return          S
+         */
+        S trySplit(S source);
+
+        /**
+         * Return the splitter of index ranges.
+         *
+         * @return  net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;net.jmp.demo.forkjoinpool.tasks.IndexRange&gt;
+         */
+        static Splitter<IndexRange> indexRange() {
+            return new Splitter<>() {
+                @Override
+                public long size(final IndexRange source) {
+                    return source.size();
+                }
+
+                @Override
+                public IndexRange trySplit(final IndexRange source) {
+                    return source.trySplit();
+                }
+            };
+        }
+
+        /**
+         * Return the splitter of spliterators.
+         *
+         * @param   <T> The type of element
+         * @return      net.jmp.demo.forkjoinpool.tasks.ParallelReduce.Splitter&lt;java.util.Spliterator&lt;T&gt;&gt;
+         */
+        static <T> Splitter<Spliterator<T>> spliterator() {
+            return new Splitter<>() {
+                @Override
+                public long size(final Spliterator<T> source) {
+                    return source.estimateSize();
+                }
+
+                @Override
+                public Spliterator<T> trySplit(final Spliterator<T> source) {
+                    return source.trySplit();
+                }
+            };
+        }
+    }
+
+    /**
+     * A leaf accumulator that reduces
+     * the indices [start, end) to a long.
+     */
+    @FunctionalInterface
+    public interface RangeToLongFunction {
+        /**
+         * Reduce a range of indices.
+         *
+         * @param   start   long
+         * @param   end     long
+         * @return          long
+         */
+        long applyAsLong(long start, long end);
+    }
+
+    /**
+     * A leaf accumulator that reduces
+     * the indices [start, end) to a double.
+     */
+    @FunctionalInterface
+    public interface RangeToDoubleFunction {
+        /**
+         * Reduce a range of indices.
+         *
+         * @param   start   long
+         * @param   end     long
+         * @return          double
+         */
+        double applyAsDouble(long start, long end);
+    }
+
+    /**
+     * A task that reduces an index range to a
+     * long. Results are kept as primitives and
+     * only boxed when the raw result is read.
+     */
+    public static final class OfLong extends ForkJoinTask<Long> {
+        /** The first index. */
+        private final long start;
+
+        /** The index after the last index. */
+        private final long end;
+
+        /** The leaf accumulator. */
+        private final transient RangeToLongFunction leaf;
+
+        /** The combiner of a left and a right result. */
+        private final transient LongBinaryOperator combiner;
+
+        /** The granularity policy. */
+        private final GranularityPolicy granularity;
+
+        /** The result of this task. */
+        private long result;
+
+        /**
+         * The constructor.
+         *
+         * @param   start       long
+         * @param   end         long
+         * @param   leaf        net.jmp.demo.forkjoinpool.tasks.ParallelReduce.RangeToLongFunction
+         * @param   combiner    java.util.function.LongBinaryOperator
+         * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+         */
+        public OfLong(final long start,
+                      final long end,
+                      final RangeToLongFunction leaf,
+                      final LongBinaryOperator combiner,
+                      final GranularityPolicy granularity) {
+            super();
+
+            if (start < 0 || start > end) {
+                throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is invalid");
+            }
+
+            this.start = start;
+            this.end = end;
+            this.leaf = Objects.requireNonNull(leaf);
+            this.combiner = Objects.requireNonNull(combiner);
+            this.granularity = Objects.requireNonNull(granularity);
+        }
+
+        /**
+         * Return the result without boxing it.
+         *
+         * @return  long
+         */
+        public long getAsLong() {
+            return this.result;
+        }
+
+        /**
+         * Return the result.
+         *
+         * @return  java.lang.Long
+         */
+        @Override
+        public Long getRawResult() {
+            return this.result;
+        }
+
+        /**
+         * Set the result.
+         *
+         * @param   value   java.lang.Long
+         */
+        @Override
+        protected void setRawResult(final Long value) {
+            this.result = value == null ? 0 : value;
+        }
+
+        /**
+         * Reduce the range.
+         *
+         * @return  boolean
+         */
+        @Override
+        protected boolean exec() {
+            this.granularity.checkCancelled();
+
+            this.result = this.reduce(this.start, this.end);
+
+            return true;
+        }
+
+        /**
+         * Reduce [from, to), forking the first
+         * half while the granularity policy
+         * calls for a split.
+         *
+         * @param   from    long
+         * @param   to      long
+         * @return          long
+         */
+        private long reduce(final long from, final long to) {
+            if (to - from > 1 && this.granularity.shouldSplit(to - from)) {
+                METRICS.recordSplit();
+
+                final long middle = (from + to) >>> 1;
+                final OfLong left = new OfLong(from, middle, this.leaf, this.combiner, this.granularity);
+
+                left.fork();
+
+                final long right = this.reduce(middle, to);
+
+                left.quietlyJoin();
+
+                if (left.isCompletedAbnormally()) {
+                    left.join();                // Rethrow the exception
+                }
+
+                return this.combiner.applyAsLong(left.result, right);
+            }
+
+            final long startNanos = METRICS.startLeaf();
+            final long value = this.leaf.applyAsLong(from, to);
+
+            METRICS.recordLeaf(startNanos);
+
+            return value;
+        }
+    }
+
+    /**
+     * A task that reduces an index range to a
+     * double. Results are kept as primitives and
+     * only boxed when the raw result is read.
+     */
+    public static final class OfDouble extends ForkJoinTask<Double> {
+        /** The first index. */
+        private final long start;
+
+        /** The index after the last index. */
+        private final long end;
+
+        /** The leaf accumulator. */
+        private final transient RangeToDoubleFunction leaf;
+
+        /** The combiner of a left and a right result. */
+        private final transient DoubleBinaryOperator combiner;
+
+        /** The granularity policy. */
+        private final GranularityPolicy granularity;
+
+        /** The result of this task. */
+        private double result;
+
+        /**
+         * The constructor.
+         *
+         * @param   start       long
+         * @param   end         long
+         * @param   leaf        net.jmp.demo.forkjoinpool.tasks.ParallelReduce.RangeToDoubleFunction
+         * @param   combiner    java.util.function.DoubleBinaryOperator
+         * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+         */
+        public OfDouble(final long start,
+                        final long end,
+                        final RangeToDoubleFunction leaf,
+                        final DoubleBinaryOperator combiner,
+                        final GranularityPolicy granularity) {
+            super();
+
+            if (start < 0 || start > end) {
+                throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is invalid");
+            }
+
+            this.start = start;
+            this.end = end;
+            this.leaf = Objects.requireNonNull(leaf);
+            this.combiner = Objects.requireNonNull(combiner);
+            this.granularity = Objects.requireNonNull(granularity);
+        }
+
+        /**
+         * Return the result without boxing it.
+         *
+         * @return  double
+         */
+        public double getAsDouble() {
+            return this.result;
+        }
+
+        /**
+         * Return the result.
+         *
+         * @return  java.lang.Double
+         */
+        @Override
+        public Double getRawResult() {
+            return this.result;
+        }
+
+        /**
+         * Set the result.
+         *
+         * @param   value   java.lang.Double
+         */
+        @Override
+        protected void setRawResult(final Double value) {
+            this.result = value == null ? 0 : value;
+        }
+
+        /**
+         * Reduce the range.
+         *
+         * @return  boolean
+         */
+        @Override
+        protected boolean exec() {
+            this.granularity.checkCancelled();
+
+            this.result = this.reduce(this.start, this.end);
+
+            return true;
+        }
+
+        /**
+         * Reduce [from, to), forking the first
+         * half while the granularity policy
+         * calls for a split.
+         *
+         * @param   from    long
+         * @param   to      long
+         * @return          double
+         */
+        private double reduce(final long from, final long to) {
+            if (to - from > 1 && this.granularity.shouldSplit(to - from)) {
+                METRICS.recordSplit();
+
+                final long middle = (from + to) >>> 1;
+                final OfDouble left = new OfDouble(from, middle, this.leaf, this.combiner, this.granularity);
+
+                left.fork();
+
+                final double right = this.reduce(middle, to);
+
+                left.quietlyJoin();
+
+                if (left.isCompletedAbnormally()) {
+                    left.join();                // Rethrow the exception
+                }
+
+                return this.combiner.applyAsDouble(left.result, right);
+            }
+
+            final long startNanos = METRICS.startLeaf();
+            final double value = this.leaf.applyAsDouble(from, to);
+
+            METRICS.recordLeaf(startNanos);
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)PrefixSumTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action class that replaces a range of an
+ * array of ints, longs or doubles with its prefix
+ * sums, in place. It uses the classic two passes:
+ * an up-sweep builds a tree of the sums of the
+ * ranges chosen by the granularity policy, and a
+ * down-sweep hands each leaf the sum of everything
+ * before it so that the leaves scan independently.
+ * Int sums wrap around on overflow, as they do with
+ * Arrays.parallelPrefix(int[], Integer::sum).
+ */
+public final class PrefixSumTask extends RecursiveAction {
+    /**
+     * The kinds of prefix sum.
+     */
+    public enum Mode {
+        /** Each element becomes the sum of itself and all elements before it. */
+        INCLUSIVE,
+
+        /** Each element becomes the sum of all elements before it. */
+        EXCLUSIVE
+    }
+
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(PrefixSumTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefixSumTask.class.getName());
+
+    /** The array of ints to scan or null. */
+    private final int[] ints;
+
+    /** The array of longs to scan or null. */
+    private final long[] longs;
+
+    /** The array of doubles to scan or null. */
+    private final double[] doubles;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The kind of prefix sum. */
+    private final Mode mode;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that scans an entire
+     * array of ints using the default
+     * workload threshold.
+     *
+     * @param   ints    int[]
+     * @param   mode    net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     */
+    public PrefixSumTask(final int[] ints, final Mode mode) {
+        this(ints, 0, Objects.requireNonNull(ints).length, mode, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that scans a range
+     * of an array of ints.
+     *
+     * @param   ints        int[]
+     * @param   start       int
+     * @param   end         int
+     * @param   mode        net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public PrefixSumTask(final int[] ints,
+                         final int start,
+                         final int end,
+                         final Mode mode,
+                         final GranularityPolicy granularity) {
+        this(Objects.requireNonNull(ints), null, null, ints.length, start, end, mode, granularity);
+    }
+
+    /**
+     * A constructor that scans an entire
+     * array of longs using the default
+     * workload threshold.
+     *
+     * @param   longs   long[]
+     * @param   mode    net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     */
+    public PrefixSumTask(final long[] longs, final Mode mode) {
+        this(longs, 0, Objects.requireNonNull(longs).length, mode, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that scans a range
+     * of an array of longs.
+     *
+     * @param   longs       long[]
+     * @param   start       int
+     * @param   end         int
+     * @param   mode        net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public PrefixSumTask(final long[] longs,
+                         final int start,
+                         final int end,
+                         final Mode mode,
+                         final GranularityPolicy granularity) {
+        this(null, Objects.requireNonNull(longs), null, longs.length, start, end, mode, granularity);
+    }
+
+    /**
+     * A constructor that scans an entire
+     * array of doubles using the default
+     * workload threshold.
+     *
+     * @param   doubles double[]
+     * @param   mode    net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     */
+    public PrefixSumTask(final double[] doubles, final Mode mode) {
+        this(doubles, 0, Objects.requireNonNull(doubles).length, mode, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that scans a range
+     * of an array of doubles.
+     *
+     * @param   doubles     double[]
+     * @param   start       int
+     * @param   end         int
+     * @param   mode        net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public PrefixSumTask(final double[] doubles,
+                         final int start,
+                         final int end,
+                         final Mode mode,
+                         final GranularityPolicy granularity) {
+        this(null, null, Objects.requireNonNull(doubles), doubles.length, start, end, mode, granularity);
+    }
+
+    /**
+     * The constructor that all the
+     * others delegate to.
+     *
+     * @param   ints        int[]
+     * @param   longs       long[]
+     * @param   doubles     double[]
+     * @param   length      int
+     * @param   start       int
+     * @param   end         int
+     * @param   mode        net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Mode
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    private PrefixSumTask(final int[] ints,
+                          final long[] longs,
+                          final double[] doubles,
+                          final int length,
+                          final int start,
+                          final int end,
+                          final Mode mode,
+                          final GranularityPolicy granularity) {
+        super();
+
+        Objects.checkFromToIndex(start, end, length);
+
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+        this.start = start;
+        this.end = end;
+        this.mode = Objects.requireNonNull(mode);
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The main computation performed by this task:
+     * the up-sweep followed by the down-sweep.
+     */
+    @Override
+    protected void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        final Node root = new Node(this.start, this.end);
+
+        new UpSweep(root).compute();
+        new DownSweep(root, 0, 0).compute();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+
+    /**
+     * Sum a leaf's range into its node.
+     * Ints and longs are summed as longs.
+     *
+     * @param   node    net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Node
+     */
+    private void sum(final Node node) {
+        if (this.doubles != null) {
+            double sum = 0;
+
+            for (int i = node.lo; i < node.hi; i++) {
+                sum += this.doubles[i];
+            }
+
+            node.doubleSum = sum;
+        } else if (this.longs != null) {
+            long sum = 0;
+
+            for (int i = node.lo; i < node.hi; i++) {
+                sum += this.longs[i];
+            }
+
+            node.sum = sum;
+        } else {
+            long sum = 0;
+
+            for (int i = node.lo; i < node.hi; i++) {
+                sum += this.ints[i];
+            }
+
+            node.sum = sum;
+        }
+    }
+
+    /**
+     * Scan a range in place starting
+     * from the sum of all elements
+     * before it.
+     *
+     * @param   node            net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Node
+     * @param   offset          long
+     * @param   doubleOffset    double
+     */
+    private void scan(final Node node, final long offset, final double doubleOffset) {
+        final boolean inclusive = this.mode == Mode.INCLUSIVE;
+
+        if (this.doubles != null) {
+            double running = doubleOffset;
+
+            for (int i = node.lo; i < node.hi; i++) {
+                final double value = this.doubles[i];
+
+                this.doubles[i] = inclusive ? running + value : running;
+
+                running += value;
+            }
+        } else if (this.longs != null) {
+            long running = offset;
+
+            for (int i = node.lo; i < node.hi; i++) {
+                final long value = this.longs[i];
+
+                this.longs[i] = inclusive ? running + value : running;
+
+                running += value;
+            }
+        } else {
+            int running = (int) offset;
+
+            for (int i = node.lo; i < node.hi; i++) {
+                final int value = this.ints[i];
+
+                this.ints[i] = inclusive ? running + value : running;
+
+                running += value;
+            }
+        }
+    }
+
+    /**
+     * A node of the tree of range sums
+     * built by the up-sweep.
+     */
+    private static final class Node {
+        /** The first index of the range. */
+        private final int lo;
+
+        /** The index after the last index of the range. */
+        private final int hi;
+
+        /** The left child or null in a leaf. */
+        private Node left;
+
+        /** The right child or null in a leaf. */
+        private Node right;
+
+        /** The sum of the range of ints or longs. */
+        private long sum;
+
+        /** The sum of the range of doubles. */
+        private double doubleSum;
+
+        /**
+         * The constructor.
+         *
+         * @param   lo  int
+         * @param   hi  int
+         */
+        private Node(final int lo, final int hi) {
+            super();
+
+            this.lo = lo;
+            this.hi = hi;
+        }
+    }
+
+    /**
+     * The first pass: split the range while the
+     * granularity policy says so and sum it from
+     * the leaves up.
+     */
+    private final class UpSweep extends RecursiveAction {
+        /** The node of this range. */
+        private final transient Node node;
+
+        /**
+         * The constructor.
+         *
+         * @param   node    net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Node
+         */
+        private UpSweep(final Node node) {
+            super();
+
+            this.node = node;
+        }
+
+        /**
+         * Sum this node's range.
+         */
+        @Override
+        protected void compute() {
+            PrefixSumTask.this.granularity.checkCancelled();
+
+            final int size = this.node.hi - this.node.lo;
+
+            if (size > 1 && PrefixSumTask.this.granularity.shouldSplit(size)) {
+                METRICS.recordSplit();
+
+                final int middle = (this.node.lo + this.node.hi) >>> 1;
+
+                this.node.left = new Node(this.node.lo, middle);
+                this.node.right = new Node(middle, this.node.hi);
+
+                ForkJoinTask.invokeAll(new UpSweep(this.node.left), new UpSweep(this.node.right));
+
+                this.node.sum = this.node.left.sum + this.node.right.sum;
+                this.node.doubleSum = this.node.left.doubleSum + this.node.right.doubleSum;
+            } else {
+                final long startNanos = METRICS.startLeaf();
+
+                PrefixSumTask.this.sum(this.node);
+
+                METRICS.recordLeaf(startNanos);
+            }
+        }
+    }
+
+    /**
+     * The second pass: hand each child the sum
+     * of everything before it and scan the
+     * leaves in place.
+     */
+    private final class DownSweep extends RecursiveAction {
+        /** The node of this range. */
+        private final transient Node node;
+
+        /** The sum of the ints or longs before this range. */
+        private final long offset;
+
+        /** The sum of the doubles before this range. */
+        private final double doubleOffset;
+
+        /**
+         * The constructor.
+         *
+         * @param   node            net.jmp.demo.forkjoinpool.tasks.PrefixSumTask.Node
+         * @param   offset          long
+         * @param   doubleOffset    double
+         */
+        private DownSweep(final Node node, final long offset, final double doubleOffset) {
+            super();
+
+            this.node = node;
+            this.offset = offset;
+            this.doubleOffset = doubleOffset;
+        }
+
+        /**
+         * Scan this node's range.
+         */
+        @Override
+        protected void compute() {
+            PrefixSumTask.this.granularity.checkCancelled();
+
+            if (this.node.left != null) {
+                ForkJoinTask.invokeAll(new DownSweep(this.node.left, this.offset, this.doubleOffset),
+                        new DownSweep(this.node.right,
+                                this.offset + this.node.left.sum,
+                                this.doubleOffset + this.node.left.doubleSum));
+            } else {
+                final long startNanos = METRICS.startLeaf();
+
+                PrefixSumTask.this.scan(this.node, this.offset, this.doubleOffset);
+
+                METRICS.recordLeaf(startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)ProductTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.util.Objects;
+
+import java.util.concurrent.RecursiveTask;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task class that multiplies either a range of
+ * consecutive integers or a range of an array of
+ * factors as a balanced product tree. Leaves fold
+ * as many factors as fit into each long before
+ * creating any BigInteger, and the large products
+ * near the root use BigInteger.parallelMultiply.
+ */
+public final class ProductTask extends RecursiveTask<BigInteger> {
+    /** The default workload threshold in factors. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 512;
+
+    /** The bit length above which both operands are multiplied in parallel. */
+    static final int PARALLEL_MULTIPLY_THRESHOLD = 1 << 17;
+
+    /** One less than the number of factors a leaf packs between checks for cancellation. */
+    private static final int CANCELLATION_INTERVAL_MASK = (1 << 16) - 1;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(ProductTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductTask.class.getName());
+
+    /** The factors or null when multiplying consecutive integers. */
+    private final int[] factors;
+
+    /** The first factor or index, inclusive. */
+    private final int start;
+
+    /** The last factor or index, exclusive. */
+    private final int end;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that multiplies the
+     * consecutive integers from..to, both
+     * inclusive.
+     *
+     * @param   from    int
+     * @param   to      int
+     */
+    public ProductTask(final int from, final int to) {
+        this(null, from, Math.addExact(to, 1), GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that multiplies a range
+     * of an array of factors. When the array
+     * is null the consecutive integers from
+     * start up to but excluding end are
+     * multiplied instead.
+     *
+     * @param   factors     int[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public ProductTask(final int[] factors,
+                       final int start,
+                       final int end,
+                       final GranularityPolicy granularity) {
+        super();
+
+        if (factors != null) {
+            Objects.checkFromToIndex(start, end, factors.length);
+        } else if (start < 1 || end < start) {
+            throw new IllegalArgumentException("Invalid range of factors: " + start + ".." + end);
+        }
+
+        this.factors = factors;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return  java.math.BigInteger
+     */
+    @Override
+    protected BigInteger compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        BigInteger result;
+
+        if ((this.end - this.start) > 1 && this.granularity.shouldSplit(this.end - this.start)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            METRICS.recordSplit();
+
+            final int middle = (this.start + this.end) >>> 1;
+
+            final ProductTask right = new ProductTask(this.factors, middle, this.end, this.granularity);
+
+            right.fork();
+
+            final BigInteger left = new ProductTask(this.factors, this.start, middle, this.granularity).compute();
+            final BigInteger product = right.join();
+
+            this.granularity.checkCancelled();  // Skip the largest multiplications of a cancelled job
+
+            result = multiply(left, product);
+        } else {
+            final long startNanos = METRICS.startLeaf();
+
+            result = this.processWorkload();
+
+            METRICS.recordLeaf(startNanos);
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result.bitLength()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiply two numbers, in parallel
+     * when both of them are large.
+     *
+     * @param   a   java.math.BigInteger
+     * @param   b   java.math.BigInteger
+     * @return      java.math.BigInteger
+     */
+    static BigInteger multiply(final BigInteger a, final BigInteger b) {
+        if (a.bitLength() > PARALLEL_MULTIPLY_THRESHOLD && b.bitLength() > PARALLEL_MULTIPLY_THRESHOLD) {
+            return a.parallelMultiply(b);
+        }
+
+        return a.multiply(b);
+    }
+
+    /**
+     * Process the workload by packing the
+     * factors into as few longs as possible
+     * and multiplying those as a balanced tree.
+     *
+     * @return  java.math.BigInteger
+     */
+    private BigInteger processWorkload() {
+        final long[] partials = new long[Math.max(1, this.end - this.start)];
+
+        int count = 0;
+        long partial = 1;
+
+        for (int i = this.start; i < this.end; i++) {
+            if (((i - this.start) & CANCELLATION_INTERVAL_MASK) == CANCELLATION_INTERVAL_MASK) {
+                this.granularity.checkCancelled();
+            }
+
+            final long factor = this.factors == null ? i : this.factors[i];
+
+            if (Math.multiplyHigh(partial, factor) != 0 || partial * factor < 0) {
+                partials[count++] = partial;
+                partial = factor;
+            } else {
+                partial *= factor;
+            }
+        }
+
+        partials[count++] = partial;
+
+        return this.product(partials, 0, count);
+    }
+
+    /**
+     * Multiply a range of longs as a balanced
+     * binary tree, checking for cancellation
+     * before each multiplication of products.
+     *
+     * @param   partials    long[]
+     * @param   from        int
+     * @param   to          int
+     * @return              java.math.BigInteger
+     */
+    private BigInteger product(final long[] partials, final int from, final int to) {
+        final int count = to - from;
+
+        if (count == 1) {
+            return BigInteger.valueOf(partials[from]);
+        }
+
+        if (count == 2) {
+            return BigInteger.valueOf(partials[from]).multiply(BigInteger.valueOf(partials[from + 1]));
+        }
+
+        final int middle = (from + to) >>> 1;
+        final BigInteger left = this.product(partials, from, middle);
+        final BigInteger right = this.product(partials, middle, to);
+
+        this.granularity.checkCancelled();
+
+        return left.multiply(right);
+    }
+}
@@ -0,0 +1,300 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)RangeSumTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.CountedCompleter;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task class that sums a range of an array of
+ * integers or longs. Unlike the sum task the array
+ * is never copied; subtasks share it and split by
+ * their [start, end) indices. The result is kept
+ * as a primitive long so it does not overflow at
+ * 2^31 and is only boxed once, at the root.
+ */
+public final class RangeSumTask extends CountedCompleter<Long> {
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The number of elements a leaf sums between checks for cancellation. */
+    private static final int CANCELLATION_INTERVAL = 1 << 16;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(RangeSumTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RangeSumTask.class.getName());
+
+    /** The array of integers to sum or null when summing longs. */
+    private final int[] integers;
+
+    /** The array of longs to sum or null when summing integers. */
+    private final long[] longs;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /** The next forked sibling of this task. */
+    private final RangeSumTask next;
+
+    /** The most recently forked subtask of this task. */
+    private RangeSumTask forks;
+
+    /** The sum of this task's range. */
+    private long result;
+
+    /**
+     * A constructor that sums an entire
+     * array of integers.
+     *
+     * @param   integers    int[]
+     */
+    public RangeSumTask(final int[] integers) {
+        this(integers, 0, Objects.requireNonNull(integers).length, DEFAULT_WORKLOAD_THRESHOLD);
+    }
+
+    /**
+     * A constructor that sums a range
+     * of an array of integers using a
+     * fixed workload threshold.
+     *
+     * @param   integers            int[]
+     * @param   start               int
+     * @param   end                 int
+     * @param   workloadThreshold   int
+     */
+    public RangeSumTask(final int[] integers,
+                        final int start,
+                        final int end,
+                        final int workloadThreshold) {
+        this(integers, start, end, GranularityPolicy.fixed(workloadThreshold));
+    }
+
+    /**
+     * A constructor that sums a range
+     * of an array of integers.
+     *
+     * @param   integers    int[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public RangeSumTask(final int[] integers,
+                        final int start,
+                        final int end,
+                        final GranularityPolicy granularity) {
+        this(null, Objects.requireNonNull(integers), null, start, end, granularity, null);
+
+        Objects.checkFromToIndex(start, end, integers.length);
+    }
+
+    /**
+     * A constructor that sums an entire
+     * array of longs.
+     *
+     * @param   longs   long[]
+     */
+    public RangeSumTask(final long[] longs) {
+        this(longs, 0, Objects.requireNonNull(longs).length, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that sums a range
+     * of an array of longs.
+     *
+     * @param   longs       long[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public RangeSumTask(final long[] longs,
+                        final int start,
+                        final int end,
+                        final GranularityPolicy granularity) {
+        this(null, null, Objects.requireNonNull(longs), start, end, granularity, null);
+
+        Objects.checkFromToIndex(start, end, longs.length);
+    }
+
+    /**
+     * The constructor used for subtasks.
+     *
+     * @param   parent              java.util.concurrent.CountedCompleter&lt;?&gt;
+     * @param   integers            int[]
+     * @param   longs               long[]
+     * @param   start               int
+     * @param   end                 int
+     * @param   granularity         net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @param   next                net.jmp.demo.forkjoinpool.tasks.RangeSumTask
+     */
+    private RangeSumTask(final CountedCompleter<?> parent,
+                         final int[] integers,
+                         final long[] longs,
+                         final int start,
+                         final int end,
+                         final GranularityPolicy granularity,
+                         final RangeSumTask next) {
+        super(parent);
+
+        this.integers = integers;
+        this.longs = longs;
+        this.start = start;
+        this.end = end;
+        this.granularity = Objects.requireNonNull(granularity);
+        this.next = next;
+    }
+
+    /**
+     * The main computation performed by this task.
+     * The right halves are forked and chained while
+     * this task keeps descending into the left half
+     * until it is small enough to sum directly.
+     */
+    @Override
+    public void compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        int high = this.end;
+
+        while (high - this.start > 1 && this.granularity.shouldSplit(high - this.start)) {
+            final int middle = (this.start + high) >>> 1;
+
+            METRICS.recordSplit();
+
+            this.addToPendingCount(1);
+
+            this.forks = new RangeSumTask(this, this.integers, this.longs, middle, high, this.granularity, this.forks);
+            this.forks.fork();
+
+            high = middle;
+        }
+
+        final long startNanos = METRICS.startLeaf();
+
+        this.result = this.processWorkload(this.start, high);
+
+        METRICS.recordLeaf(startNanos);
+
+        this.tryComplete();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exit());
+        }
+    }
+
+    /**
+     * Add the results of the forked
+     * subtasks once they have all
+     * completed.
+     *
+     * @param   caller  java.util.concurrent.CountedCompleter&lt;?&gt;
+     */
+    @Override
+    public void onCompletion(final CountedCompleter<?> caller) {
+        for (RangeSumTask task = this.forks; task != null; task = task.next) {
+            this.result += task.result;
+        }
+    }
+
+    /**
+     * Return the sum.
+     *
+     * @return  java.lang.Long
+     */
+    @Override
+    public Long getRawResult() {
+        return this.result;
+    }
+
+    /**
+     * Return the sum as a primitive. Only
+     * meaningful once the task is done.
+     *
+     * @return  long
+     */
+    public long getSum() {
+        return this.result;
+    }
+
+    /**
+     * Process the workload by summing the
+     * elements in the given range, checking
+     * for cancellation between blocks.
+     *
+     * @param   from    int
+     * @param   to      int
+     * @return          long
+     */
+    private long processWorkload(final int from, final int to) {
+        long sum = 0;
+
+        for (int low = from; low < to; low += CANCELLATION_INTERVAL) {
+            final int high = Math.min(to, low + CANCELLATION_INTERVAL);
+
+            if (low > from) {
+                this.granularity.checkCancelled();
+            }
+
+            if (this.integers != null) {
+                for (int i = low; i < high; i++) {
+                    sum += this.integers[i];
+                }
+            } else {
+                for (int i = low; i < high; i++) {
+                    sum += this.longs[i];
+                }
+            }
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,184 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)SegmentSumTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.Objects;
+
+import java.util.concurrent.RecursiveTask;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task class that sums the integers in a
+ * memory segment. Segments are split into
+ * slices with long offsets, so native or
+ * mapped data of more than 2^31 elements can
+ * be summed without being copied onto the heap.
+ * The segment must be accessible from the pool's
+ * worker threads, e.g. allocated by a shared,
+ * automatic or global arena, or wrap an array.
+ * The integers are read without assuming any
+ * alignment, so segments that wrap a byte array
+ * or start at an odd offset can be summed too.
+ */
+public final class SegmentSumTask extends RecursiveTask<Long> {
+    /** The default workload threshold in elements. */
+    public static final long DEFAULT_WORKLOAD_THRESHOLD = 8_192;
+
+    /** The layout of an unaligned integer in the segment. */
+    private static final ValueLayout.OfInt LAYOUT = ValueLayout.JAVA_INT_UNALIGNED;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(SegmentSumTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentSumTask.class.getName());
+
+    /** The segment of integers to sum. */
+    private final transient MemorySegment segment;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * A constructor that uses the
+     * default workload threshold.
+     *
+     * @param   segment java.lang.foreign.MemorySegment
+     */
+    public SegmentSumTask(final MemorySegment segment) {
+        this(segment, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   segment     java.lang.foreign.MemorySegment
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public SegmentSumTask(final MemorySegment segment, final GranularityPolicy granularity) {
+        super();
+
+        if (Objects.requireNonNull(segment).byteSize() % LAYOUT.byteSize() != 0) {
+            throw new IllegalArgumentException("Segment size is not a multiple of an int: " + segment.byteSize());
+        }
+
+        this.segment = segment;
+        this.granularity = Objects.requireNonNull(granularity);
+    }
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return  java.lang.Long
+     */
+    @Override
+    protected Long compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        final long result = this.sum();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Sum this task's segment, forking the
+     * right half and summing the left half
+     * in this thread while it should split.
+     *
+     * @return  long
+     */
+    private long sum() {
+        final long elements = this.segment.byteSize() / LAYOUT.byteSize();
+
+        if (elements < 2 || !this.granularity.shouldSplit(elements)) {
+            final long startNanos = METRICS.startLeaf();
+            final long result = this.processWorkload(elements);
+
+            METRICS.recordLeaf(startNanos);
+
+            return result;
+        }
+
+        METRICS.recordSplit();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+        }
+
+        final long middle = (elements >>> 1) * LAYOUT.byteSize();
+        final SegmentSumTask right = new SegmentSumTask(this.segment.asSlice(middle), this.granularity);
+
+        right.fork();
+
+        return new SegmentSumTask(this.segment.asSlice(0, middle), this.granularity).sum() + right.join();
+    }
+
+    /**
+     * Process the workload by summing
+     * the integers in the segment.
+     *
+     * @param   elements    long
+     * @return              long
+     */
+    private long processWorkload(final long elements) {
+        long result = 0;
+
+        for (long i = 0; i < elements; i++) {
+            result += this.segment.getAtIndex(LAYOUT, i);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Done - {}: {}", result, Thread.currentThread().getName());
+        }
+
+        return result;
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.demo.forkjoinpool.tasks;
 
 /*
+ * (#)SumTask.java              0.5.0   10/17/2026
  * (#)CapitalizerAction.java    0.4.0   09/24/2024
  * (#)CapitalizerAction.java    0.2.0   09/14/2024
  *
  * @author    Jonathan Parker
- * @version   0.4.0
+ * @version   0.5.0
  * @since     0.2.0
  *
  * MIT License
@@ -31,14 +32,16 @@ package net.jmp.demo.forkjoinpool.tasks;
  * SOFTWARE.
  */
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.RecursiveTask;
 
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -48,24 +51,43 @@ import org.slf4j.LoggerFactory;
  * A task class that sums numbers in an array of integers.
  */
 public final class SumTask extends RecursiveTask<Integer> {
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(SumTask.class);
+
     /** The logger. */
-    private final transient Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+    private static final Logger LOGGER = LoggerFactory.getLogger(SumTask.class.getName());
 
     /** The array of integers to sum. */
     private final int[] integers;
 
-    /** The workload threshold. */
-    private final int workloadThreshold = 20;
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 20;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
 
     /**
-     * The constructor.
+     * A constructor that uses the
+     * default workload threshold.
      *
      * @param   integers    int[]
      */
     public SumTask(final int[] integers) {
+        this(integers, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * A constructor that takes
+     * a granularity policy.
+     *
+     * @param   integers    int[]
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    public SumTask(final int[] integers, final GranularityPolicy granularity) {
         super();
 
         this.integers = Objects.requireNonNull(integers);
+        this.granularity = Objects.requireNonNull(granularity);
     }
 
     /**
@@ -75,55 +97,56 @@ public final class SumTask extends RecursiveTask<Integer> {
      */
     @Override
     protected Integer compute() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
+        this.granularity.checkCancelled();
+
         int result;
 
-        if (this.integers.length > this.workloadThreshold) {
-            result = ForkJoinTask.invokeAll(this.createSubtasks())
-                    .stream()
-                    .mapToInt(ForkJoinTask::join)
-                    .sum();
+        if (this.integers.length > 1 && this.granularity.shouldSplit(this.integers.length)) {
+            METRICS.recordSplit();
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            final int middle = this.integers.length / 2;
+            final SumTask left = this.createSubtask(0, middle);
+            final SumTask right = this.createSubtask(middle, this.integers.length);
+
+            ForkJoinTask.invokeAll(left, right);
+
+            result = left.join() + right.join();
         } else {
+            final long startNanos = METRICS.startLeaf();
+
             result = this.processWorkload();
+
+            METRICS.recordLeaf(startNanos);
         }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(result));
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
         }
 
         return result;
     }
 
     /**
-     * Return a list of subtasks.
+     * Return a subtask that sums a copy
+     * of a range of the integers. The
+     * copy is the point of this task;
+     * see RangeSumTask for one that
+     * shares the array.
      *
-     * @return  java.util.List&lt;net.jmp.demo.forkjoinpool.tasks.SumTask&gt;
+     * @param   from    int
+     * @param   to      int
+     * @return          net.jmp.demo.forkjoinpool.tasks.SumTask
      */
-    private List<SumTask> createSubtasks() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
-        }
-
-        if (this.logger.isDebugEnabled()) {
-            this.logger.debug("Creating subtasks: {}", Thread.currentThread().getName());
-        }
-
-        final List<SumTask> subtasks = new ArrayList<>();
-
-        final SumTask left = new SumTask(Arrays.copyOfRange(this.integers, 0, this.integers.length / 2));
-        final SumTask right = new SumTask(Arrays.copyOfRange(this.integers, this.integers.length / 2, this.integers.length));
-
-        subtasks.add(left);
-        subtasks.add(right);
-
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(subtasks));
-        }
-
-        return subtasks;
+    private SumTask createSubtask(final int from, final int to) {
+        return new SumTask(Arrays.copyOfRange(this.integers, from, to), this.granularity);
     }
 
     /**
@@ -133,18 +156,18 @@ public final class SumTask extends RecursiveTask<Integer> {
      * @return  java.lang.Integer
      */
     private Integer processWorkload() {
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
         }
 
         final int result = Arrays.stream(this.integers).sum();
 
-        if (this.logger.isDebugEnabled()) {
-            this.logger.debug("Done - {}: {}", result, Thread.currentThread().getName());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Done - {}: {}", result, Thread.currentThread().getName());
         }
 
-        if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(result));
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
         }
 
         return result;
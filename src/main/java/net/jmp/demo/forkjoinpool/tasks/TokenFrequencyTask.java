@@ -0,0 +1,386 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TokenFrequencyTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.RecursiveTask;
+
+import net.jmp.demo.forkjoinpool.metrics.TaskMetrics;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task class that counts the words, or the character
+ * n-grams within words, of an array of characters. A
+ * word is a run of letters and digits and is counted
+ * without regard to case. Like the letter distribution
+ * task each leaf counts into its own histogram and the
+ * histograms are merged as subtasks are joined, so no
+ * locks or shared maps are needed; ranges are only
+ * split between words so no token is cut in two.
+ */
+public final class TokenFrequencyTask extends RecursiveTask<TokenHistogram> {
+    /** The default workload threshold. */
+    public static final int DEFAULT_WORKLOAD_THRESHOLD = 1 << 16;
+
+    /** The multiplier of the polynomial token hash. */
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /** The split and leaf metrics of this task type. */
+    private static final TaskMetrics METRICS = TaskMetrics.of(TokenFrequencyTask.class);
+
+    /** The logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenFrequencyTask.class.getName());
+
+    /** The array of characters to process. */
+    private final char[] characters;
+
+    /** The starting point in the array. */
+    private final int start;
+
+    /** The ending point in the array. */
+    private final int end;
+
+    /** The n-gram length or zero to count words. */
+    private final int gramLength;
+
+    /** The granularity policy. */
+    private final GranularityPolicy granularity;
+
+    /**
+     * The constructor.
+     *
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   gramLength  int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     */
+    private TokenFrequencyTask(final char[] characters,
+                               final int start,
+                               final int end,
+                               final int gramLength,
+                               final GranularityPolicy granularity) {
+        super();
+
+        this.characters = characters;
+        this.start = start;
+        this.end = end;
+        this.gramLength = gramLength;
+        this.granularity = granularity;
+    }
+
+    /**
+     * Return a task that counts the words of
+     * an entire array using the default
+     * workload threshold.
+     *
+     * @param   characters  char[]
+     * @return              net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask
+     */
+    public static TokenFrequencyTask words(final char[] characters) {
+        return words(characters, 0, Objects.requireNonNull(characters).length, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * Return a task that counts the
+     * words of a range of an array.
+     *
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask
+     */
+    public static TokenFrequencyTask words(final char[] characters,
+                                           final int start,
+                                           final int end,
+                                           final GranularityPolicy granularity) {
+        Objects.checkFromToIndex(start, end, Objects.requireNonNull(characters).length);
+
+        return new TokenFrequencyTask(characters, start, end, 0, Objects.requireNonNull(granularity));
+    }
+
+    /**
+     * Return a task that counts the n-grams of
+     * the words of an entire array using the
+     * default workload threshold.
+     *
+     * @param   characters  char[]
+     * @param   gramLength  int
+     * @return              net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask
+     */
+    public static TokenFrequencyTask ngrams(final char[] characters, final int gramLength) {
+        return ngrams(characters, 0, Objects.requireNonNull(characters).length, gramLength, GranularityPolicy.fixed(DEFAULT_WORKLOAD_THRESHOLD));
+    }
+
+    /**
+     * Return a task that counts the n-grams of
+     * the words of a range of an array. Words
+     * shorter than the n-gram length have none.
+     *
+     * @param   characters  char[]
+     * @param   start       int
+     * @param   end         int
+     * @param   gramLength  int
+     * @param   granularity net.jmp.demo.forkjoinpool.policies.GranularityPolicy
+     * @return              net.jmp.demo.forkjoinpool.tasks.TokenFrequencyTask
+     */
+    public static TokenFrequencyTask ngrams(final char[] characters,
+                                            final int start,
+                                            final int end,
+                                            final int gramLength,
+                                            final GranularityPolicy granularity) {
+        Objects.checkFromToIndex(start, end, Objects.requireNonNull(characters).length);
+
+        if (gramLength < 1) {
+            throw new IllegalArgumentException("The n-gram length must be positive: " + gramLength);
+        }
+
+        return new TokenFrequencyTask(characters, start, end, gramLength, Objects.requireNonNull(granularity));
+    }
+
+    /**
+     * The main computation performed by this task.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     */
+    @Override
+    protected TokenHistogram compute() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(entry());
+        }
+
+        this.granularity.checkCancelled();
+
+        TokenHistogram result;
+
+        final int middle = this.end - this.start > 1 && this.granularity.shouldSplit(this.end - this.start)
+                ? this.tokenBoundary((this.start + this.end) >>> 1)
+                : this.end;
+
+        if (middle < this.end) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Creating subtasks: {}", Thread.currentThread().getName());
+            }
+
+            METRICS.recordSplit();
+
+            final TokenFrequencyTask right = new TokenFrequencyTask(this.characters, middle, this.end, this.gramLength, this.granularity);
+
+            right.fork();
+
+            result = new TokenFrequencyTask(this.characters, this.start, middle, this.gramLength, this.granularity)
+                    .compute()
+                    .merge(right.join());
+        } else {
+            final long startNanos = METRICS.startLeaf();
+
+            result = this.gramLength == 0 ? this.countWords() : this.countGrams();
+
+            METRICS.recordLeaf(startNanos);
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the first index at or after the
+     * given one that does not fall inside a
+     * word, or the end of the range.
+     *
+     * @param   index   int
+     * @return          int
+     */
+    private int tokenBoundary(final int index) {
+        int boundary = index;
+
+        while (boundary < this.end
+                && isTokenCharacter(this.characters[boundary - 1])
+                && isTokenCharacter(this.characters[boundary])) {
+            boundary++;
+        }
+
+        return boundary;
+    }
+
+    /**
+     * Count the words in this task's range.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     */
+    private TokenHistogram countWords() {
+        final TokenHistogram histogram = new TokenHistogram(this.characters);
+
+        int i = this.start;
+
+        while (i < this.end) {
+            while (i < this.end && !isTokenCharacter(this.characters[i])) {
+                i++;
+            }
+
+            final int tokenStart = i;
+
+            long hash = 0;
+
+            while (i < this.end && isTokenCharacter(this.characters[i])) {
+                hash = hash * MULTIPLIER + lower(this.characters[i++]);
+            }
+
+            if (i > tokenStart) {
+                histogram.add(mix(hash), tokenStart, i - tokenStart, 1);
+            }
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Count the n-grams of the words in this
+     * task's range with a rolling hash.
+     *
+     * @return  net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     */
+    private TokenHistogram countGrams() {
+        final TokenHistogram histogram = new TokenHistogram(this.characters);
+
+        long outgoingWeight = 1;
+
+        for (int i = 0; i < this.gramLength; i++) {
+            outgoingWeight *= MULTIPLIER;
+        }
+
+        long hash = 0;
+        int run = 0;
+
+        for (int i = this.start; i < this.end; i++) {
+            final char character = this.characters[i];
+
+            if (!isTokenCharacter(character)) {
+                hash = 0;
+                run = 0;
+
+                continue;
+            }
+
+            hash = hash * MULTIPLIER + lower(character);
+
+            if (++run > this.gramLength) {
+                hash -= outgoingWeight * lower(this.characters[i - this.gramLength]);
+            }
+
+            if (run >= this.gramLength) {
+                histogram.add(mix(hash), i - this.gramLength + 1, this.gramLength, 1);
+            }
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Return the table key of a token, which
+     * is matched without regard to case.
+     *
+     * @param   token   java.lang.String
+     * @return          long
+     */
+    static long key(final String token) {
+        long hash = 0;
+
+        for (int i = 0; i < token.length(); i++) {
+            hash = hash * MULTIPLIER + lower(token.charAt(i));
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * Return true if a character is part of
+     * a word, i.e. a letter or a digit.
+     *
+     * @param   character   char
+     * @return              boolean
+     */
+    static boolean isTokenCharacter(final char character) {
+        if (character < 128) {
+            final char lower = (char) (character | 0x20);
+
+            return (lower >= 'a' && lower <= 'z') || (character >= '0' && character <= '9');
+        }
+
+        return Character.isLetterOrDigit(character);
+    }
+
+    /**
+     * Return a character in lower case.
+     *
+     * @param   character   char
+     * @return              char
+     */
+    static char lower(final char character) {
+        if (character < 128) {
+            return character >= 'A' && character <= 'Z' ? (char) (character | 0x20) : character;
+        }
+
+        return Character.toLowerCase(character);
+    }
+
+    /**
+     * Spread the bits of a token hash so that its
+     * low bits index the table well. The mix is a
+     * bijection, so it adds no collisions; zero is
+     * moved because it marks an empty slot.
+     *
+     * @param   hash    long
+     * @return          long
+     */
+    private static long mix(final long hash) {
+        long h = hash;
+
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+
+        return h != 0 ? h : 1;
+    }
+}
@@ -0,0 +1,283 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TokenHistogram.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A histogram of word or n-gram counts over one
+ * array of characters. Tokens are keyed by their
+ * 64-bit hash in an open addressing table of
+ * primitive arrays, which also remembers where
+ * each token first occurred so that no strings
+ * are built until the counts are read. Two tokens
+ * whose hashes collide would be counted together;
+ * with 64 bits that is negligible below billions
+ * of distinct tokens. A histogram is owned by a
+ * single task so it is not thread safe and needs
+ * no locking.
+ */
+public final class TokenHistogram {
+    /** The initial capacity of the table. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** The characters the tokens occur in. */
+    private final char[] source;
+
+    /** The token hashes; zero marks an empty slot. */
+    private long[] keys;
+
+    /** The counts. */
+    private long[] counts;
+
+    /** The start of the first occurrence of each token. */
+    private int[] starts;
+
+    /** The length of each token. */
+    private int[] lengths;
+
+    /** The number of distinct tokens. */
+    private int size;
+
+    /** The number of tokens counted. */
+    private long total;
+
+    /**
+     * The constructor.
+     *
+     * @param   source  char[]
+     */
+    TokenHistogram(final char[] source) {
+        super();
+
+        this.source = Objects.requireNonNull(source);
+        this.keys = new long[INITIAL_CAPACITY];
+        this.counts = new long[INITIAL_CAPACITY];
+        this.starts = new int[INITIAL_CAPACITY];
+        this.lengths = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Count occurrences of a token.
+     *
+     * @param   key     long
+     * @param   start   int
+     * @param   length  int
+     * @param   count   long
+     */
+    void add(final long key, final int start, final int length, final long count) {
+        final int mask = this.keys.length - 1;
+
+        int i = (int) key & mask;
+
+        while (this.keys[i] != 0) {
+            if (this.keys[i] == key) {
+                this.counts[i] += count;
+                this.total += count;
+
+                return;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        this.keys[i] = key;
+        this.counts[i] = count;
+        this.starts[i] = start;
+        this.lengths[i] = length;
+        this.total += count;
+
+        if (++this.size * 2 > this.keys.length) {
+            this.resize();
+        }
+    }
+
+    /**
+     * Merge two histograms by adding the smaller
+     * into the larger and return the larger.
+     * Either histogram may be the one returned.
+     *
+     * @param   other   net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     * @return          net.jmp.demo.forkjoinpool.tasks.TokenHistogram
+     */
+    public TokenHistogram merge(final TokenHistogram other) {
+        if (this.source != other.source) {
+            throw new IllegalArgumentException("Histograms over different characters cannot be merged");
+        }
+
+        final TokenHistogram larger = this.size >= other.size ? this : other;
+        final TokenHistogram smaller = larger == this ? other : this;
+
+        for (int i = 0; i < smaller.keys.length; i++) {
+            if (smaller.keys[i] != 0) {
+                larger.add(smaller.keys[i], smaller.starts[i], smaller.lengths[i], smaller.counts[i]);
+            }
+        }
+
+        return larger;
+    }
+
+    /**
+     * Return the count of a token, which
+     * is matched without regard to case.
+     *
+     * @param   token   java.lang.String
+     * @return          long
+     */
+    public long count(final String token) {
+        final long key = TokenFrequencyTask.key(Objects.requireNonNull(token));
+        final int mask = this.keys.length - 1;
+
+        for (int i = (int) key & mask; this.keys[i] != 0; i = (i + 1) & mask) {
+            if (this.keys[i] == key) {
+                return this.counts[i];
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Return the number of distinct tokens.
+     *
+     * @return  int
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Return the number of tokens counted.
+     *
+     * @return  long
+     */
+    public long getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Return the lower-cased tokens
+     * with their counts.
+     *
+     * @return  java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     */
+    public Map<String, Long> toMap() {
+        final Map<String, Long> map = new HashMap<>();
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != 0) {
+                map.put(this.token(i), this.counts[i]);
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Return the most frequent tokens, most frequent
+     * first and ties in alphabetical order.
+     *
+     * @param   limit   int
+     * @return          java.util.List&lt;java.util.Map.Entry&lt;java.lang.String, java.lang.Long&gt;&gt;
+     */
+    public List<Map.Entry<String, Long>> top(final int limit) {
+        final List<Map.Entry<String, Long>> entries = new ArrayList<>(this.toMap().entrySet());
+
+        entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        return List.copyOf(entries.subList(0, Math.min(limit, entries.size())));
+    }
+
+    /**
+     * Return the string representation.
+     *
+     * @return  java.lang.String
+     */
+    @Override
+    public String toString() {
+        return this.top(10).toString();
+    }
+
+    /**
+     * Return the lower-cased token in a slot.
+     *
+     * @param   slot    int
+     * @return          java.lang.String
+     */
+    private String token(final int slot) {
+        final char[] token = new char[this.lengths[slot]];
+
+        for (int i = 0; i < token.length; i++) {
+            token[i] = TokenFrequencyTask.lower(this.source[this.starts[slot] + i]);
+        }
+
+        return new String(token);
+    }
+
+    /**
+     * Double the capacity of the table.
+     */
+    private void resize() {
+        final long[] oldKeys = this.keys;
+        final long[] oldCounts = this.counts;
+        final int[] oldStarts = this.starts;
+        final int[] oldLengths = this.lengths;
+        final int capacity = oldKeys.length * 2;
+
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.starts = new int[capacity];
+        this.lengths = new int[capacity];
+
+        final int mask = capacity - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != 0) {
+                int i = (int) oldKeys[j] & mask;
+
+                while (this.keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+
+                this.keys[i] = oldKeys[j];
+                this.counts[i] = oldCounts[j];
+                this.starts[i] = oldStarts[j];
+                this.lengths[i] = oldLengths[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package net.jmp.demo.forkjoinpool;
+
+/*
+ * (#)TestPerformanceBudgets.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.metrics.AllocationMeter;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.pools.PoolConfiguration;
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+/*
+ * Runs every workload of the workload runner on a large
+ * input and fails when the bytes allocated per element,
+ * summed across the caller and the pool workers, or the
+ * throughput miss the budgets in performance-budgets.properties.
+ * Any budget can be overridden with a system property of
+ * the same name prefixed by net.jmp.demo.forkjoinpool.performance.
+ * Run with - gradle performanceTest
+ */
+public final class TestPerformanceBudgets {
+    private static final String BUDGETS = "/performance-budgets.properties";
+
+    private static final String PROPERTY_PREFIX = "net.jmp.demo.forkjoinpool.performance.";
+
+    @Test
+    public void testEveryWorkloadIsWithinBudget() throws IOException {
+        assumeTrue(AllocationMeter.isSupported());
+
+        final Properties budgets = new Properties();
+
+        try (final InputStream in = TestPerformanceBudgets.class.getResourceAsStream(BUDGETS)) {
+            assertNotNull(BUDGETS, in);
+
+            budgets.load(in);
+        }
+
+        final int parallelism = (int) budget(budgets, "parallelism");
+        final int warmups = (int) budget(budgets, "warmups");
+        final int iterations = (int) budget(budgets, "iterations");
+        final String granularity = text(budgets, "granularity");
+        final AllocationMeter meter = new AllocationMeter();
+        final List<String> failures = new ArrayList<>();
+
+        try (final PoolProvider poolProvider = new PoolProvider()) {
+            final ForkJoinPool pool = poolProvider
+                    .configure("performance", PoolConfiguration.builder()
+                            .parallelism(parallelism)
+                            .threadFactory(meter)
+                            .keepAliveSeconds(600)
+                            .build())
+                    .getPool("performance");
+
+            for (final WorkloadRunner.Workload workload : WorkloadRunner.Workload.values()) {
+                final String name = workload.name().toLowerCase(Locale.ROOT);
+                final int size = (int) budget(budgets, name + ".size");
+                final WorkloadRunner.Trial trial = workload.prepare(size, pool, GranularityPolicy.parse(granularity, size, parallelism));
+
+                for (int i = 0; i < warmups; i++) {
+                    trial.reset();
+                    trial.run();
+                }
+
+                long allocatedBytes = Long.MAX_VALUE;
+                long elapsedNanos = Long.MAX_VALUE;
+
+                for (int i = 0; i < iterations; i++) {
+                    trial.reset();
+
+                    final AllocationMeter.Sample sample = meter.measure(trial::run);
+
+                    allocatedBytes = Math.min(allocatedBytes, sample.getAllocatedBytes());
+                    elapsedNanos = Math.min(elapsedNanos, sample.getElapsedNanos());
+                }
+
+                final double bytesPerElement = (double) allocatedBytes / size;
+                final double elementsPerSecond = size * 1e9 / Math.max(1, elapsedNanos);
+                final double maximumBytes = budget(budgets, name + ".bytesPerElement");
+                final double minimumThroughput = budget(budgets, name + ".elementsPerSecond");
+
+                System.out.printf(Locale.ROOT, "%s: %.4f bytes/element (budget %.4f), %.0f elements/s (budget %.0f)%n",
+                        name, bytesPerElement, maximumBytes, elementsPerSecond, minimumThroughput);
+
+                if (bytesPerElement > maximumBytes) {
+                    failures.add(String.format(Locale.ROOT, "%s allocates %.4f bytes/element, budget %.4f", name, bytesPerElement, maximumBytes));
+                }
+
+                if (elementsPerSecond < minimumThroughput) {
+                    failures.add(String.format(Locale.ROOT, "%s runs at %.0f elements/s, budget %.0f", name, elementsPerSecond, minimumThroughput));
+                }
+            }
+        }
+
+        assertTrue(String.join("; ", failures), failures.isEmpty());
+    }
+
+    private static double budget(final Properties budgets, final String key) {
+        return Double.parseDouble(text(budgets, key));
+    }
+
+    private static String text(final Properties budgets, final String key) {
+        final String value = System.getProperty(PROPERTY_PREFIX + key, budgets.getProperty(key));
+
+        assertNotNull("No budget for " + key, value);
+
+        return value.trim();
+    }
+}
@@ -0,0 +1,118 @@
+package net.jmp.demo.forkjoinpool;
+
+/*
+ * (#)TestWorkloadRunner.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import java.nio.charset.StandardCharsets;
+
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestWorkloadRunner {
+    @Test
+    public void testParseBothForms() {
+        final RunnerOptions options = RunnerOptions.parse(new String[] {
+                "--workload", "sum", "--size=1_000", "--parallelism", "2", "--granularity=fixed:100", "--warmups=0"
+        });
+
+        assertEquals("sum", options.getWorkload());
+        assertEquals(1_000, options.getSize());
+        assertEquals(2, options.getParallelism());
+        assertEquals("fixed:100", options.getGranularity());
+        assertEquals(0, options.getWarmups());
+        assertEquals(RunnerOptions.DEFAULT_ITERATIONS, options.getIterations());
+    }
+
+    @Test
+    public void testDefaultSizes() {
+        assertEquals(RunnerOptions.DEFAULT_SIZE, RunnerOptions.parse(new String[] {"--workload", "sum"}).getSize());
+        assertEquals(20_000, RunnerOptions.parse(new String[] {"--workload", "factorial"}).getSize());
+        assertEquals(5, RunnerOptions.parse(new String[] {"--workload", "factorial", "--size", "5"}).getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownWorkload() {
+        RunnerOptions.parse(new String[] {"--workload", "bogus"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownOption() {
+        RunnerOptions.parse(new String[] {"--workload", "sum", "--sise", "10"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGranularity() {
+        RunnerOptions.parse(new String[] {"--workload", "sum", "--granularity", "fixed"});
+    }
+
+    @Test
+    public void testInvalidCommandLineExitStatus() {
+        final PrintStream err = System.err;
+        final Main main = new Main(new String[] {"--workload", "bogus"});
+
+        System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+
+        try {
+            main.run();
+        } finally {
+            System.setErr(err);
+        }
+
+        assertEquals(Main.USAGE_EXIT_STATUS, main.getExitStatus());
+    }
+
+    @Test
+    public void testEveryWorkloadRuns() {
+        for (final String workload : new String[] {"sum", "reduce", "scan", "sort", "radix", "letters", "words", "sqrt", "histogram", "capitalize", "factorial"}) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final RunnerOptions options = RunnerOptions.parse(new String[] {
+                    "--workload", workload, "--size", "2000", "--parallelism", "2", "--warmups", "1", "--iterations", "3"
+            });
+
+            try (final PoolProvider poolProvider = new PoolProvider();
+                 final PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8)) {
+                final String summary = new WorkloadRunner(options, poolProvider).run(out);
+
+                assertTrue(summary.startsWith(workload + ",2000,2,proportional:4,1,3,"));
+            }
+
+            final String output = bytes.toString(StandardCharsets.UTF_8);
+
+            assertTrue(output.contains("run 3: "));
+            assertTrue(output.contains(WorkloadRunner.CSV_HEADER));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestCapitalizerAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestCapitalizerAction {
+    @Test
+    public void testCapitalizesOnlyTheRange() {
+        final char[] characters = "abcdefgh".toCharArray();
+
+        ForkJoinPool.commonPool().invoke(new CapitalizerAction(characters, 2, 5, 1));
+
+        assertEquals("abCDEfgh", new String(characters));
+    }
+
+    @Test
+    public void testCapitalizesOnlyTheRangeOfCodePoints() {
+        final String text = "Lorem ipsum, ä ö ü. ".repeat(100);
+        final char[] characters = text.toCharArray();
+
+        ForkJoinPool.commonPool().invoke(new CapitalizerAction(characters, 6, characters.length - 6, 1));
+
+        final String result = new String(characters);
+
+        assertEquals(text.substring(0, 6), result.substring(0, 6));
+        assertEquals(text.substring(text.length() - 6), result.substring(result.length() - 6));
+        assertEquals("IPSUM, Ä Ö Ü", result.substring(6, 18));
+        assertFalse(result.substring(6, result.length() - 6).chars().anyMatch(Character::isLowerCase));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroThreshold() {
+        new CapitalizerAction(new char[8], 0, 8, 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEndBeforeStart() {
+        new CapitalizerAction(new char[8], 5, 2, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEndPastTheArray() {
+        new CapitalizerAction(new char[8], 0, 9, 1);
+    }
+}
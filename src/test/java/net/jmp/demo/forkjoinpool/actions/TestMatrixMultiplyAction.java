@@ -0,0 +1,106 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestMatrixMultiplyAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Random;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestMatrixMultiplyAction {
+    @Test
+    public void testScalarMatchesNaive() {
+        this.assertMatchesNaive(MatrixKernel.scalar(), 130, 201, 77);
+        this.assertMatchesNaive(MatrixKernel.scalar(), 67, 5, 300);
+    }
+
+    @Test
+    public void testVectorMatchesNaive() {
+        if (SquareRootKernel.isVectorAvailable()) {
+            this.assertMatchesNaive(MatrixKernel.vector(), 130, 201, 77);
+            this.assertMatchesNaive(MatrixKernel.vector(), 67, 5, 300);
+        }
+    }
+
+    @Test
+    public void testProductIsAddedToC() {
+        final double[] a = {1, 2, 3, 4};
+        final double[] b = {5, 6, 7, 8};
+        final double[] c = {1, 1, 1, 1};
+
+        ForkJoinPool.commonPool().invoke(new MatrixMultiplyAction(a, b, c, 2, 2, 2));
+
+        assertArrayEquals(new double[] {20, 23, 44, 51}, c, 0.0);
+    }
+
+    @Test
+    public void testEmptyDimension() {
+        final double[] c = {3, 3};
+
+        ForkJoinPool.commonPool().invoke(new MatrixMultiplyAction(new double[0], new double[0], c, 1, 2, 0));
+
+        assertArrayEquals(new double[] {3, 3}, c, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShortMatrix() {
+        new MatrixMultiplyAction(new double[6], new double[6], new double[3], 2, 2, 3);
+    }
+
+    private void assertMatchesNaive(final MatrixKernel kernel, final int m, final int n, final int k) {
+        final Random random = new Random(17);
+        final double[] a = random.doubles((long) m * k, -1, 1).toArray();
+        final double[] b = random.doubles((long) k * n, -1, 1).toArray();
+        final double[] expected = new double[m * n];
+        final double[] actual = new double[m * n];
+
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0;
+
+                for (int p = 0; p < k; p++) {
+                    sum += a[i * k + p] * b[p * n + j];
+                }
+
+                expected[i * n + j] = sum;
+            }
+        }
+
+        ForkJoinPool.commonPool().invoke(new MatrixMultiplyAction(a, b, actual, m, n, k, GranularityPolicy.fixed(4_096), kernel));
+
+        assertArrayEquals(kernel.toString(), expected, actual, 1e-12 * k);
+    }
+}
@@ -0,0 +1,124 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestMergeSortAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestMergeSortAction {
+    @Test
+    public void testInts() {
+        final int[] actual = new Random(17).ints(100_003).toArray();
+        final int[] expected = actual.clone();
+
+        Arrays.sort(expected);
+
+        ForkJoinPool.commonPool().invoke(new MergeSortAction(actual, 0, actual.length, null, GranularityPolicy.fixed(64)));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testLongsWithReusedBuffer() {
+        final Random random = new Random(17);
+        final long[] buffer = new long[50_000];
+
+        for (int run = 0; run < 3; run++) {
+            final long[] actual = random.longs(buffer.length, -1_000, 1_000).toArray();
+            final long[] expected = actual.clone();
+
+            Arrays.sort(expected);
+
+            ForkJoinPool.commonPool().invoke(new MergeSortAction(actual, 0, actual.length, buffer, GranularityPolicy.fixed(100)));
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testDoublesOrderLikeDoubleCompare() {
+        final double[] actual = new Random(17).doubles(20_000, -1, 1).toArray();
+
+        actual[0] = Double.NaN;
+        actual[1] = -0.0;
+        actual[2] = 0.0;
+        actual[3] = Double.NEGATIVE_INFINITY;
+        actual[10_001] = -0.0;
+
+        final double[] expected = actual.clone();
+
+        Arrays.sort(expected);
+
+        ForkJoinPool.commonPool().invoke(new MergeSortAction(actual, 0, actual.length, null, GranularityPolicy.fixed(32)));
+
+        assertArrayEquals(expected, actual, 0.0);
+        assertEquals(Double.doubleToRawLongBits(expected[10_000]), Double.doubleToRawLongBits(actual[10_000]));
+    }
+
+    @Test
+    public void testFinestGranularity() {
+        final Random random = new Random(17);
+
+        assertArrayEquals(new int[] {1, 2, 3, 4}, sorted(new int[] {1, 3, 2, 4}));
+
+        for (int length = 2; length < 200; length++) {
+            final int[] actual = random.ints(length, -10, 10).toArray();
+            final int[] expected = actual.clone();
+
+            Arrays.sort(expected);
+
+            assertArrayEquals(expected, sorted(actual));
+        }
+    }
+
+    @Test
+    public void testOnlyTheRangeIsSorted() {
+        final int[] data = {9, 8, 7, 6, 5, 4, 3, 2};
+
+        ForkJoinPool.commonPool().invoke(new MergeSortAction(data, 2, 6, null, GranularityPolicy.fixed(1)));
+
+        assertArrayEquals(new int[] {9, 8, 4, 5, 6, 7, 3, 2}, data);
+    }
+
+    private static int[] sorted(final int[] data) {
+        ForkJoinPool.commonPool().invoke(new MergeSortAction(data, 0, data.length, null, GranularityPolicy.fixed(1)));
+
+        return data;
+    }
+}
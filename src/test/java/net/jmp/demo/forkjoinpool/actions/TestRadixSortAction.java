@@ -0,0 +1,103 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestRadixSortAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestRadixSortAction {
+    @Test
+    public void testInts() {
+        final int[] actual = new Random(17).ints(100_003).toArray();
+
+        actual[0] = Integer.MIN_VALUE;
+        actual[1] = Integer.MAX_VALUE;
+        actual[2] = -1;
+        actual[3] = 0;
+
+        final int[] expected = actual.clone();
+
+        Arrays.sort(expected);
+
+        ForkJoinPool.commonPool().invoke(new RadixSortAction(actual, 0, actual.length, null, GranularityPolicy.fixed(64)));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testLongsWithReusedBuffer() {
+        final Random random = new Random(17);
+        final long[] buffer = new long[60_000];
+
+        for (int run = 0; run < 3; run++) {
+            final long[] actual = random.longs(buffer.length).toArray();
+            final long[] expected = actual.clone();
+
+            Arrays.sort(expected);
+
+            ForkJoinPool.commonPool().invoke(new RadixSortAction(actual, 0, actual.length, buffer, GranularityPolicy.fixed(100)));
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testDuplicatesExhaustEveryDigit() {
+        final int[] actual = new int[10_000];
+
+        Arrays.fill(actual, 5_000, actual.length, -7);
+
+        final int[] expected = actual.clone();
+
+        Arrays.sort(expected);
+
+        ForkJoinPool.commonPool().invoke(new RadixSortAction(actual, 0, actual.length, null, GranularityPolicy.fixed(2)));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testOnlyTheRangeIsSorted() {
+        final long[] data = {9, 8, 7, -6, 5, 4, 3, 2};
+
+        ForkJoinPool.commonPool().invoke(new RadixSortAction(data, 2, 6, null, GranularityPolicy.fixed(1)));
+
+        assertArrayEquals(new long[] {9, 8, -6, 4, 5, 7, 3, 2}, data);
+    }
+}
@@ -0,0 +1,94 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestSegmentSquareRootAction.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestSegmentSquareRootAction {
+    @Test
+    public void testNativeSegment() {
+        try (final Arena arena = Arena.ofShared()) {
+            final MemorySegment segment = arena.allocate(MemoryLayout.sequenceLayout(10_007, ValueLayout.JAVA_DOUBLE));
+
+            for (long i = 0; i < 10_007; i++) {
+                segment.setAtIndex(ValueLayout.JAVA_DOUBLE, i, (double) i * i);
+            }
+
+            ForkJoinPool.commonPool().invoke(new SegmentSquareRootAction(segment, GranularityPolicy.fixed(100)));
+
+            for (long i = 0; i < 10_007; i++) {
+                assertEquals(i, segment.getAtIndex(ValueLayout.JAVA_DOUBLE, i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testByteArraySegment() {
+        final MemorySegment segment = MemorySegment.ofArray(new byte[8_003]).asSlice(3);
+
+        for (long i = 0; i < 1_000; i++) {
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, i, (double) i * i);
+        }
+
+        ForkJoinPool.commonPool().invoke(new SegmentSquareRootAction(segment, GranularityPolicy.fixed(10)));
+
+        for (long i = 0; i < 1_000; i++) {
+            assertEquals(i, segment.getAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, i), 0.0);
+        }
+    }
+
+    @Test
+    public void testMatchesArrayAction() {
+        final double[] expected = new double[5_000];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 0.5;
+        }
+
+        final double[] actual = expected.clone();
+
+        ForkJoinPool.commonPool().invoke(new SquareRootAction(expected, 0, expected.length));
+        ForkJoinPool.commonPool().invoke(new SegmentSquareRootAction(MemorySegment.ofArray(actual)));
+
+        assertArrayEquals(expected, actual, 0.0);
+    }
+}
@@ -0,0 +1,70 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestSquareRootCompleter.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestSquareRootCompleter {
+    @Test
+    public void testMatchesAction() {
+        final double[] expected = new double[100_003];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 1.5;
+        }
+
+        final double[] actual = expected.clone();
+
+        ForkJoinPool.commonPool().invoke(new SquareRootAction(expected, 0, expected.length));
+        ForkJoinPool.commonPool().invoke(new SquareRootCompleter(actual,
+                0,
+                actual.length,
+                GranularityPolicy.fixed(16),
+                SquareRootKernel.scalar()));
+
+        assertArrayEquals(expected, actual, 0.0);
+    }
+
+    @Test
+    public void testOnlyTheRangeIsTransformed() {
+        final double[] data = {4, 9, 16, 25};
+
+        ForkJoinPool.commonPool().invoke(new SquareRootCompleter(data, 1, 3));
+
+        assertArrayEquals(new double[] {4, 3, 4, 25}, data, 0.0);
+    }
+}
@@ -0,0 +1,85 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestSquareRootKernel.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+public final class TestSquareRootKernel {
+    @Test
+    public void testVectorMatchesScalar() {
+        assumeTrue(SquareRootKernel.isVectorAvailable());
+
+        final double[] scalar = new double[10_007];
+        final double[] vector = new double[scalar.length];
+
+        for (int i = 0; i < scalar.length; i++) {
+            scalar[i] = i * 1.5;
+            vector[i] = i * 1.5;
+        }
+
+        SquareRootKernel.scalar().apply(scalar, 3, scalar.length - 5);
+        SquareRootKernel.vector().apply(vector, 3, vector.length - 5);
+
+        assertArrayEquals(scalar, vector, 0.0);
+        assertEquals(1.5, vector[1], 0.0);
+        assertEquals((vector.length - 1) * 1.5, vector[vector.length - 1], 0.0);
+    }
+
+    @Test
+    public void testActionWithEachKernel() {
+        for (final String name : new String[] {"scalar", "auto"}) {
+            final double[] data = new double[5_000];
+
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (double) i * i;
+            }
+
+            ForkJoinPool.commonPool().invoke(new SquareRootAction(data, 0, data.length,
+                    GranularityPolicy.fixed(100), SquareRootKernel.forName(name)));
+
+            for (int i = 0; i < data.length; i++) {
+                assertEquals(i, data[i], 1e-9);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownKernel() {
+        SquareRootKernel.forName("gpu");
+    }
+}
@@ -0,0 +1,105 @@
+package net.jmp.demo.forkjoinpool.actions;
+
+/*
+ * (#)TestUpperCase.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Locale;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestUpperCase {
+    /** Deseret small letter long I, a supplementary lower case letter. */
+    private static final String DESERET_SMALL = new String(Character.toChars(0x10428));
+
+    /** Deseret capital letter long I. */
+    private static final String DESERET_CAPITAL = new String(Character.toChars(0x10400));
+
+    @Test
+    public void testAsciiMatchesCharacter() {
+        final char[] characters = new char[128];
+
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = (char) i;
+        }
+
+        assertTrue(UpperCase.isAscii(characters, 0, characters.length));
+
+        UpperCase.applyAscii(characters, 0, characters.length);
+
+        for (int i = 0; i < characters.length; i++) {
+            assertEquals(Character.toUpperCase((char) i), characters[i]);
+        }
+    }
+
+    @Test
+    public void testCodePointsMapSurrogatePairs() {
+        final char[] characters = ("é" + DESERET_SMALL + "x").toCharArray();
+
+        assertFalse(UpperCase.isAscii(characters, 0, characters.length));
+
+        UpperCase.apply(characters, 0, characters.length);
+
+        assertEquals("É" + DESERET_CAPITAL + "X", new String(characters));
+    }
+
+    @Test
+    public void testSplitPointSkipsLowSurrogate() {
+        final char[] characters = ("ab" + DESERET_SMALL + "cd").toCharArray();
+
+        assertEquals(4, UpperCase.splitPoint(characters, 0, 6));
+        assertEquals(1, UpperCase.splitPoint(characters, 0, 3));
+        assertEquals(4, UpperCase.splitPoint(characters, 2, 4));
+    }
+
+    @Test
+    public void testActionAndCompleterKeepPairsWhole() {
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 5_000; i++) {
+            text.append(i % 7 == 0 ? DESERET_SMALL : "log line ").append(i % 11 == 0 ? "ü" : "");
+        }
+
+        final String expected = text.toString().toUpperCase(Locale.ROOT);
+        final char[] action = text.toString().toCharArray();
+        final char[] completer = action.clone();
+
+        ForkJoinPool.commonPool().invoke(new CapitalizerAction(action, 0, action.length, 3));
+        ForkJoinPool.commonPool().invoke(new CapitalizerCompleter(completer, 0, completer.length, GranularityPolicy.fixed(3)));
+
+        assertEquals(expected, new String(action));
+        assertEquals(expected, new String(completer));
+    }
+}
@@ -0,0 +1,141 @@
+package net.jmp.demo.forkjoinpool.backends;
+
+/*
+ * (#)TestExecutionBackend.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.stream.IntStream;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import net.jmp.demo.forkjoinpool.tasks.IndexRange;
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestExecutionBackend {
+    private static final String ALL = "forkjoin,virtual,structured";
+
+    @Test
+    public void testSameResultOnEachBackend() {
+        for (final ExecutionBackend backend : ExecutionBackend.forNames(ALL, ForkJoinPool.commonPool())) {
+            try (backend) {
+                final long sum = backend.reduce(new IndexRange(1, 100_001),
+                        ParallelReduce.Splitter.indexRange(),
+                        range -> sum(range.getStart(), range.getEnd()),
+                        Long::sum,
+                        GranularityPolicy.fixed(1_000));
+
+                assertEquals(backend.getName(), 5_000_050_000L, sum);
+            }
+        }
+    }
+
+    @Test
+    public void testOrderIsKept() {
+        final List<Integer> integers = IntStream.range(0, 5_000).boxed().toList();
+
+        for (final ExecutionBackend backend : ExecutionBackend.forNames(ALL, ForkJoinPool.commonPool())) {
+            try (backend) {
+                final List<Integer> result = backend.reduce(integers.spliterator(),
+                        ParallelReduce.Splitter.spliterator(),
+                        (Spliterator<Integer> spliterator) -> {
+                            final List<Integer> leaf = new ArrayList<>();
+
+                            spliterator.forEachRemaining(leaf::add);
+
+                            return leaf;
+                        },
+                        (left, right) -> {
+                            left.addAll(right);
+
+                            return left;
+                        },
+                        GranularityPolicy.fixed(100));
+
+                assertEquals(backend.getName(), integers, result);
+            }
+        }
+    }
+
+    @Test
+    public void testLeafExceptionPropagates() {
+        for (final ExecutionBackend backend : ExecutionBackend.forNames(ALL, ForkJoinPool.commonPool())) {
+            try (backend) {
+                backend.reduce(new IndexRange(0, 1_000),
+                        ParallelReduce.Splitter.indexRange(),
+                        range -> {
+                            if (range.getStart() >= 500) {
+                                throw new IllegalStateException("leaf " + range);
+                            }
+
+                            return 0L;
+                        },
+                        Long::sum,
+                        GranularityPolicy.fixed(10));
+
+                fail(backend.getName());
+            } catch (final IllegalStateException ise) {
+                assertTrue(ise.getMessage().contains("leaf"));
+            }
+        }
+    }
+
+    @Test
+    public void testMeasurement() {
+        final Measurement measurement = Measurement.measure("test", "noop", 1, 20, () -> 1);
+
+        assertEquals(20, measurement.getIterations());
+        assertTrue(measurement.getThroughput() > 0);
+        assertTrue(measurement.getLatencyNanos(50) <= measurement.getLatencyNanos(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownBackend() {
+        ExecutionBackend.forName("threads", ForkJoinPool.commonPool());
+    }
+
+    private static long sum(final long from, final long to) {
+        long sum = 0;
+
+        for (long i = from; i < to; i++) {
+            sum += i;
+        }
+
+        return sum;
+    }
+}
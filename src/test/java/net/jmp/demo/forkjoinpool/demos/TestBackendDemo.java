@@ -0,0 +1,61 @@
+package net.jmp.demo.forkjoinpool.demos;
+
+/*
+ * (#)TestBackendDemo.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+
+import net.jmp.demo.forkjoinpool.backends.Measurement;
+
+import net.jmp.demo.forkjoinpool.pools.PoolProvider;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestBackendDemo {
+    @Test
+    public void testCompare() throws Exception {
+        final var demo = new BackendDemo(PoolProvider.getDefault(), BackendDemo.DEFAULT_BACKENDS);
+        final var method = BackendDemo.class.getDeclaredMethod("compare");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+
+        @SuppressWarnings("unchecked")
+        final List<Measurement> results = (List<Measurement>) o;
+
+        assertEquals(6, results.size());
+        assertEquals("forkjoin", results.get(0).getBackend());
+        assertEquals("file-letters", results.get(5).getWorkload());
+        assertEquals("structured", results.get(5).getBackend());
+    }
+}
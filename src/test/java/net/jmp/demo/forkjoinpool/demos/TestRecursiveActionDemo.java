@@ -1,10 +1,11 @@
 package net.jmp.demo.forkjoinpool.demos;
 
 /*
+ * (#)TestRecursiveActionDemo.java  0.5.0   10/17/2026
  * (#)TestRecursiveActionDemo.java  0.2.0   09/14/2024
  *
  * @author   Jonathan Parker
- * @version  0.2.0
+ * @version  0.5.0
  * @since    0.2.0
  *
  * MIT License
@@ -30,6 +31,7 @@ package net.jmp.demo.forkjoinpool.demos;
  * SOFTWARE.
  */
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -84,4 +86,67 @@ public final class TestRecursiveActionDemo {
         assertEquals(2.8284, results[8], 0.001);
         assertEquals(3, results[9], 0.001);
     }
+
+    @Test
+    public void testSegmentSquareRootAction() throws Exception {
+        final var demo = new RecursiveActionDemo();
+        final var method = RecursiveActionDemo.class.getDeclaredMethod("segmentSquareRootAction");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Double result = (Double) o;
+
+        assertNotNull(result);
+        assertEquals(4_999_950_000.0, result, 0.0);
+    }
+
+    @Test
+    public void testMergeSortAction() throws Exception {
+        final var demo = new RecursiveActionDemo();
+        final var method = RecursiveActionDemo.class.getDeclaredMethod("mergeSortAction");
+
+        method.setAccessible(true);
+
+        final int[] results = (int[]) method.invoke(demo);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, results);
+    }
+
+    @Test
+    public void testSquareRootHistogram() throws Exception {
+        final var demo = new RecursiveActionDemo();
+        final var method = RecursiveActionDemo.class.getDeclaredMethod("squareRootHistogram");
+
+        method.setAccessible(true);
+
+        final long[] results = (long[]) method.invoke(demo);
+
+        assertArrayEquals(new long[] {100, 300, 500, 700, 900, 1_100, 1_300, 1_500, 1_700, 1_900}, results);
+    }
+
+    @Test
+    public void testRadixSortAction() throws Exception {
+        final var demo = new RecursiveActionDemo();
+        final var method = RecursiveActionDemo.class.getDeclaredMethod("radixSortAction");
+
+        method.setAccessible(true);
+
+        final long[] results = (long[]) method.invoke(demo);
+
+        assertArrayEquals(new long[] {-50_000, -49_999, -49_998, -49_997, -49_996,
+                -49_995, -49_994, -49_993, -49_992, -49_991}, results);
+    }
+
+    @Test
+    public void testMatrixMultiplyAction() throws Exception {
+        final var demo = new RecursiveActionDemo();
+        final var method = RecursiveActionDemo.class.getDeclaredMethod("matrixMultiplyAction");
+
+        method.setAccessible(true);
+
+        final Double result = (Double) method.invoke(demo);
+
+        assertEquals(12_000_000.0, result, 0.0);
+    }
 }
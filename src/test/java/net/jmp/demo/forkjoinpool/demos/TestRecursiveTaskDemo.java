@@ -1,10 +1,11 @@
 package net.jmp.demo.forkjoinpool.demos;
 
 /*
+ * (#)TestRecursiveTaskDemo.java    0.5.0   10/17/2026
  * (#)TestRecursiveTaskDemo.java    0.3.0   09/14/2024
  *
  * @author   Jonathan Parker
- * @version  0.3.0
+ * @version  0.5.0
  * @since    0.3.0
  *
  * MIT License
@@ -31,6 +32,10 @@ package net.jmp.demo.forkjoinpool.demos;
  */
 
 import java.math.BigInteger;
+
+import java.time.Duration;
+
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.*;
@@ -52,6 +57,62 @@ public final class TestRecursiveTaskDemo {
         assertEquals(500_500, (long) result);
     }
 
+    @Test
+    public void testRangeSumTask() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("rangeSumTask");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long result = (Long) o;
+
+        assertNotNull(result);
+        assertEquals(5_000_050_000L, (long) result);
+    }
+
+    @Test
+    public void testSegmentSumTask() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("segmentSumTask");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long result = (Long) o;
+
+        assertNotNull(result);
+        assertEquals(5_000_050_000L, (long) result);
+    }
+
+    @Test
+    public void testParallelReduce() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("parallelReduce");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long result = (Long) o;
+
+        assertNotNull(result);
+        assertEquals(333_833_500L, (long) result);
+    }
+
+    @Test
+    public void testPrefixSumTask() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("prefixSumTask");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final long[] results = (long[]) o;
+
+        assertNotNull(results);
+        assertArrayEquals(new long[] {1, 3, 6, 10, 15, 21, 28, 36, 45, 55}, results);
+    }
+
     @Test
     public void testLetterDistributionTask() throws Exception {
         final var demo = new RecursiveTaskDemo();
@@ -62,7 +123,7 @@ public final class TestRecursiveTaskDemo {
         final Object o = method.invoke(demo);
 
         @SuppressWarnings("unchecked")
-        final Map<Character, Integer> results = (Map<Character, Integer>) o;
+        final Map<Character, Long> results = (Map<Character, Long>) o;
 
         assertNotNull(results);
         assertEquals(12, results.entrySet().size());
@@ -80,6 +141,40 @@ public final class TestRecursiveTaskDemo {
         assertEquals(12, (long) results.get('l'));
     }
 
+    @Test
+    public void testMappedLetterDistributionTask() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("mappedLetterDistributionTask");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+
+        @SuppressWarnings("unchecked")
+        final Map<Character, Long> results = (Map<Character, Long>) o;
+
+        assertNotNull(results);
+        assertEquals(2, (long) results.get('ß'));
+        assertEquals(1, (long) results.get('ö'));
+        assertEquals(3, (long) results.get('c'));
+        assertEquals(5, (long) results.get('d'));
+    }
+
+    @Test
+    public void testTokenFrequencyTask() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("tokenFrequencyTask");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+
+        @SuppressWarnings("unchecked")
+        final List<Map.Entry<String, Long>> results = (List<Map.Entry<String, Long>>) o;
+
+        assertEquals(List.of(Map.entry("the", 4L), Map.entry("cat", 3L), Map.entry("dog", 2L)), results);
+    }
+
     @Test
     public void testFactorialTask() throws Exception {
         final var demo = new RecursiveTaskDemo();
@@ -93,4 +188,44 @@ public final class TestRecursiveTaskDemo {
         assertNotNull(result);
         assertEquals(20_922_789_888_000L, result.longValue());
     }
+
+    @Test
+    public void testFactorialEngine() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("factorialEngine");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final BigInteger result = (BigInteger) o;
+
+        assertNotNull(result);
+        assertEquals(8_530, result.bitLength());
+        assertEquals(2_568, result.toString().length());
+    }
+
+    @Test
+    public void testCombinatorics() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("combinatorics");
+
+        method.setAccessible(true);
+
+        final BigInteger result = (BigInteger) method.invoke(demo);
+
+        assertEquals(BigInteger.valueOf(156_742_040), result);
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+        final var demo = new RecursiveTaskDemo();
+        final var method = RecursiveTaskDemo.class.getDeclaredMethod("deadline");
+
+        method.setAccessible(true);
+
+        final Duration elapsed = (Duration) method.invoke(demo);
+
+        assertTrue(elapsed.compareTo(Duration.ofMillis(100)) >= 0);
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) < 0);
+    }
 }
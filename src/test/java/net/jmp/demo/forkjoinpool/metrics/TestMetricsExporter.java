@@ -0,0 +1,75 @@
+package net.jmp.demo.forkjoinpool.metrics;
+
+/*
+ * (#)TestMetricsExporter.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.ManagementFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.jmp.demo.forkjoinpool.tasks.RangeSumTask;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestMetricsExporter {
+    @Test
+    public void testPoolAndTaskBeans() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName poolName = new ObjectName(MetricsExporter.DOMAIN + ":type=ForkJoinPool,name=\"test\"");
+        final ObjectName taskName = new ObjectName(MetricsExporter.DOMAIN + ":type=Task,name=\"RangeSumTask\"");
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        try (final MetricsExporter exporter = new MetricsExporter(server)) {
+            final RangeSumTask task = new RangeSumTask(new int[10_000], 0, 10_000, 1_000);
+
+            pool.invoke(task);
+
+            exporter.register("test", pool);
+
+            assertTrue(server.isRegistered(poolName));
+            assertTrue(server.isRegistered(taskName));
+            assertEquals(2, server.getAttribute(poolName, "Parallelism"));
+            assertTrue((Long) server.getAttribute(taskName, "Leaves") >= 16);
+            assertTrue((Long) server.getAttribute(taskName, "Splits") >= 15);
+
+            exporter.report();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertFalse(server.isRegistered(poolName));
+        assertFalse(server.isRegistered(taskName));
+    }
+}
@@ -0,0 +1,117 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)TestCancellationToken.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.time.Duration;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jmp.demo.forkjoinpool.tasks.FactorialTask;
+import net.jmp.demo.forkjoinpool.tasks.ParallelReduce;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestCancellationToken {
+    @Test
+    public void testCancelledPolicy() {
+        final CancellationToken token = new CancellationToken();
+        final GranularityPolicy policy = GranularityPolicy.cancellable(GranularityPolicy.fixed(10), token);
+
+        assertTrue(policy.shouldSplit(11));
+
+        policy.checkCancelled();
+        token.cancel();
+
+        assertTrue(token.isCancelled());
+        assertFalse(token.hasExpired());
+        assertTrue(policy.shouldSplit(11));
+        assertThrows(CancellationException.class, policy::checkCancelled);
+    }
+
+    @Test
+    public void testCancellationPrunesSubtasks() {
+        final CancellationToken token = new CancellationToken();
+        final AtomicInteger leaves = new AtomicInteger();
+
+        final ParallelReduce<?, Long> task = ParallelReduce.overRange(0,
+                1_000_000,
+                range -> {
+                    if (leaves.incrementAndGet() == 10) {
+                        token.cancel();
+                    }
+
+                    return range.size();
+                },
+                Long::sum,
+                GranularityPolicy.cancellable(GranularityPolicy.fixed(100), token));
+
+        assertThrows(CancellationException.class, () -> token.invoke(ForkJoinPool.commonPool(), task));
+        assertTrue(leaves.get() < 1_000);
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            final CancellationToken token = CancellationToken.withTimeout(Duration.ofMillis(50));
+            final FactorialTask task = new FactorialTask(1, 5_000_000, GranularityPolicy.cancellable(GranularityPolicy.fixed(2), token));
+
+            final long start = System.nanoTime();
+
+            assertThrows(TimeoutException.class, () -> token.invoke(pool, task));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+            assertTrue(token.isCancelled());
+            assertTrue(token.hasExpired());
+            assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCompletesBeforeDeadline() throws Exception {
+        final CancellationToken token = CancellationToken.withTimeout(Duration.ofMinutes(1));
+        final FactorialTask task = new FactorialTask(1, 20, GranularityPolicy.cancellable(GranularityPolicy.fixed(2), token));
+
+        assertEquals(BigInteger.valueOf(2_432_902_008_176_640_000L), token.invoke(ForkJoinPool.commonPool(), task));
+        assertFalse(token.isCancelled());
+    }
+}
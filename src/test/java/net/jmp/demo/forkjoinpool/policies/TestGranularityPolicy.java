@@ -0,0 +1,79 @@
+package net.jmp.demo.forkjoinpool.policies;
+
+/*
+ * (#)TestGranularityPolicy.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestGranularityPolicy {
+    @Test
+    public void testFixed() {
+        final GranularityPolicy policy = GranularityPolicy.fixed(100);
+
+        assertTrue(policy.shouldSplit(101));
+        assertFalse(policy.shouldSplit(100));
+    }
+
+    @Test
+    public void testProportional() {
+        final var policy = (ProportionalGranularityPolicy) GranularityPolicy.proportional(1_600_000, 4, 4);
+
+        assertEquals(100_000, policy.getThreshold());
+        assertTrue(policy.shouldSplit(100_001));
+        assertFalse(policy.shouldSplit(100_000));
+    }
+
+    @Test
+    public void testSurplusOutsideAPool() {
+        final GranularityPolicy policy = GranularityPolicy.surplus(10, 3);
+
+        assertTrue(policy.shouldSplit(11));
+        assertFalse(policy.shouldSplit(10));
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals("fixed:1000", GranularityPolicy.parse("fixed:1000", 0, 1).toString());
+        assertEquals(1_024, ((ProportionalGranularityPolicy) GranularityPolicy.parse("proportional", 8_192, 4)).getThreshold());
+        assertTrue(GranularityPolicy.parse("surplus:2", 0, 1) instanceof SurplusGranularityPolicy);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseUnknown() {
+        GranularityPolicy.parse("adaptive:1", 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFixedNotPositive() {
+        GranularityPolicy.fixed(0);
+    }
+}
@@ -0,0 +1,168 @@
+package net.jmp.demo.forkjoinpool.pools;
+
+/*
+ * (#)TestPoolProvider.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestPoolProvider {
+    @Test
+    public void testPoolsAreDedicatedAndReused() {
+        try (final PoolProvider provider = new PoolProvider()) {
+            provider.configure(PoolProvider.NUMERIC, PoolConfiguration.builder()
+                    .parallelism(3)
+                    .asyncMode(true)
+                    .build());
+
+            final ForkJoinPool numeric = provider.getPool(PoolProvider.NUMERIC);
+
+            assertNotSame(ForkJoinPool.commonPool(), numeric);
+            assertSame(numeric, provider.getPool(PoolProvider.NUMERIC));
+            assertNotSame(numeric, provider.getPool(PoolProvider.TEXT));
+            assertEquals(3, numeric.getParallelism());
+            assertTrue(numeric.getAsyncMode());
+
+            final String name = numeric.submit(() -> Thread.currentThread().getName()).join();
+
+            assertTrue(name.startsWith("fjp-numeric-worker-"));
+        }
+    }
+
+    @Test
+    public void testCloseShutsDownThePools() {
+        final PoolProvider provider = new PoolProvider();
+        final ForkJoinPool pool = provider.getPool(PoolProvider.TEXT);
+
+        provider.close();
+
+        assertTrue(pool.isTerminated());
+        assertFalse(ForkJoinPool.commonPool().isShutdown());
+    }
+
+    @Test
+    public void testNoPoolIsCreatedAfterClose() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            final PoolProvider provider = new PoolProvider();
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicReference<ForkJoinPool> pool = new AtomicReference<>();
+
+            final Thread user = new Thread(() -> {
+                awaitQuietly(start);
+
+                try {
+                    pool.set(provider.getPool(PoolProvider.NUMERIC));
+                } catch (final IllegalStateException ise) {
+                    pool.set(null);
+                }
+            });
+
+            user.start();
+            start.countDown();
+            provider.close();
+            user.join();
+
+            if (pool.get() != null) {
+                assertTrue(pool.get().isShutdown());
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConfigureAfterCreation() {
+        try (final PoolProvider provider = new PoolProvider()) {
+            provider.getPool(PoolProvider.TEXT);
+            provider.configure(PoolProvider.TEXT, PoolConfiguration.builder().build());
+        }
+    }
+
+    @Test
+    public void testConfigureRacingCreation() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            try (final PoolProvider provider = new PoolProvider()) {
+                final CountDownLatch start = new CountDownLatch(1);
+                final AtomicBoolean configured = new AtomicBoolean();
+                final AtomicReference<ForkJoinPool> pool = new AtomicReference<>();
+
+                final Thread configurer = new Thread(() -> {
+                    awaitQuietly(start);
+
+                    try {
+                        provider.configure(PoolProvider.TEXT, PoolConfiguration.builder().parallelism(7).build());
+                        configured.set(true);
+                    } catch (final IllegalStateException ise) {
+                        configured.set(false);
+                    }
+                });
+
+                final Thread user = new Thread(() -> {
+                    awaitQuietly(start);
+                    pool.set(provider.getPool(PoolProvider.TEXT));
+                });
+
+                configurer.start();
+                user.start();
+                start.countDown();
+                configurer.join();
+                user.join();
+
+                if (configured.get()) {
+                    assertEquals(7, pool.get().getParallelism());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFromSystemProperties() {
+        System.setProperty(PoolConfiguration.PROPERTY_PREFIX + "test.parallelism", "2");
+
+        try {
+            assertEquals(2, PoolConfiguration.fromSystemProperties("test").getParallelism());
+        } finally {
+            System.clearProperty(PoolConfiguration.PROPERTY_PREFIX + "test.parallelism");
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestCombinatorics.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.util.stream.IntStream;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestCombinatorics {
+    @Test
+    public void testFactorials() {
+        final var combinatorics = new Combinatorics(ForkJoinPool.commonPool());
+
+        assertEquals(BigInteger.ONE, combinatorics.factorial(0));
+        assertEquals(BigInteger.valueOf(20_922_789_888_000L), combinatorics.factorial(16));
+
+        for (final int n : new int[] {1_000, 21, 1_500, 999, 1_500}) {
+            assertEquals(new FactorialTask(1, n).invoke(), combinatorics.factorial(n));
+        }
+
+        assertEquals(4, combinatorics.getCacheStats().loadCount());
+        assertEquals(3, combinatorics.getCacheStats().hitCount());     // Two nearest factorials and the second 1500!
+    }
+
+    @Test
+    public void testCoefficients() {
+        final var combinatorics = new Combinatorics(ForkJoinPool.commonPool());
+
+        assertEquals(BigInteger.valueOf(2_598_960), combinatorics.binomial(52, 5));
+        assertEquals(BigInteger.ZERO, combinatorics.binomial(5, 6));
+        assertEquals(combinatorics.binomial(300, 100), combinatorics.binomial(300, 200));
+        assertEquals(BigInteger.valueOf(1_260), combinatorics.multinomial(2, 3, 4));
+        assertEquals(combinatorics.binomial(300, 100), combinatorics.multinomial(100, 200));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        final var combinatorics = new Combinatorics(ForkJoinPool.commonPool(), 200_000);
+
+        for (int n = 1_000; n <= 10_000; n += 1_000) {
+            assertEquals(n, combinatorics.factorial(n).bitLength(), new FactorialTask(1, n).invoke().bitLength());
+        }
+
+        assertTrue(combinatorics.getCachedBits() <= 200_000);
+        assertTrue(combinatorics.getCacheStats().evictionCount() > 0);
+    }
+
+    @Test
+    public void testConcurrentRequests() {
+        final var combinatorics = new Combinatorics(ForkJoinPool.commonPool());
+        final BigInteger expected = new FactorialTask(1, 2_000).invoke();
+
+        IntStream.range(0, 64).parallel().forEach(i -> {
+            assertEquals(expected, combinatorics.factorial(2_000));
+            assertNotNull(combinatorics.factorial(1_000 + i));
+        });
+
+        assertEquals(65, combinatorics.getCacheStats().loadCount());
+    }
+}
@@ -0,0 +1,70 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestFactorialEngine.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestFactorialEngine {
+    @Test
+    public void testSmallFactorials() {
+        final var engine = new FactorialEngine(ForkJoinPool.commonPool());
+
+        assertEquals(BigInteger.ONE, engine.factorial(0));
+        assertEquals(BigInteger.ONE, engine.factorial(1));
+        assertEquals(BigInteger.valueOf(20_922_789_888_000L), engine.factorial(16));
+        assertEquals(BigInteger.valueOf(2_432_902_008_176_640_000L), engine.factorial(20));
+    }
+
+    @Test
+    public void testAlgorithmsAgree() {
+        final var pool = ForkJoinPool.commonPool();
+        final var productTree = new FactorialEngine(pool, FactorialEngine.Algorithm.PRODUCT_TREE);
+        final var primeFactorization = new FactorialEngine(pool, FactorialEngine.Algorithm.PRIME_FACTORIZATION);
+
+        for (final int n : new int[] {21, 22, 97, 1_000, 5_003}) {
+            final BigInteger expected = new FactorialTask(1, n).invoke();
+
+            assertEquals(expected, productTree.factorial(n));
+            assertEquals(expected, primeFactorization.factorial(n));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegative() {
+        new FactorialEngine(ForkJoinPool.commonPool()).factorial(-1);
+    }
+}
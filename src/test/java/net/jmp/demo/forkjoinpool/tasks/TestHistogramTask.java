@@ -0,0 +1,177 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestHistogramTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestHistogramTask {
+    @Test
+    public void testFixedWidth() {
+        final double[] values = new double[100_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i / 1_000.0;
+        }
+
+        final Buckets buckets = Buckets.fixedWidth(0, 100, 10);
+        final DoubleHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(new HistogramTask(values, 0, values.length, buckets, GranularityPolicy.fixed(1_000)));
+
+        final long[] expected = new long[10];
+
+        Arrays.fill(expected, 10_000);
+
+        assertArrayEquals(expected, histogram.toArray());
+        assertEquals(0, histogram.getUnderflow());
+        assertEquals(0, histogram.getOverflow());
+        assertEquals(100_000, histogram.getTotal());
+        assertEquals(50.0, histogram.quantile(0.5), 1e-9);
+    }
+
+    @Test
+    public void testBoundaries() {
+        final double[] values = {-5, -1, 0, 0.5, 1, 9.99, 10, 100, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+
+        final Buckets buckets = Buckets.boundaries(-1, 0, 1, 10);
+        final DoubleHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(new HistogramTask(values, 0, values.length, buckets, GranularityPolicy.fixed(2)));
+
+        assertArrayEquals(new long[] {1, 2, 2}, histogram.toArray());
+        assertEquals(2, histogram.getUnderflow());
+        assertEquals(3, histogram.getOverflow());
+        assertEquals(1, histogram.getNaNCount());
+        assertEquals(10, histogram.getTotal());
+        assertEquals(1.0, buckets.lowerBound(2), 0);
+        assertEquals(10.0, buckets.upperBound(2), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, histogram.quantile(0), 0);
+        assertEquals(Double.POSITIVE_INFINITY, histogram.quantile(1), 0);
+    }
+
+    @Test
+    public void testMatchesSequentialSearch() {
+        final double[] values = new SplittableRandom(7).doubles(50_000, -2, 2).toArray();
+        final double[] boundaries = {-1.5, -0.25, 0, 0.125, 1, 1.75};
+
+        final DoubleHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(new HistogramTask(values, Buckets.boundaries(boundaries)));
+
+        final long[] expected = new long[boundaries.length - 1];
+
+        for (final double value : values) {
+            final int point = Arrays.binarySearch(boundaries, value);
+            final int bucket = point >= 0 ? point : -point - 2;
+
+            if (bucket >= 0 && bucket < expected.length) {
+                expected[bucket]++;
+            }
+        }
+
+        assertArrayEquals(expected, histogram.toArray());
+    }
+
+    @Test
+    public void testQuantiles() {
+        final double[] values = new SplittableRandom(11).doubles(200_000).toArray();
+
+        final double[] quantiles = HistogramTask.quantiles(values, ForkJoinPool.commonPool(), 0, 0.25, 0.5, 0.99, 1);
+
+        final double[] sorted = values.clone();
+
+        Arrays.sort(sorted);
+
+        assertEquals(sorted[0], quantiles[0], 1e-3);
+        assertEquals(sorted[50_000], quantiles[1], 1e-3);
+        assertEquals(sorted[100_000], quantiles[2], 1e-3);
+        assertEquals(sorted[198_000], quantiles[3], 1e-3);
+        assertEquals(sorted[199_999], quantiles[4], 0);
+    }
+
+    @Test
+    public void testQuantilesOfFewValues() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        assertTrue(Double.isNaN(HistogramTask.quantiles(new double[0], pool, 0.5)[0]));
+        assertEquals(3.0, HistogramTask.quantiles(new double[] {3, 3, Double.NaN}, pool, 0.5)[0], 0);
+        assertEquals(Double.POSITIVE_INFINITY, HistogramTask.quantiles(new double[] {Double.POSITIVE_INFINITY}, pool, 0.5)[0], 0);
+    }
+
+    @Test
+    public void testQuantilesOfWideRange() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final double[] quantiles = HistogramTask.quantiles(new double[] {-1e308, 1e308}, pool, 0, 0.5, 1);
+
+        assertEquals(-1e308, quantiles[0], 0);
+        assertEquals(-1e308, quantiles[1], 1e305);
+        assertEquals(1e308, quantiles[2], 0);
+
+        final double[] extremes = HistogramTask.quantiles(new double[] {-Double.MAX_VALUE, Double.MAX_VALUE}, pool, 0, 1);
+
+        assertEquals(-Double.MAX_VALUE, extremes[0], 0);
+        assertTrue(Double.isFinite(extremes[1]));
+    }
+
+    @Test
+    public void testQuantilesOfSubnormalRange() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final double[] tiny = HistogramTask.quantiles(new double[] {0, Double.MIN_VALUE}, pool, 0, 0.5, 1);
+
+        assertEquals(0, tiny[0], 0);
+        assertEquals(0, tiny[1], Double.MIN_VALUE);
+        assertEquals(Double.MIN_VALUE, tiny[2], 0);
+        assertEquals(2e-310, HistogramTask.quantiles(new double[] {1e-310, 2e-310}, pool, 1)[0], 0);
+
+        final double[] values = new double[1_001];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1e-310 + i * 1e-313;
+        }
+
+        final double[] quantiles = HistogramTask.quantiles(values, pool, 0, 0.5, 1);
+
+        assertEquals(1e-310, quantiles[0], 0);
+        assertEquals(1.5e-310, quantiles[1], 1e-313);
+        assertEquals(values[1_000], quantiles[2], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundariesMustIncrease() {
+        Buckets.boundaries(0, 1, 1);
+    }
+}
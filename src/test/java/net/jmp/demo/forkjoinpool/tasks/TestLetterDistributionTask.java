@@ -0,0 +1,98 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestLetterDistributionTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestLetterDistributionTask {
+    @Test
+    public void testNonAsciiLetters() {
+        final char[] characters = "ÄäÖö ßß Ωω 123 ?! Zz".repeat(1_000).toCharArray();
+
+        final LetterHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(new LetterDistributionTask(characters, 0, characters.length, 64));
+
+        assertEquals(2_000, histogram.count('ä'));
+        assertEquals(2_000, histogram.count('ö'));
+        assertEquals(2_000, histogram.count('ß'));
+        assertEquals(2_000, histogram.count('ω'));
+        assertEquals(2_000, histogram.count('z'));
+        assertEquals(0, histogram.count('a'));
+
+        final Map<Character, Long> map = histogram.toMap();
+
+        assertEquals(5, map.size());
+    }
+
+    @Test
+    public void testMatchesSequentialCount() {
+        final char[] characters = new char[100_000];
+
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = (char) (i % 0x3000);
+        }
+
+        final LetterHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(new LetterDistributionTask(characters));
+
+        final LetterHistogram expected = new LetterHistogram();
+
+        for (final char character : characters) {
+            if (Character.isLetter(character)) {
+                expected.add(Character.toLowerCase(character));
+            }
+        }
+
+        assertEquals(expected.toMap(), histogram.toMap());
+    }
+
+    @Test
+    public void testCountsPastIntegerRange() {
+        final LetterHistogram histogram = new LetterHistogram();
+
+        histogram.add('e');
+        histogram.add('ж');
+
+        for (int i = 0; i < 32; i++) {
+            histogram.merge(histogram);
+        }
+
+        assertEquals(1L << 32, histogram.count('e'));
+        assertEquals(1L << 32, histogram.count('ж'));
+        assertEquals(Map.of('e', 1L << 32, 'ж', 1L << 32), histogram.toMap());
+    }
+}
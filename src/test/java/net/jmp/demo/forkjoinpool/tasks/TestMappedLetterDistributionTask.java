@@ -0,0 +1,104 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestMappedLetterDistributionTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestMappedLetterDistributionTask {
+    /** Text mixing one, two and three byte characters with a supplementary one. */
+    private static final String TEXT = "ÄäÖö ßß Ωω 123 ?! Zz ĀāЖж 𝐀 日本".repeat(1_000);
+
+    @Test
+    public void testMatchesCharacterCount() {
+        final ByteBuffer buffer = ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.UTF_8));
+
+        final LetterHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(new MappedLetterDistributionTask(buffer, 0, buffer.limit(), GranularityPolicy.fixed(7)));
+
+        assertEquals(this.expected().toMap(), histogram.toMap());
+        assertEquals(2_000, histogram.count('ж'));
+    }
+
+    @Test
+    public void testFileRegionsSplitOnCharacters() throws IOException {
+        final Path file = Files.createTempFile("letters", ".txt");
+
+        try {
+            Files.writeString(file, TEXT, StandardCharsets.UTF_8);
+
+            final LetterHistogram histogram = MappedLetterDistributionTask.countFile(file,
+                    ForkJoinPool.commonPool(),
+                    GranularityPolicy.fixed(64),
+                    1_001);
+
+            assertEquals(this.expected().toMap(), histogram.toMap());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        final Path file = Files.createTempFile("letters", ".txt");
+
+        try {
+            assertTrue(MappedLetterDistributionTask.countFile(file, ForkJoinPool.commonPool()).toMap().isEmpty());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private LetterHistogram expected() {
+        final LetterHistogram expected = new LetterHistogram();
+
+        for (final char character : TEXT.toCharArray()) {
+            if (Character.isLetter(character)) {
+                expected.add(Character.toLowerCase(character));
+            }
+        }
+
+        return expected;
+    }
+}
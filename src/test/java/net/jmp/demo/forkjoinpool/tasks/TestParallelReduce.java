@@ -0,0 +1,124 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestParallelReduce.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.stream.IntStream;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestParallelReduce {
+    @Test
+    public void testOfLong() {
+        final int[] integers = IntStream.rangeClosed(1, 100_000).toArray();
+
+        final ParallelReduce.OfLong task = new ParallelReduce.OfLong(0, integers.length, (start, end) -> {
+            long sum = 0;
+
+            for (int i = (int) start; i < end; i++) {
+                sum += integers[i];
+            }
+
+            return sum;
+        }, Long::sum, GranularityPolicy.fixed(1_000));
+
+        assertEquals(5_000_050_000L, (long) ForkJoinPool.commonPool().invoke(task));
+        assertEquals(5_000_050_000L, task.getAsLong());
+    }
+
+    @Test
+    public void testOfDoubleAdaptive() {
+        final ParallelReduce.OfDouble task = ParallelReduce.overRangeToDouble(0, 1_000_000,
+                (start, end) -> (double) (end - start),
+                Double::sum);
+
+        assertEquals(1_000_000.0, ForkJoinPool.commonPool().invoke(task), 0.0);
+    }
+
+    @Test
+    public void testRangeMatchesLetterDistribution() {
+        final char[] characters = "ÄäÖö ßß Ωω 123 ?! Zz The quick brown fox".repeat(2_000).toCharArray();
+
+        final LetterHistogram histogram = ForkJoinPool.commonPool().invoke(ParallelReduce.overRange(0, characters.length, range -> {
+            final LetterHistogram leaf = new LetterHistogram();
+
+            for (int i = (int) range.getStart(); i < range.getEnd(); i++) {
+                if (Character.isLetter(characters[i])) {
+                    leaf.add(Character.toLowerCase(characters[i]));
+                }
+            }
+
+            return leaf;
+        }, LetterHistogram::merge, GranularityPolicy.fixed(100)));
+
+        final LetterHistogram expected = ForkJoinPool.commonPool().invoke(new LetterDistributionTask(characters));
+
+        assertEquals(expected.toMap(), histogram.toMap());
+    }
+
+    @Test
+    public void testSpliteratorKeepsOrder() {
+        final List<Integer> integers = IntStream.range(0, 10_000).boxed().toList();
+
+        final List<Integer> result = ForkJoinPool.commonPool().invoke(ParallelReduce.overSpliterator(integers.spliterator(),
+                (Spliterator<Integer> spliterator) -> {
+                    final List<Integer> leaf = new ArrayList<>();
+
+                    spliterator.forEachRemaining(leaf::add);
+
+                    return leaf;
+                },
+                (left, right) -> {
+                    left.addAll(right);
+
+                    return left;
+                }));
+
+        assertEquals(integers, result);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testLeafExceptionPropagates() {
+        ForkJoinPool.commonPool().invoke(new ParallelReduce.OfLong(0, 10_000,
+                (start, end) -> start / (start - 5_000 < 0 ? 1 : 0),
+                Long::sum,
+                GranularityPolicy.fixed(10)));
+    }
+}
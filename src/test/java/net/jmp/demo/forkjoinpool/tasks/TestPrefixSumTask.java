@@ -0,0 +1,93 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestPrefixSumTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestPrefixSumTask {
+    @Test
+    public void testInclusiveIntsWrapLikeParallelPrefix() {
+        final int[] actual = new Random(42).ints(100_003).toArray();
+        final int[] expected = actual.clone();
+
+        Arrays.parallelPrefix(expected, Integer::sum);
+
+        ForkJoinPool.commonPool().invoke(new PrefixSumTask(actual, 0, actual.length, PrefixSumTask.Mode.INCLUSIVE, GranularityPolicy.fixed(1_000)));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testExclusiveLongs() {
+        final long[] longs = new long[50_000];
+
+        Arrays.fill(longs, 3);
+
+        ForkJoinPool.commonPool().invoke(new PrefixSumTask(longs, PrefixSumTask.Mode.EXCLUSIVE));
+
+        for (int i = 0; i < longs.length; i++) {
+            assertEquals(3L * i, longs[i]);
+        }
+    }
+
+    @Test
+    public void testInclusiveDoublesAdaptive() {
+        final double[] doubles = new double[20_000];
+
+        Arrays.setAll(doubles, i -> i % 7);
+
+        final double[] expected = doubles.clone();
+
+        Arrays.parallelPrefix(expected, Double::sum);
+
+        ForkJoinPool.commonPool().invoke(new PrefixSumTask(doubles, 0, doubles.length, PrefixSumTask.Mode.INCLUSIVE, GranularityPolicy.surplus(64, 2)));
+
+        assertArrayEquals(expected, doubles, 0.0);
+    }
+
+    @Test
+    public void testOnlyTheRangeIsScanned() {
+        final int[] ints = {5, 1, 2, 3, 5};
+
+        ForkJoinPool.commonPool().invoke(new PrefixSumTask(ints, 1, 4, PrefixSumTask.Mode.EXCLUSIVE, GranularityPolicy.fixed(1)));
+
+        assertArrayEquals(new int[] {5, 0, 1, 3, 5}, ints);
+    }
+}
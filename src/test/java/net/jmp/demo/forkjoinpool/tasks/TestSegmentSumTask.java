@@ -0,0 +1,91 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestSegmentSumTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestSegmentSumTask {
+    @Test
+    public void testNativeSegment() {
+        try (final Arena arena = Arena.ofShared()) {
+            final MemorySegment segment = arena.allocate(MemoryLayout.sequenceLayout(100_001, ValueLayout.JAVA_INT));
+
+            for (long i = 0; i < 100_001; i++) {
+                segment.setAtIndex(ValueLayout.JAVA_INT, i, (int) i + 1);
+            }
+
+            final long sum = ForkJoinPool.commonPool()
+                    .invoke(new SegmentSumTask(segment, GranularityPolicy.fixed(1_000)));
+
+            assertEquals(5_000_150_001L, sum);
+        }
+    }
+
+    @Test
+    public void testHeapSegment() {
+        final int[] integers = {Integer.MAX_VALUE, Integer.MAX_VALUE, -1, 3};
+
+        final long sum = ForkJoinPool.commonPool()
+                .invoke(new SegmentSumTask(MemorySegment.ofArray(integers), GranularityPolicy.fixed(1)));
+
+        assertEquals(2L * Integer.MAX_VALUE + 2, sum);
+    }
+
+    @Test
+    public void testByteArraySegment() {
+        final MemorySegment segment = MemorySegment.ofArray(new byte[4_001]).asSlice(1);
+
+        for (long i = 0; i < 1_000; i++) {
+            segment.setAtIndex(ValueLayout.JAVA_INT_UNALIGNED, i, (int) i + 1);
+        }
+
+        final long sum = ForkJoinPool.commonPool()
+                .invoke(new SegmentSumTask(segment, GranularityPolicy.fixed(10)));
+
+        assertEquals(500_500L, sum);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPartialElement() {
+        new SegmentSumTask(MemorySegment.ofArray(new byte[6]));
+    }
+}
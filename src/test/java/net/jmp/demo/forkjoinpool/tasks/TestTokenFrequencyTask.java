@@ -0,0 +1,97 @@
+package net.jmp.demo.forkjoinpool.tasks;
+
+/*
+ * (#)TestTokenFrequencyTask.java    0.5.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ * @version   0.5.0
+ * @since     0.5.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import java.util.concurrent.ForkJoinPool;
+
+import net.jmp.demo.forkjoinpool.policies.GranularityPolicy;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestTokenFrequencyTask {
+    @Test
+    public void testWords() {
+        final char[] characters = "The quick brown fox jumps over the lazy dog. ".repeat(1_000).toCharArray();
+
+        final TokenHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(TokenFrequencyTask.words(characters, 0, characters.length, GranularityPolicy.fixed(7)));
+
+        assertEquals(2_000, histogram.count("the"));
+        assertEquals(2_000, histogram.count("THE"));
+        assertEquals(1_000, histogram.count("fox"));
+        assertEquals(0, histogram.count("cat"));
+        assertEquals(8, histogram.size());
+        assertEquals(9_000, histogram.getTotal());
+        assertEquals(Map.entry("the", 2_000L), histogram.top(1).getFirst());
+    }
+
+    @Test
+    public void testNgrams() {
+        final char[] characters = "abcd ab, ABC".toCharArray();
+
+        final TokenHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(TokenFrequencyTask.ngrams(characters, 0, characters.length, 3, GranularityPolicy.fixed(2)));
+
+        assertEquals(Map.of("abc", 2L, "bcd", 1L), histogram.toMap());
+        assertEquals(List.of(Map.entry("abc", 2L), Map.entry("bcd", 1L)), histogram.top(5));
+    }
+
+    @Test
+    public void testMatchesSequentialCount() {
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 50_000; i++) {
+            text.append("wörd").append(i % 997).append(i % 3 == 0 ? ", " : " ");
+        }
+
+        final char[] characters = text.toString().toCharArray();
+
+        final TokenHistogram histogram = ForkJoinPool.commonPool()
+                .invoke(TokenFrequencyTask.words(characters, 0, characters.length, GranularityPolicy.fixed(1_000)));
+
+        final Map<String, Long> expected = new HashMap<>();
+
+        for (final String word : text.toString().toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!word.isEmpty()) {
+                expected.merge(word, 1L, Long::sum);
+            }
+        }
+
+        assertEquals(expected, histogram.toMap());
+    }
+}